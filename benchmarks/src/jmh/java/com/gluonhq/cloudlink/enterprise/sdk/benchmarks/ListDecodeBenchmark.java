@@ -0,0 +1,91 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.benchmarks;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.ObjectData;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.JsonCodec;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.ObjectDataSpliterator;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.FeignClient;
+import feign.Response;
+import feign.gson.GsonDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes a <code>getList</code> response of a growing number of elements, through the streaming JSON-P parser of
+ * the Java EE client and through the Feign {@link GsonDecoder} of the Spring client.
+ */
+@State(Scope.Thread)
+public class ListDecodeBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int size;
+
+    private byte[] json;
+    private JsonCodec codec;
+    private GsonDecoder gsonDecoder;
+    private Type listType;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        json = Payloads.list(size);
+        codec = new JsonCodec(null);
+        gsonDecoder = new GsonDecoder();
+        listType = FeignClient.class.getMethod("getList", String.class).getGenericReturnType();
+    }
+
+    @Benchmark
+    public List<ObjectData> jsonp() {
+        try (JsonParser parser = codec.createParser(new ByteArrayInputStream(json))) {
+            return StreamSupport.stream(new ObjectDataSpliterator(parser), false)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    public Object gson() throws IOException {
+        Response response = Response.create(200, "OK", Collections.emptyMap(), json);
+        return gsonDecoder.decode(response, listType);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.benchmarks;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.ObjectData;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.JsonCodec;
+import feign.Response;
+import feign.gson.GsonDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Decodes the <code>ObjectData</code> envelope of a single object response, through JSON-B as the Java EE client
+ * does and through the Feign {@link GsonDecoder} as the Spring client does.
+ */
+@State(Scope.Thread)
+public class ObjectDataDecodeBenchmark {
+
+    private byte[] json;
+    private JsonCodec codec;
+    private GsonDecoder gsonDecoder;
+
+    @Setup
+    public void setUp() {
+        json = Payloads.objectData("note-1");
+        codec = new JsonCodec(null);
+        gsonDecoder = new GsonDecoder();
+    }
+
+    @Benchmark
+    public ObjectData jsonb() {
+        return codec.fromJson(new ByteArrayInputStream(json), ObjectData.class);
+    }
+
+    @Benchmark
+    public Object gson() throws IOException {
+        Response response = Response.create(200, "OK", Collections.emptyMap(), json);
+        return gsonDecoder.decode(response, com.gluonhq.cloudlink.enterprise.sdk.spring.domain.ObjectData.class);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.benchmarks;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.ObjectData;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.JsonCodec;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PayloadConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Converts object payloads from and to JSON, for both a POJO and a String, which takes the <code>StringObject</code>
+ * path in both clients.
+ */
+@State(Scope.Thread)
+public class PayloadBenchmark {
+
+    private static final String TEXT = "Milk, eggs and a loaf of bread";
+
+    private JsonCodec codec;
+    private Note note;
+    private ObjectData javaeeNote;
+    private ObjectData javaeeString;
+    private com.gluonhq.cloudlink.enterprise.sdk.spring.domain.ObjectData springNote;
+    private com.gluonhq.cloudlink.enterprise.sdk.spring.domain.ObjectData springString;
+
+    @Setup
+    public void setUp() {
+        codec = new JsonCodec(null);
+        note = new Note("Groceries", TEXT, 1508140800000L, 3, false);
+
+        javaeeNote = new ObjectData();
+        javaeeNote.setPayload(Payloads.notePayload());
+        javaeeString = new ObjectData();
+        javaeeString.setPayload(Payloads.STRING_PAYLOAD);
+
+        springNote = new com.gluonhq.cloudlink.enterprise.sdk.spring.domain.ObjectData();
+        springNote.setPayload(Payloads.notePayload());
+        springString = new com.gluonhq.cloudlink.enterprise.sdk.spring.domain.ObjectData();
+        springString.setPayload(Payloads.STRING_PAYLOAD);
+    }
+
+    @Benchmark
+    public Note jsonbFromJson() {
+        return codec.fromPayload(javaeeNote, Note.class);
+    }
+
+    @Benchmark
+    public String jsonbFromJsonString() {
+        return codec.fromPayload(javaeeString, String.class);
+    }
+
+    @Benchmark
+    public String jsonbToJson() {
+        return codec.toPayload(note);
+    }
+
+    @Benchmark
+    public String jsonbToJsonString() {
+        return codec.toPayload(TEXT);
+    }
+
+    @Benchmark
+    public Note gsonFromJson() {
+        return PayloadConverter.fromJson(springNote, Note.class);
+    }
+
+    @Benchmark
+    public String gsonFromJsonString() {
+        return PayloadConverter.fromJson(springString, String.class);
+    }
+
+    @Benchmark
+    public String gsonToJson() {
+        return PayloadConverter.toJson(note);
+    }
+
+    @Benchmark
+    public String gsonToJsonString() {
+        return PayloadConverter.toJson(TEXT);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds the JSON documents that Gluon CloudLink returns, so that all benchmarks decode the same bytes.
+ */
+final class Payloads {
+
+    static final String NOTE_PAYLOAD = "{\\\"title\\\":\\\"Groceries\\\",\\\"text\\\":\\\"Milk, eggs and a loaf of bread\\\","
+            + "\\\"timestamp\\\":1508140800000,\\\"version\\\":3,\\\"done\\\":false}";
+
+    static final String STRING_PAYLOAD = "{\"v\":\"Milk, eggs and a loaf of bread\"}";
+
+    private Payloads() {
+    }
+
+    /**
+     * Returns the unescaped JSON payload of a note.
+     */
+    static String notePayload() {
+        return NOTE_PAYLOAD.replace("\\\"", "\"");
+    }
+
+    static byte[] objectData(String uid) {
+        return objectDataJson(uid).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] list(int size) {
+        StringBuilder json = new StringBuilder(size * 160 + 2).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(objectDataJson("note-" + i));
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String objectDataJson(String uid) {
+        return "{\"uid\":\"" + uid + "\",\"payload\":\"" + NOTE_PAYLOAD + "\"}";
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.benchmarks;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotificationTarget;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PushNotificationFormEncoder;
+import feign.RequestTemplate;
+import feign.codec.Encoder;
+import feign.form.FormEncoder;
+import org.glassfish.jersey.message.internal.FormProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.ws.rs.core.Form;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.LinkedHashMap;
+import java.util.Map;
+/**
+ * Encodes a push notification into an <code>application/x-www-form-urlencoded</code> request body with the form
+ * encoders of the Java EE and Spring clients, and, for comparison, through a JAX-RS {@link Form} and the Feign
+ * {@link FormEncoder} as the clients did before.
+ */
+@State(Scope.Thread)
+public class PushFormEncodingBenchmark {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private PushNotification javaeeNotification;
+    private com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification springNotification;
+    private FormProvider formProvider;
+    private FormEncoder formEncoder;
+    private ByteArrayOutputStream body;
+
+    @Setup
+    public void setUp() {
+        javaeeNotification = new PushNotification();
+        javaeeNotification.setTitle("Your order has shipped");
+        javaeeNotification.setBody("Order 1234 is on its way and will arrive tomorrow.");
+        javaeeNotification.setCustomIdentifier("order-1234-shipped");
+        javaeeNotification.getTarget().setType(PushNotificationTarget.Type.TOPIC);
+        javaeeNotification.getTarget().setTopic("orders");
+
+        springNotification = new com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification();
+        springNotification.setTitle(javaeeNotification.getTitle());
+        springNotification.setBody(javaeeNotification.getBody());
+        springNotification.setCustomIdentifier(javaeeNotification.getCustomIdentifier());
+        springNotification.getTarget().setType(com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotificationTarget.Type.TOPIC);
+        springNotification.getTarget().setTopic("orders");
+
+        formProvider = new FormProvider();
+        formEncoder = new FormEncoder();
+        body = new ByteArrayOutputStream(512);
+    }
+
+    @Benchmark
+    public byte[] javaeeFormEncoder() {
+        return com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.PushNotificationFormEncoder.encode(javaeeNotification);
+    }
+
+    @Benchmark
+    public byte[] springFormEncoder() {
+        return PushNotificationFormEncoder.encode(springNotification);
+    }
+
+    @Benchmark
+    public byte[] jaxrsForm() throws IOException {
+        Form form = new Form();
+        form.param("customIdentifier", javaeeNotification.getCustomIdentifier())
+                .param("title", javaeeNotification.getTitle())
+                .param("body", javaeeNotification.getBody())
+                .param("deliveryDate", "0")
+                .param("priority", javaeeNotification.getPriority().name())
+                .param("expirationType", javaeeNotification.getExpirationType().name())
+                .param("expirationAmount", String.valueOf(javaeeNotification.getExpirationAmount()))
+                .param("targetType", javaeeNotification.getTarget().getType().name())
+                .param("invisible", String.valueOf(javaeeNotification.isInvisible()))
+                .param("targetTopic", javaeeNotification.getTarget().getTopic());
+        body.reset();
+        formProvider.writeTo(form, Form.class, Form.class, NO_ANNOTATIONS, MediaType.APPLICATION_FORM_URLENCODED_TYPE,
+                new MultivaluedHashMap<>(), body);
+        return body.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] feignFormEncoder() {
+        // the form parameters as Feign collects them from the arguments of FeignClient.sendPushNotification
+        Map<String, Object> form = new LinkedHashMap<>();
+        putIfNotNull(form, "customIdentifier", springNotification.getCustomIdentifier());
+        putIfNotNull(form, "title", springNotification.getTitle());
+        putIfNotNull(form, "body", springNotification.getBody());
+        form.put("deliveryDate", springNotification.getDeliveryDate());
+        form.put("priority", springNotification.getPriority());
+        form.put("expirationType", springNotification.getExpirationType());
+        form.put("expirationAmount", springNotification.getExpirationAmount());
+        form.put("targetType", springNotification.getTarget().getType());
+        putIfNotNull(form, "targetTopic", springNotification.getTarget().getTopic());
+        putIfNotNull(form, "targetDeviceToken", springNotification.getTarget().getDeviceToken());
+        form.put("invisible", springNotification.isInvisible());
+
+        RequestTemplate template = new RequestTemplate();
+        template.header("Content-Type", MediaType.APPLICATION_FORM_URLENCODED);
+        formEncoder.encode(form, Encoder.MAP_STRING_WILDCARD, template);
+        return template.body();
+    }
+
+    private static void putIfNotNull(Map<String, Object> form, String name, Object value) {
+        if (value != null) {
+            form.put(name, value);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.emulator;
+
+import com.gluonhq.impl.cloudlink.enterprise.emulator.DataStore;
+import com.gluonhq.impl.cloudlink.enterprise.emulator.EmulatorRequestHandler;
+import com.gluonhq.impl.cloudlink.enterprise.emulator.RequestAccounting;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An in-memory emulator of the Gluon CloudLink enterprise API, for integration and load tests that must not depend on
+ * the real service. The emulator implements the push notification, object and list routes with the same semantics as
+ * Gluon CloudLink, and can add latency and inject faults per route. Point a CloudLinkClient at {@link #getUrl()} to
+ * use it:
+ *
+ * <pre>
+ * try (CloudLinkEmulator emulator = new CloudLinkEmulator().start()) {
+ *     CloudLinkClient client = new CloudLinkClient(new CloudLinkClientConfig(emulator.getUrl(), "serverKey"));
+ *     client.addObject("sample", "value");
+ *     assertEquals("value", emulator.getObject("sample"));
+ * }
+ * </pre>
+ */
+public class CloudLinkEmulator implements AutoCloseable {
+
+    private static final long START_TIMEOUT = 10;
+
+    private final EmulatorConfig config;
+    private final DataStore dataStore = new DataStore();
+    private final RequestAccounting accounting = new RequestAccounting();
+
+    private Vertx vertx;
+    private HttpServer httpServer;
+    private EmulatorRequestHandler requestHandler;
+
+    /**
+     * Construct a new CloudLinkEmulator with the default configuration.
+     */
+    public CloudLinkEmulator() {
+        this(new EmulatorConfig());
+    }
+
+    /**
+     * Construct a new CloudLinkEmulator with the specified configuration.
+     *
+     * @param config the configuration of the emulator
+     * @throws NullPointerException when <code>config</code> is <code>null</code>
+     */
+    public CloudLinkEmulator(EmulatorConfig config) {
+        this.config = Objects.requireNonNull(config, "config may not be null");
+    }
+
+    /**
+     * Starts the emulator and waits until it accepts connections.
+     *
+     * @return this emulator
+     * @throws IllegalStateException when the emulator is already started or when it fails to start
+     */
+    public CloudLinkEmulator start() {
+        if (vertx != null) {
+            throw new IllegalStateException("The emulator is already started.");
+        }
+
+        vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(config.getEventLoopPoolSize()));
+        requestHandler = new EmulatorRequestHandler(vertx, config, dataStore, accounting);
+
+        CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+        vertx.createHttpServer(new HttpServerOptions().setHost("localhost").setPort(config.getPort()))
+                .requestHandler(requestHandler)
+                .listen((AsyncResult<HttpServer> result) -> {
+                    if (result.succeeded()) {
+                        listening.complete(result.result());
+                    } else {
+                        listening.completeExceptionally(result.cause());
+                    }
+                });
+
+        try {
+            httpServer = listening.get(START_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new IllegalStateException("Interrupted while starting the emulator.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            close();
+            throw new IllegalStateException("Failed to start the emulator on port " + config.getPort() + ".",
+                    e instanceof ExecutionException ? e.getCause() : e);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the port that the emulator listens on.
+     *
+     * @return the port
+     * @throws IllegalStateException when the emulator is not started
+     */
+    public int getPort() {
+        if (httpServer == null) {
+            throw new IllegalStateException("The emulator is not started.");
+        }
+        return httpServer.actualPort();
+    }
+
+    /**
+     * Returns the url to configure as the hostname of a CloudLinkClient.
+     *
+     * @return the url of the emulator
+     * @throws IllegalStateException when the emulator is not started
+     */
+    public String getUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    /**
+     * Returns a snapshot of the requests that the emulator has handled.
+     *
+     * @return the request statistics
+     */
+    public RequestStatistics getStatistics() {
+        return accounting.snapshot();
+    }
+
+    /**
+     * Resets the request statistics.
+     */
+    public void resetStatistics() {
+        accounting.reset();
+    }
+
+    /**
+     * Returns the payload of an object.
+     *
+     * @param objectId the identifier of the object
+     * @return the JSON payload of the object, or <code>null</code> when the object does not exist
+     */
+    public String getObject(String objectId) {
+        return dataStore.getObject(objectId);
+    }
+
+    /**
+     * Sets the payload of an object, as if it was added through the API.
+     *
+     * @param objectId the identifier of the object
+     * @param payload the JSON payload of the object
+     */
+    public void putObject(String objectId, String payload) {
+        dataStore.putObject(objectId, payload);
+    }
+
+    /**
+     * Returns the objects in a list.
+     *
+     * @param listId the identifier of the list
+     * @return a map from object identifier to JSON payload, in the order in which the objects were added
+     */
+    public Map<String, String> getList(String listId) {
+        Map<String, String> list = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : dataStore.getList(listId)) {
+            list.put(entry.getKey(), entry.getValue());
+        }
+        return list;
+    }
+
+    /**
+     * Adds an object to a list or replaces its payload, as if it was added through the API.
+     *
+     * @param listId the identifier of the list
+     * @param objectId the identifier of the object
+     * @param payload the JSON payload of the object
+     */
+    public void putInList(String listId, String objectId, String payload) {
+        dataStore.putInList(listId, objectId, payload);
+    }
+
+    /**
+     * Returns the most recently received push notifications, up to
+     * {@link EmulatorConfig#getPushNotificationHistorySize()}.
+     *
+     * @return the form parameters of each push notification, oldest first
+     */
+    public List<Map<String, String>> getPushNotifications() {
+        if (requestHandler == null) {
+            return Collections.emptyList();
+        }
+        return requestHandler.getPushNotifications();
+    }
+
+    /**
+     * Removes all objects, lists and received push notifications.
+     */
+    public void clear() {
+        dataStore.clear();
+        if (requestHandler != null) {
+            requestHandler.clearPushNotifications();
+        }
+    }
+
+    /**
+     * Stops the emulator and waits until its resources are released.
+     */
+    @Override
+    public void close() {
+        if (vertx == null) {
+            return;
+        }
+
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        vertx.close(result -> closed.complete(null));
+        try {
+            closed.get(START_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // the event loops are daemon threads, so they do not prevent the JVM from exiting
+        }
+        vertx = null;
+        httpServer = null;
+    }
+}
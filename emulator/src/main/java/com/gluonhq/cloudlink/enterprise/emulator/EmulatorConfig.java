@@ -0,0 +1,211 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.emulator;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A configuration class for a {@link CloudLinkEmulator}. The latencies and faults of the routes may be changed while
+ * the emulator is running, and apply to the requests that arrive after the change.
+ */
+public class EmulatorConfig {
+
+    private int port = 0;
+    private String serverKey;
+    private int eventLoopPoolSize = 2 * Runtime.getRuntime().availableProcessors();
+    private int pushNotificationHistorySize = 1000;
+    private final Map<Route, LatencyDistribution> latencies = new ConcurrentHashMap<>();
+    private final Map<Route, Fault> faults = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the port that the emulator listens on.
+     *
+     * @return the port, or <code>0</code> when a free port is chosen
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Sets the port that the emulator listens on. The default value is <code>0</code>, which chooses a free port that
+     * can be retrieved with {@link CloudLinkEmulator#getPort()} once the emulator is started.
+     *
+     * @param port the port
+     */
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Returns the server key that requests must be authenticated with.
+     *
+     * @return the server key, or <code>null</code> when requests are not authenticated
+     */
+    public String getServerKey() {
+        return serverKey;
+    }
+
+    /**
+     * Sets the server key that requests must be authenticated with. Requests that are not authenticated with this
+     * server key are rejected with status <code>401</code>. The default value is <code>null</code>, which accepts all
+     * requests.
+     *
+     * @param serverKey the server key
+     */
+    public void setServerKey(String serverKey) {
+        this.serverKey = serverKey;
+    }
+
+    /**
+     * Returns the number of event loop threads that handle requests.
+     *
+     * @return the number of event loop threads
+     */
+    public int getEventLoopPoolSize() {
+        return eventLoopPoolSize;
+    }
+
+    /**
+     * Sets the number of event loop threads that handle requests. The default value is twice the number of available
+     * processors.
+     *
+     * @param eventLoopPoolSize the number of event loop threads
+     */
+    public void setEventLoopPoolSize(int eventLoopPoolSize) {
+        this.eventLoopPoolSize = eventLoopPoolSize;
+    }
+
+    /**
+     * Returns the number of received push notifications that are kept.
+     *
+     * @return the number of push notifications that are kept
+     */
+    public int getPushNotificationHistorySize() {
+        return pushNotificationHistorySize;
+    }
+
+    /**
+     * Sets the number of received push notifications that are kept, so that they can be inspected with
+     * {@link CloudLinkEmulator#getPushNotifications()}. Older push notifications are discarded, which keeps the memory
+     * usage constant during long load tests. The default value is <code>1000</code>.
+     *
+     * @param pushNotificationHistorySize the number of push notifications to keep
+     */
+    public void setPushNotificationHistorySize(int pushNotificationHistorySize) {
+        this.pushNotificationHistorySize = pushNotificationHistorySize;
+    }
+
+    /**
+     * Returns the latency distribution of a route.
+     *
+     * @param route the route
+     * @return the latency distribution, which is {@link LatencyDistribution#none()} when none was set
+     */
+    public LatencyDistribution getLatency(Route route) {
+        return latencies.getOrDefault(route, LatencyDistribution.none());
+    }
+
+    /**
+     * Sets the latency distribution of a route.
+     *
+     * @param route the route
+     * @param latency the latency distribution
+     * @throws NullPointerException when <code>route</code> or <code>latency</code> is <code>null</code>
+     */
+    public void setLatency(Route route, LatencyDistribution latency) {
+        latencies.put(Objects.requireNonNull(route, "route may not be null"),
+                Objects.requireNonNull(latency, "latency may not be null"));
+    }
+
+    /**
+     * Sets the latency distribution of all routes.
+     *
+     * @param latency the latency distribution
+     * @throws NullPointerException when <code>latency</code> is <code>null</code>
+     */
+    public void setLatency(LatencyDistribution latency) {
+        for (Route route : Route.values()) {
+            setLatency(route, latency);
+        }
+    }
+
+    /**
+     * Returns the fault that is injected into requests to a route.
+     *
+     * @param route the route
+     * @return the fault, or <code>null</code> when no fault is injected
+     */
+    public Fault getFault(Route route) {
+        return faults.get(route);
+    }
+
+    /**
+     * Sets the fault that is injected into requests to a route.
+     *
+     * @param route the route
+     * @param fault the fault, or <code>null</code> to not inject a fault
+     * @throws NullPointerException when <code>route</code> is <code>null</code>
+     */
+    public void setFault(Route route, Fault fault) {
+        Objects.requireNonNull(route, "route may not be null");
+        if (fault == null) {
+            faults.remove(route);
+        } else {
+            faults.put(route, fault);
+        }
+    }
+
+    /**
+     * Sets the fault that is injected into requests to all routes.
+     *
+     * @param fault the fault, or <code>null</code> to not inject a fault
+     */
+    public void setFault(Fault fault) {
+        for (Route route : Route.values()) {
+            setFault(route, fault);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EmulatorConfig{" +
+                "port=" + port +
+                ", serverKey='" + (serverKey == null ? null : "*****") + '\'' +
+                ", eventLoopPoolSize=" + eventLoopPoolSize +
+                ", pushNotificationHistorySize=" + pushNotificationHistorySize +
+                ", latencies=" + latencies +
+                ", faults=" + faults +
+                '}';
+    }
+}
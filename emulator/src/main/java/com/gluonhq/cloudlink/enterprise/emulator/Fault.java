@@ -0,0 +1,123 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.emulator;
+
+/**
+ * A fault that the {@link CloudLinkEmulator} injects into a fraction of the requests to a route, instead of handling
+ * them. Faults are decided before the latency of the route is applied.
+ */
+public final class Fault {
+
+    private final double rate;
+    private final int status;
+    private final long retryAfter;
+
+    private Fault(double rate, int status, long retryAfter) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("rate must be between 0 and 1");
+        }
+        this.rate = rate;
+        this.status = status;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns a fault that responds with the specified status code.
+     *
+     * @param rate the fraction of the requests that fail, between <code>0</code> and <code>1</code>
+     * @param status the http status code of the response
+     * @return a fault that responds with an error status code
+     */
+    public static Fault status(double rate, int status) {
+        return new Fault(rate, status, -1);
+    }
+
+    /**
+     * Returns a fault that responds with the specified status code and a <code>Retry-After</code> header, as Gluon
+     * CloudLink does when it throttles requests.
+     *
+     * @param rate the fraction of the requests that fail, between <code>0</code> and <code>1</code>
+     * @param status the http status code of the response
+     * @param retryAfter the value of the <code>Retry-After</code> header in seconds
+     * @return a fault that responds with an error status code and a retry delay
+     */
+    public static Fault status(double rate, int status, long retryAfter) {
+        return new Fault(rate, status, retryAfter);
+    }
+
+    /**
+     * Returns a fault that closes the connection without sending a response, which the client experiences as an
+     * I/O error.
+     *
+     * @param rate the fraction of the requests that fail, between <code>0</code> and <code>1</code>
+     * @return a fault that closes the connection
+     */
+    public static Fault disconnect(double rate) {
+        return new Fault(rate, 0, -1);
+    }
+
+    /**
+     * Returns the fraction of the requests that fail.
+     *
+     * @return the failure rate, between <code>0</code> and <code>1</code>
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Returns the http status code of the response.
+     *
+     * @return the status code, or <code>0</code> when the connection is closed instead
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the value of the <code>Retry-After</code> header.
+     *
+     * @return the retry delay in seconds, or <code>-1</code> when no header is sent
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public String toString() {
+        return "Fault{" +
+                "rate=" + rate +
+                ", status=" + status +
+                ", retryAfter=" + retryAfter +
+                '}';
+    }
+}
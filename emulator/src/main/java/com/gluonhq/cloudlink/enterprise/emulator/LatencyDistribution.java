@@ -0,0 +1,106 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.emulator;
+
+import java.util.Random;
+
+/**
+ * A distribution of the time that the {@link CloudLinkEmulator} waits before it responds to a request. The delay is
+ * scheduled on a timer, so that a slow response does not hold up other requests.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Returns the delay for the next response.
+     *
+     * @param random the source of randomness to use
+     * @return the delay in milliseconds, where <code>0</code> or less means that the response is sent immediately
+     */
+    long nextDelay(Random random);
+
+    /**
+     * Returns a distribution without any delay.
+     *
+     * @return a distribution that always returns <code>0</code>
+     */
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    /**
+     * Returns a distribution with a fixed delay.
+     *
+     * @param delay the delay in milliseconds
+     * @return a distribution that always returns <code>delay</code>
+     */
+    static LatencyDistribution fixed(long delay) {
+        return random -> delay;
+    }
+
+    /**
+     * Returns a distribution with a delay that is uniformly distributed between a minimum and a maximum.
+     *
+     * @param min the minimum delay in milliseconds
+     * @param max the maximum delay in milliseconds
+     * @return a uniform distribution
+     * @throws IllegalArgumentException when <code>max</code> is less than <code>min</code>
+     */
+    static LatencyDistribution uniform(long min, long max) {
+        if (max < min) {
+            throw new IllegalArgumentException("max may not be less than min");
+        }
+        return random -> min + (long) (random.nextDouble() * (max - min + 1));
+    }
+
+    /**
+     * Returns a log-normal distribution with the specified median and 99th percentile. A log-normal distribution
+     * has the long tail that is typical for the latency of a remote service.
+     *
+     * @param median the median delay in milliseconds
+     * @param p99 the 99th percentile of the delay in milliseconds
+     * @return a log-normal distribution
+     * @throws IllegalArgumentException when <code>median</code> is not greater than <code>0</code>, or when
+     * <code>p99</code> is less than <code>median</code>
+     */
+    static LatencyDistribution logNormal(double median, double p99) {
+        if (median <= 0) {
+            throw new IllegalArgumentException("median must be greater than 0");
+        } else if (p99 < median) {
+            throw new IllegalArgumentException("p99 may not be less than median");
+        }
+        double mu = Math.log(median);
+        // 2.326 is the 99th percentile of the standard normal distribution
+        double sigma = (Math.log(p99) - mu) / 2.326;
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.emulator;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A snapshot of the requests that a {@link CloudLinkEmulator} has handled.
+ */
+public class RequestStatistics {
+
+    private final long requestCount;
+    private final Map<Route, Long> requestCounts;
+    private final Map<Route, Map<Integer, Long>> statusCounts;
+    private final long faultCount;
+    private final long unauthorizedCount;
+    private final long bytesReceived;
+    private final long bytesSent;
+
+    public RequestStatistics(long requestCount, Map<Route, Long> requestCounts,
+            Map<Route, Map<Integer, Long>> statusCounts, long faultCount, long unauthorizedCount,
+            long bytesReceived, long bytesSent) {
+        this.requestCount = requestCount;
+        this.requestCounts = Collections.unmodifiableMap(requestCounts);
+        this.statusCounts = Collections.unmodifiableMap(statusCounts);
+        this.faultCount = faultCount;
+        this.unauthorizedCount = unauthorizedCount;
+        this.bytesReceived = bytesReceived;
+        this.bytesSent = bytesSent;
+    }
+
+    /**
+     * Returns the number of requests, including the requests that did not match a route.
+     *
+     * @return the number of requests
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns the number of requests to a route.
+     *
+     * @param route the route
+     * @return the number of requests to the route
+     */
+    public long getRequestCount(Route route) {
+        return requestCounts.getOrDefault(route, 0L);
+    }
+
+    /**
+     * Returns the number of responses to requests to a route, by status code. Requests of which the connection was
+     * closed by a fault are counted with status code <code>0</code>.
+     *
+     * @param route the route
+     * @return an unmodifiable map from status code to the number of responses
+     */
+    public Map<Integer, Long> getStatusCounts(Route route) {
+        return statusCounts.getOrDefault(route, Collections.emptyMap());
+    }
+
+    /**
+     * Returns the number of requests that failed because of an injected fault.
+     *
+     * @return the number of injected faults
+     */
+    public long getFaultCount() {
+        return faultCount;
+    }
+
+    /**
+     * Returns the number of requests that were rejected because they were not authenticated with the server key.
+     *
+     * @return the number of unauthorized requests
+     */
+    public long getUnauthorizedCount() {
+        return unauthorizedCount;
+    }
+
+    /**
+     * Returns the number of bytes in the bodies of all requests.
+     *
+     * @return the number of bytes received
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Returns the number of bytes in the bodies of all responses.
+     *
+     * @return the number of bytes sent
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestStatistics{" +
+                "requestCount=" + requestCount +
+                ", requestCounts=" + requestCounts +
+                ", statusCounts=" + statusCounts +
+                ", faultCount=" + faultCount +
+                ", unauthorizedCount=" + unauthorizedCount +
+                ", bytesReceived=" + bytesReceived +
+                ", bytesSent=" + bytesSent +
+                '}';
+    }
+}
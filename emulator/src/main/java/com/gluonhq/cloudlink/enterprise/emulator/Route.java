@@ -0,0 +1,83 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.emulator;
+
+/**
+ * The routes of the Gluon CloudLink enterprise API that are implemented by the {@link CloudLinkEmulator}.
+ */
+public enum Route {
+
+    /**
+     * <code>POST /3/push/enterprise/notification</code>
+     */
+    PUSH,
+
+    /**
+     * <code>GET /3/data/enterprise/object/{objectId}</code>
+     */
+    GET_OBJECT,
+
+    /**
+     * <code>POST /3/data/enterprise/object/{objectId}/add</code>
+     */
+    ADD_OBJECT,
+
+    /**
+     * <code>POST /3/data/enterprise/object/{objectId}/update</code>
+     */
+    UPDATE_OBJECT,
+
+    /**
+     * <code>POST /3/data/enterprise/object/{objectId}/remove</code>
+     */
+    REMOVE_OBJECT,
+
+    /**
+     * <code>GET /3/data/enterprise/list/{listId}</code>
+     */
+    GET_LIST,
+
+    /**
+     * <code>POST /3/data/enterprise/list/{listId}/add/{objectId}</code>
+     */
+    ADD_TO_LIST,
+
+    /**
+     * <code>POST /3/data/enterprise/list/{listId}/update/{objectId}</code>
+     */
+    UPDATE_IN_LIST,
+
+    /**
+     * <code>POST /3/data/enterprise/list/{listId}/remove/{objectId}</code>
+     */
+    REMOVE_FROM_LIST
+}
@@ -0,0 +1,115 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.emulator;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The objects and lists of the emulator. Lists keep their insertion order, which is tracked with a sequence number
+ * so that the list entries can live in a concurrent map.
+ */
+public class DataStore {
+
+    private final Map<String, String> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ListEntry>> lists = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public String getObject(String objectId) {
+        return objects.get(objectId);
+    }
+
+    public void putObject(String objectId, String payload) {
+        objects.put(objectId, payload);
+    }
+
+    public void removeObject(String objectId) {
+        objects.remove(objectId);
+    }
+
+    /**
+     * Returns the entries of a list in insertion order, as pairs of object identifier and payload.
+     */
+    public List<Map.Entry<String, String>> getList(String listId) {
+        Map<String, ListEntry> list = lists.get(listId);
+        if (list == null) {
+            return Collections.emptyList();
+        }
+
+        List<ListEntry> entries = new ArrayList<>(list.values());
+        entries.sort((e1, e2) -> Long.compare(e1.sequence, e2.sequence));
+        List<Map.Entry<String, String>> result = new ArrayList<>(entries.size());
+        for (ListEntry entry : entries) {
+            result.add(new AbstractMap.SimpleImmutableEntry<>(entry.objectId, entry.payload));
+        }
+        return result;
+    }
+
+    /**
+     * Adds an object to a list, or replaces its payload while keeping its position when it is already in the list.
+     */
+    public void putInList(String listId, String objectId, String payload) {
+        lists.computeIfAbsent(listId, id -> new ConcurrentHashMap<>())
+                .compute(objectId, (id, entry) -> new ListEntry(objectId, payload,
+                        entry == null ? sequence.incrementAndGet() : entry.sequence));
+    }
+
+    public void removeFromList(String listId, String objectId) {
+        Map<String, ListEntry> list = lists.get(listId);
+        if (list != null) {
+            list.remove(objectId);
+        }
+    }
+
+    public void clear() {
+        objects.clear();
+        lists.clear();
+    }
+
+    private static class ListEntry {
+
+        private final String objectId;
+        private final String payload;
+        private final long sequence;
+
+        private ListEntry(String objectId, String payload, long sequence) {
+            this.objectId = objectId;
+            this.payload = payload;
+            this.sequence = sequence;
+        }
+    }
+}
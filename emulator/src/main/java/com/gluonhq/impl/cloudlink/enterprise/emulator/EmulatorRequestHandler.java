@@ -0,0 +1,306 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.emulator;
+
+import com.gluonhq.cloudlink.enterprise.emulator.EmulatorConfig;
+import com.gluonhq.cloudlink.enterprise.emulator.Fault;
+import com.gluonhq.cloudlink.enterprise.emulator.Route;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implements the routes of the Gluon CloudLink enterprise API on top of a {@link DataStore}.
+ */
+public class EmulatorRequestHandler implements Handler<HttpServerRequest> {
+
+    private static final String PUSH_PATH = "/3/push/enterprise/notification";
+    private static final String OBJECT_PATH = "/3/data/enterprise/object/";
+    private static final String LIST_PATH = "/3/data/enterprise/list/";
+
+    private static final String EMPTY_OBJECT = "{}";
+
+    private final Vertx vertx;
+    private final EmulatorConfig config;
+    private final DataStore dataStore;
+    private final RequestAccounting accounting;
+    private final Deque<Map<String, String>> pushNotifications = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pushNotificationCount = new AtomicInteger();
+
+    public EmulatorRequestHandler(Vertx vertx, EmulatorConfig config, DataStore dataStore,
+            RequestAccounting accounting) {
+        this.vertx = vertx;
+        this.config = config;
+        this.dataStore = dataStore;
+        this.accounting = accounting;
+    }
+
+    @Override
+    public void handle(HttpServerRequest request) {
+        request.bodyHandler(body -> handle(request, body));
+    }
+
+    private void handle(HttpServerRequest request, Buffer body) {
+        RouteMatch match = match(request.method(), request.path());
+        Route route = match == null ? null : match.route;
+        accounting.requestReceived(route, body.length());
+
+        if (match == null) {
+            respond(request, null, 404, "Not Found: " + request.method() + " " + request.path(), -1);
+            return;
+        }
+
+        String serverKey = config.getServerKey();
+        if (serverKey != null && !("Gluon " + serverKey).equals(request.getHeader("Authorization"))) {
+            accounting.unauthorized();
+            respond(request, route, 401, "Unauthorized", -1);
+            return;
+        }
+
+        long delay = config.getLatency(route).nextDelay(ThreadLocalRandom.current());
+        Fault fault = config.getFault(route);
+        if (fault != null && ThreadLocalRandom.current().nextDouble() < fault.getRate()) {
+            accounting.faultInjected();
+            schedule(delay, () -> {
+                if (fault.getStatus() == 0) {
+                    accounting.responseSent(route, 0, 0);
+                    request.connection().close();
+                } else {
+                    respond(request, route, fault.getStatus(), "Injected fault", fault.getRetryAfter());
+                }
+            });
+            return;
+        }
+
+        String response = execute(match, body);
+        schedule(delay, () -> respond(request, route, 200, response, -1));
+    }
+
+    private String execute(RouteMatch match, Buffer body) {
+        switch (match.route) {
+            case PUSH:
+                return push(body.toString(StandardCharsets.UTF_8));
+            case GET_OBJECT:
+                return objectData(match.objectId, dataStore.getObject(match.objectId));
+            case ADD_OBJECT:
+            case UPDATE_OBJECT:
+                dataStore.putObject(match.objectId, body.toString(StandardCharsets.UTF_8));
+                return objectData(match.objectId, dataStore.getObject(match.objectId));
+            case REMOVE_OBJECT:
+                dataStore.removeObject(match.objectId);
+                return EMPTY_OBJECT;
+            case GET_LIST:
+                JsonArray list = new JsonArray();
+                for (Map.Entry<String, String> entry : dataStore.getList(match.listId)) {
+                    list.add(new JsonObject().put("uid", entry.getKey()).put("payload", entry.getValue()));
+                }
+                return list.encode();
+            case ADD_TO_LIST:
+            case UPDATE_IN_LIST:
+                String payload = body.toString(StandardCharsets.UTF_8);
+                dataStore.putInList(match.listId, match.objectId, payload);
+                return objectData(match.objectId, payload);
+            case REMOVE_FROM_LIST:
+                dataStore.removeFromList(match.listId, match.objectId);
+                return EMPTY_OBJECT;
+            default:
+                throw new IllegalStateException("Unknown route: " + match.route);
+        }
+    }
+
+    private String push(String body) {
+        Map<String, String> form = new LinkedHashMap<>();
+        new QueryStringDecoder(body, StandardCharsets.UTF_8, false).parameters()
+                .forEach((name, values) -> form.put(name, values.isEmpty() ? null : values.get(0)));
+        recordPushNotification(form);
+
+        JsonObject target = new JsonObject()
+                .put("type", form.get("targetType"))
+                .put("topic", form.get("targetTopic"))
+                .put("deviceToken", form.get("targetDeviceToken"));
+        return new JsonObject()
+                .put("identifier", UUID.randomUUID().toString())
+                .put("creationDate", System.currentTimeMillis())
+                .put("customIdentifier", form.getOrDefault("customIdentifier", ""))
+                .put("title", form.getOrDefault("title", ""))
+                .put("body", form.getOrDefault("body", ""))
+                .put("deliveryDate", parseLong(form.get("deliveryDate")))
+                .put("priority", form.get("priority"))
+                .put("expirationType", form.get("expirationType"))
+                .put("expirationAmount", parseLong(form.get("expirationAmount")))
+                .put("target", target)
+                .put("invisible", Boolean.parseBoolean(form.get("invisible")))
+                .encode();
+    }
+
+    private void recordPushNotification(Map<String, String> form) {
+        int historySize = config.getPushNotificationHistorySize();
+        if (historySize <= 0) {
+            return;
+        }
+
+        pushNotifications.addLast(Collections.unmodifiableMap(form));
+        if (pushNotificationCount.incrementAndGet() > historySize && pushNotifications.pollFirst() != null) {
+            pushNotificationCount.decrementAndGet();
+        }
+    }
+
+    public List<Map<String, String>> getPushNotifications() {
+        return new ArrayList<>(pushNotifications);
+    }
+
+    public void clearPushNotifications() {
+        while (pushNotifications.pollFirst() != null) {
+            pushNotificationCount.decrementAndGet();
+        }
+    }
+
+    private static String objectData(String objectId, String payload) {
+        return payload == null ? EMPTY_OBJECT : new JsonObject().put("uid", objectId).put("payload", payload).encode();
+    }
+
+    private static long parseLong(String value) {
+        try {
+            return value == null ? 0 : Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void schedule(long delay, Runnable action) {
+        if (delay > 0) {
+            vertx.setTimer(delay, id -> action.run());
+        } else {
+            action.run();
+        }
+    }
+
+    private void respond(HttpServerRequest request, Route route, int status, String body, long retryAfter) {
+        Buffer buffer = Buffer.buffer(body, "UTF-8");
+        HttpServerResponse response = request.response().setStatusCode(status);
+        if (status == 200) {
+            response.putHeader("Content-Type", "application/json; charset=UTF-8");
+        } else {
+            response.putHeader("Content-Type", "text/plain; charset=UTF-8");
+        }
+        if (retryAfter >= 0) {
+            response.putHeader("Retry-After", Long.toString(retryAfter));
+        }
+        accounting.responseSent(route, status, buffer.length());
+        response.end(buffer);
+    }
+
+    /**
+     * Matches the method and path of a request with a route, or returns <code>null</code> when there is no match.
+     */
+    static RouteMatch match(HttpMethod method, String path) {
+        if (path.equals(PUSH_PATH)) {
+            return method == HttpMethod.POST ? new RouteMatch(Route.PUSH, null, null) : null;
+        }
+
+        if (path.startsWith(OBJECT_PATH)) {
+            String[] segments = segments(path.substring(OBJECT_PATH.length()));
+            if (segments.length == 1 && method == HttpMethod.GET) {
+                return new RouteMatch(Route.GET_OBJECT, null, segments[0]);
+            } else if (segments.length == 2 && method == HttpMethod.POST) {
+                switch (segments[1]) {
+                    case "add":
+                        return new RouteMatch(Route.ADD_OBJECT, null, segments[0]);
+                    case "update":
+                        return new RouteMatch(Route.UPDATE_OBJECT, null, segments[0]);
+                    case "remove":
+                        return new RouteMatch(Route.REMOVE_OBJECT, null, segments[0]);
+                }
+            }
+            return null;
+        }
+
+        if (path.startsWith(LIST_PATH)) {
+            String[] segments = segments(path.substring(LIST_PATH.length()));
+            if (segments.length == 1 && method == HttpMethod.GET) {
+                return new RouteMatch(Route.GET_LIST, segments[0], null);
+            } else if (segments.length == 3 && method == HttpMethod.POST) {
+                switch (segments[1]) {
+                    case "add":
+                        return new RouteMatch(Route.ADD_TO_LIST, segments[0], segments[2]);
+                    case "update":
+                        return new RouteMatch(Route.UPDATE_IN_LIST, segments[0], segments[2]);
+                    case "remove":
+                        return new RouteMatch(Route.REMOVE_FROM_LIST, segments[0], segments[2]);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String[] segments(String path) {
+        String[] segments = path.split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].isEmpty()) {
+                return new String[0];
+            }
+            segments[i] = QueryStringDecoder.decodeComponent(segments[i], StandardCharsets.UTF_8);
+        }
+        return segments;
+    }
+
+    static class RouteMatch {
+
+        final Route route;
+        final String listId;
+        final String objectId;
+
+        RouteMatch(Route route, String listId, String objectId) {
+            this.route = route;
+            this.listId = listId;
+            this.objectId = objectId;
+        }
+    }
+}
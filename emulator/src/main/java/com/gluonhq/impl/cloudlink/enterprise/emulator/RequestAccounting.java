@@ -0,0 +1,119 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.emulator;
+
+import com.gluonhq.cloudlink.enterprise.emulator.RequestStatistics;
+import com.gluonhq.cloudlink.enterprise.emulator.Route;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the requests and responses of the emulator. The counters are striped, so that the event loops do not contend
+ * on them under load.
+ */
+public class RequestAccounting {
+
+    private static final Route[] ROUTES = Route.values();
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder[] requestCounts = new LongAdder[ROUTES.length];
+    private final ConcurrentMap<Integer, LongAdder>[] statusCounts;
+    private final LongAdder faultCount = new LongAdder();
+    private final LongAdder unauthorizedCount = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public RequestAccounting() {
+        statusCounts = new ConcurrentMap[ROUTES.length];
+        for (int i = 0; i < ROUTES.length; i++) {
+            requestCounts[i] = new LongAdder();
+            statusCounts[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Records a request, of which the route is <code>null</code> when it did not match any route.
+     */
+    public void requestReceived(Route route, long bytes) {
+        requestCount.increment();
+        bytesReceived.add(bytes);
+        if (route != null) {
+            requestCounts[route.ordinal()].increment();
+        }
+    }
+
+    public void responseSent(Route route, int status, long bytes) {
+        bytesSent.add(bytes);
+        if (route != null) {
+            statusCounts[route.ordinal()].computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+    }
+
+    public void faultInjected() {
+        faultCount.increment();
+    }
+
+    public void unauthorized() {
+        unauthorizedCount.increment();
+    }
+
+    public RequestStatistics snapshot() {
+        Map<Route, Long> routeCounts = new EnumMap<>(Route.class);
+        Map<Route, Map<Integer, Long>> routeStatusCounts = new EnumMap<>(Route.class);
+        for (Route route : ROUTES) {
+            routeCounts.put(route, requestCounts[route.ordinal()].sum());
+            Map<Integer, Long> counts = new TreeMap<>();
+            statusCounts[route.ordinal()].forEach((status, count) -> counts.put(status, count.sum()));
+            routeStatusCounts.put(route, counts);
+        }
+        return new RequestStatistics(requestCount.sum(), routeCounts, routeStatusCounts, faultCount.sum(),
+                unauthorizedCount.sum(), bytesReceived.sum(), bytesSent.sum());
+    }
+
+    public void reset() {
+        requestCount.reset();
+        faultCount.reset();
+        unauthorizedCount.reset();
+        bytesReceived.reset();
+        bytesSent.reset();
+        for (int i = 0; i < ROUTES.length; i++) {
+            requestCounts[i].reset();
+            statusCounts[i].clear();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.emulator;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class EmulatorTest {
+
+    @Test
+    public void objectsCanBeAddedUpdatedAndRemoved() throws IOException {
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator().start()) {
+            assertEquals("{}", request(emulator, "GET", "/3/data/enterprise/object/sample", null).body);
+
+            Response added = request(emulator, "POST", "/3/data/enterprise/object/sample/add", "{\"v\":\"value\"}");
+            assertEquals(200, added.status);
+            assertEquals("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}", added.body);
+            assertEquals("{\"v\":\"value\"}", emulator.getObject("sample"));
+
+            request(emulator, "POST", "/3/data/enterprise/object/sample/update", "{\"v\":\"updated\"}");
+            assertEquals("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"updated\\\"}\"}",
+                    request(emulator, "GET", "/3/data/enterprise/object/sample", null).body);
+
+            assertEquals(200, request(emulator, "POST", "/3/data/enterprise/object/sample/remove", null).status);
+            assertNull(emulator.getObject("sample"));
+            assertEquals("{}", request(emulator, "GET", "/3/data/enterprise/object/sample", null).body);
+        }
+    }
+
+    @Test
+    public void listsKeepTheirInsertionOrder() throws IOException {
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator().start()) {
+            assertEquals("[]", request(emulator, "GET", "/3/data/enterprise/list/sample", null).body);
+
+            request(emulator, "POST", "/3/data/enterprise/list/sample/add/b", "{\"v\":\"b\"}");
+            request(emulator, "POST", "/3/data/enterprise/list/sample/add/a", "{\"v\":\"a\"}");
+            request(emulator, "POST", "/3/data/enterprise/list/sample/add/c", "{\"v\":\"c\"}");
+            request(emulator, "POST", "/3/data/enterprise/list/sample/update/b", "{\"v\":\"B\"}");
+            request(emulator, "POST", "/3/data/enterprise/list/sample/remove/a", null);
+
+            Map<String, String> list = emulator.getList("sample");
+            assertArrayEquals(new String[] {"b", "c"}, list.keySet().toArray());
+            assertEquals("{\"v\":\"B\"}", list.get("b"));
+            assertEquals("[{\"uid\":\"b\",\"payload\":\"{\\\"v\\\":\\\"B\\\"}\"},"
+                            + "{\"uid\":\"c\",\"payload\":\"{\\\"v\\\":\\\"c\\\"}\"}]",
+                    request(emulator, "GET", "/3/data/enterprise/list/sample", null).body);
+        }
+    }
+
+    @Test
+    public void pushNotificationsAreRecorded() throws IOException {
+        EmulatorConfig config = new EmulatorConfig();
+        config.setPushNotificationHistorySize(2);
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator(config).start()) {
+            for (int i = 0; i < 3; i++) {
+                Response response = request(emulator, "POST", "/3/push/enterprise/notification",
+                        "title=Title+" + i + "&body=Body&targetType=ALL_DEVICES&expirationAmount=4&invisible=false");
+                assertEquals(200, response.status);
+                assertTrue(response.body, response.body.contains("\"identifier\":"));
+                assertTrue(response.body, response.body.contains("\"title\":\"Title " + i + "\""));
+            }
+
+            assertEquals(2, emulator.getPushNotifications().size());
+            assertEquals("Title 1", emulator.getPushNotifications().get(0).get("title"));
+            assertEquals("Title 2", emulator.getPushNotifications().get(1).get("title"));
+        }
+    }
+
+    @Test
+    public void requestsMustBeAuthenticated() throws IOException {
+        EmulatorConfig config = new EmulatorConfig();
+        config.setServerKey("serverKey");
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator(config).start()) {
+            assertEquals(401, request(emulator, "GET", "/3/data/enterprise/object/sample", null, "Gluon other").status);
+            assertEquals(200, request(emulator, "GET", "/3/data/enterprise/object/sample", null, "Gluon serverKey").status);
+            assertEquals(1, emulator.getStatistics().getUnauthorizedCount());
+        }
+    }
+
+    @Test
+    public void faultsAreInjected() throws IOException {
+        EmulatorConfig config = new EmulatorConfig();
+        config.setFault(Route.GET_OBJECT, Fault.status(1, 429, 3));
+        config.setFault(Route.GET_LIST, Fault.disconnect(1));
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator(config).start()) {
+            Response throttled = request(emulator, "GET", "/3/data/enterprise/object/sample", null);
+            assertEquals(429, throttled.status);
+            assertEquals("3", throttled.retryAfter);
+
+            try {
+                request(emulator, "GET", "/3/data/enterprise/list/sample", null);
+                fail("IOException must be thrown.");
+            } catch (IOException e) {
+                // expected
+            }
+
+            config.setFault(Route.GET_OBJECT, null);
+            assertEquals(200, request(emulator, "GET", "/3/data/enterprise/object/sample", null).status);
+            assertEquals(Long.valueOf(1), emulator.getStatistics().getStatusCounts(Route.GET_OBJECT).get(429));
+            // HttpURLConnection may silently retry the request of which the connection was closed
+            assertTrue(emulator.getStatistics().getFaultCount() >= 2);
+        }
+    }
+
+    @Test
+    public void latencyIsAdded() throws IOException {
+        EmulatorConfig config = new EmulatorConfig();
+        config.setLatency(Route.GET_OBJECT, LatencyDistribution.fixed(100));
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator(config).start()) {
+            long start = System.nanoTime();
+            request(emulator, "GET", "/3/data/enterprise/list/sample", null);
+            long listTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            request(emulator, "GET", "/3/data/enterprise/object/sample", null);
+            long objectTime = System.nanoTime() - start;
+
+            assertTrue(listTime < 100_000_000L);
+            assertTrue(objectTime >= 100_000_000L);
+        }
+    }
+
+    @Test
+    public void latencyDistributionsStayWithinTheirBounds() {
+        Random random = new Random(42);
+        LatencyDistribution uniform = LatencyDistribution.uniform(10, 20);
+        LatencyDistribution logNormal = LatencyDistribution.logNormal(10, 100);
+        int aboveP99 = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long delay = uniform.nextDelay(random);
+            assertTrue(delay >= 10 && delay <= 20);
+            if (logNormal.nextDelay(random) > 100) {
+                aboveP99++;
+            }
+        }
+        assertTrue("aboveP99 = " + aboveP99, aboveP99 > 50 && aboveP99 < 200);
+    }
+
+    @Test
+    public void requestsAreAccounted() throws IOException {
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator().start()) {
+            request(emulator, "POST", "/3/data/enterprise/object/sample/add", "{\"v\":\"value\"}");
+            request(emulator, "GET", "/3/data/enterprise/object/sample", null);
+            request(emulator, "GET", "/3/data/enterprise/object/sample", null);
+            assertEquals(404, request(emulator, "GET", "/3/unknown", null).status);
+
+            RequestStatistics statistics = emulator.getStatistics();
+            assertEquals(4, statistics.getRequestCount());
+            assertEquals(1, statistics.getRequestCount(Route.ADD_OBJECT));
+            assertEquals(2, statistics.getRequestCount(Route.GET_OBJECT));
+            assertEquals(Long.valueOf(2), statistics.getStatusCounts(Route.GET_OBJECT).get(200));
+            assertEquals(13, statistics.getBytesReceived());
+            assertTrue(statistics.getBytesSent() > 0);
+
+            emulator.resetStatistics();
+            assertEquals(0, emulator.getStatistics().getRequestCount());
+        }
+    }
+
+    private Response request(CloudLinkEmulator emulator, String method, String path, String body) throws IOException {
+        return request(emulator, method, path, body, null);
+    }
+
+    private Response request(CloudLinkEmulator emulator, String method, String path, String body, String authorization)
+            throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(emulator.getUrl() + path).openConnection();
+        connection.setRequestMethod(method);
+        if (authorization != null) {
+            connection.setRequestProperty("Authorization", authorization);
+        }
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        Response response = new Response();
+        response.status = connection.getResponseCode();
+        response.retryAfter = connection.getHeaderField("Retry-After");
+        try (InputStream in = response.status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while (in != null && (read = in.read(buffer)) >= 0) {
+                bytes.write(buffer, 0, read);
+            }
+            response.body = new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+        return response;
+    }
+
+    private static class Response {
+        int status;
+        String retryAfter;
+        String body;
+    }
+}
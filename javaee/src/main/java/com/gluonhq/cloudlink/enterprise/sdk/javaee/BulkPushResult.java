@@ -0,0 +1,163 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of sending a collection of push notifications in bulk. The result contains one {@link Item} for each
+ * push notification that was passed in, in the same order. A failure to send one push notification does not prevent
+ * the others from being sent.
+ */
+public class BulkPushResult {
+
+    private final List<Item> items;
+
+    BulkPushResult(List<Item> items) {
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Returns the outcome for each push notification, in the order in which the push notifications were provided.
+     *
+     * @return the outcome for each push notification
+     */
+    public List<Item> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the outcomes of the push notifications that could not be sent.
+     *
+     * @return the outcomes of the push notifications that failed
+     */
+    public List<Item> getFailures() {
+        return items.stream().filter(item -> !item.isSuccess()).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of push notifications that were sent successfully.
+     *
+     * @return the number of push notifications that were sent
+     */
+    public int getSuccessCount() {
+        return (int) items.stream().filter(Item::isSuccess).count();
+    }
+
+    /**
+     * Returns the number of push notifications that could not be sent.
+     *
+     * @return the number of push notifications that failed
+     */
+    public int getFailureCount() {
+        return items.size() - getSuccessCount();
+    }
+
+    /**
+     * Returns whether at least one of the push notifications could not be sent.
+     *
+     * @return <code>true</code> if at least one push notification failed, <code>false</code> otherwise
+     */
+    public boolean hasFailures() {
+        return getFailureCount() > 0;
+    }
+
+    /**
+     * The outcome of sending a single push notification as part of a bulk request.
+     */
+    public static class Item {
+
+        private final int index;
+        private final PushNotification notification;
+        private final PushNotification result;
+        private final Throwable failure;
+
+        Item(int index, PushNotification notification, PushNotification result, Throwable failure) {
+            this.index = index;
+            this.notification = notification;
+            this.result = result;
+            this.failure = failure;
+        }
+
+        /**
+         * Returns the position of the push notification in the provided collection.
+         *
+         * @return the index of the push notification
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the push notification as it was provided.
+         *
+         * @return the provided push notification
+         */
+        public PushNotification getNotification() {
+            return notification;
+        }
+
+        /**
+         * Returns the push notification that was sent, with the identifier and creation date set, or
+         * <code>null</code> if the push notification could not be sent.
+         *
+         * @return the push notification that was sent or <code>null</code>
+         */
+        public PushNotification getResult() {
+            return result;
+        }
+
+        /**
+         * Returns the reason why the push notification could not be sent, or <code>null</code> if it was sent
+         * successfully. This is typically a {@link CloudLinkClientException} or a
+         * {@link javax.validation.ConstraintViolationException}.
+         *
+         * @return the failure or <code>null</code>
+         */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        /**
+         * Returns whether the push notification was sent successfully.
+         *
+         * @return <code>true</code> if the push notification was sent, <code>false</code> otherwise
+         */
+        public boolean isSuccess() {
+            return failure == null;
+        }
+    }
+}
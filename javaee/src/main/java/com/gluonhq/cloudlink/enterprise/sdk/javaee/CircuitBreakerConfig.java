@@ -0,0 +1,206 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+/**
+ * A configuration class for the circuit breakers of a {@link CloudLinkClient}. When set on the
+ * {@link CloudLinkClientConfig}, each {@link EndpointFamily} is guarded by its own circuit breaker. The outcome of the
+ * most recent requests is kept in a sliding window. When the rate of failed or slow requests in that window exceeds
+ * its threshold, the circuit breaker opens and requests fail immediately with a {@link CloudLinkClientException} with
+ * status {@link CloudLinkClientException#CIRCUIT_OPEN}. After a wait duration, the circuit breaker becomes half open
+ * and lets a limited number of probe requests through: when they all succeed the circuit breaker closes again,
+ * otherwise it opens again.
+ *
+ * <p>A request is considered failed when it results in an I/O error or in a response with a 5xx status code.</p>
+ */
+public class CircuitBreakerConfig {
+
+    private int slidingWindowSize = 100;
+    private int minimumNumberOfCalls = 20;
+    private float failureRateThreshold = 50;
+    private long slowCallDurationThreshold = 5000;
+    private float slowCallRateThreshold = 100;
+    private long waitDurationInOpenState = 30000;
+    private int permittedCallsInHalfOpenState = 5;
+    private CircuitBreakerListener listener;
+
+    /**
+     * Returns the number of most recent requests of which the outcome is recorded.
+     *
+     * @return the size of the sliding window
+     */
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    /**
+     * Sets the number of most recent requests of which the outcome is recorded. The default value is
+     * <code>100</code>.
+     *
+     * @param slidingWindowSize the size of the sliding window
+     */
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    /**
+     * Returns the minimum number of recorded requests before the failure and slow call rates are evaluated.
+     *
+     * @return the minimum number of recorded requests
+     */
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    /**
+     * Sets the minimum number of recorded requests before the failure and slow call rates are evaluated. The default
+     * value is <code>20</code>.
+     *
+     * @param minimumNumberOfCalls the minimum number of recorded requests
+     */
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+    /**
+     * Returns the percentage of failed requests at which the circuit breaker opens.
+     *
+     * @return the failure rate threshold as a percentage
+     */
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Sets the percentage of failed requests at which the circuit breaker opens. The default value is
+     * <code>50</code>.
+     *
+     * @param failureRateThreshold the failure rate threshold as a percentage
+     */
+    public void setFailureRateThreshold(float failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    /**
+     * Returns the duration in milliseconds above which a request is considered slow.
+     *
+     * @return the slow call duration threshold in milliseconds
+     */
+    public long getSlowCallDurationThreshold() {
+        return slowCallDurationThreshold;
+    }
+
+    /**
+     * Sets the duration in milliseconds above which a request is considered slow. The default value is
+     * <code>5000</code>.
+     *
+     * @param slowCallDurationThreshold the slow call duration threshold in milliseconds
+     */
+    public void setSlowCallDurationThreshold(long slowCallDurationThreshold) {
+        this.slowCallDurationThreshold = slowCallDurationThreshold;
+    }
+
+    /**
+     * Returns the percentage of slow requests at which the circuit breaker opens.
+     *
+     * @return the slow call rate threshold as a percentage
+     */
+    public float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * Sets the percentage of slow requests at which the circuit breaker opens. The default value is <code>100</code>.
+     *
+     * @param slowCallRateThreshold the slow call rate threshold as a percentage
+     */
+    public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    /**
+     * Returns the time in milliseconds that the circuit breaker stays open before it becomes half open.
+     *
+     * @return the wait duration in the open state in milliseconds
+     */
+    public long getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+    /**
+     * Sets the time in milliseconds that the circuit breaker stays open before it becomes half open. The default
+     * value is <code>30000</code>.
+     *
+     * @param waitDurationInOpenState the wait duration in the open state in milliseconds
+     */
+    public void setWaitDurationInOpenState(long waitDurationInOpenState) {
+        this.waitDurationInOpenState = waitDurationInOpenState;
+    }
+
+    /**
+     * Returns the number of probe requests that are permitted while the circuit breaker is half open.
+     *
+     * @return the number of permitted requests in the half open state
+     */
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * Sets the number of probe requests that are permitted while the circuit breaker is half open. The default value
+     * is <code>5</code>.
+     *
+     * @param permittedCallsInHalfOpenState the number of permitted requests in the half open state
+     */
+    public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * Returns the listener that is notified of state transitions of the circuit breakers.
+     *
+     * @return the state transition listener or <code>null</code>
+     */
+    public CircuitBreakerListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets the listener that is notified of state transitions of the circuit breakers, for instance to raise an alert
+     * when a circuit breaker opens.
+     *
+     * @param listener the state transition listener, or <code>null</code> to not be notified
+     */
+    public void setListener(CircuitBreakerListener listener) {
+        this.listener = listener;
+    }
+}
@@ -33,43 +33,114 @@ package com.gluonhq.cloudlink.enterprise.sdk.javaee;
 
 import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.ObjectData;
 import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
-import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotificationTarget;
-import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.GluonAuthenticationFeature;
-import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.StringObject;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkRequest;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkResponse;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkTransport;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.CircuitBreakers;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.CloudLinkClientMetrics;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.CloudLinkRequestFactory;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.CloudLinkTransports;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.ConnectionLimiter;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.FanOut;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.GzipDecoder;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.JaxRsTransport;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.JsonCodec;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.ListenerRequestContext;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.ObjectCache;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.ObjectDataSpliterator;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.Operation;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.RateLimiter;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.RetryExecutor;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.SingleFlight;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.validation.ParameterConstraints;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.validation.PushNotificationConstraints;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.validation.SharedValidator;
 
 import javax.inject.Inject;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.InvocationContext;
-import javax.json.Json;
-import javax.json.bind.Jsonb;
-import javax.json.bind.JsonbBuilder;
+import javax.json.stream.JsonParser;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
-import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
-import javax.ws.rs.client.ClientBuilder;
-import javax.ws.rs.client.Entity;
-import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.core.Configuration;
-import javax.ws.rs.core.Form;
-import javax.ws.rs.core.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A Java client that acts as a wrapper for the Gluon CloudLink Enterprise REST SDK. Internally it makes use of the
- * <a href="https://docs.oracle.com/javaee/7/api/javax/ws/rs/client/package-summary.html">JAX-RS client API</a>.
+ * <a href="https://docs.oracle.com/javaee/7/api/javax/ws/rs/client/package-summary.html">JAX-RS client API</a>, or
+ * the {@link CloudLinkTransport} that is configured or registered.
+ *
+ * <p>Every operation is available in a blocking and in an asynchronous variant. The asynchronous variants have the
+ * same name as their blocking counterpart, suffixed with <code>Async</code>. They are built on the asynchronous
+ * requests of the transport and return a {@link CompletionStage} that is completed when the response from Gluon
+ * CloudLink has been processed.</p>
+ *
+ * <p>All CloudLinkClient instances that connect to the same host with the same JAX-RS client configuration share a
+ * single JAX-RS client, and therefore a single connection pool. A CloudLinkClient should be closed when it is no
+ * longer needed, so that the shared JAX-RS client can be closed when it is not used anymore.</p>
+ *
+ * <p>Concurrent retrievals of the same object or list through the same CloudLinkClient are coalesced into a single
+ * request to Gluon CloudLink, of which the response is shared by all callers. A retrieval that starts after a write
+ * to the same object or list through the same CloudLinkClient completed does not share a request that was sent
+ * before that write.</p>
+ *
+ * <p>When a {@link CircuitBreakerConfig} is configured, the push, object and list endpoints are each guarded by a
+ * circuit breaker that makes requests fail fast while Gluon CloudLink is failing or responding slowly. Push
+ * notifications can be rate limited on the client with a {@link RateLimiterConfig}.</p>
  */
-public class CloudLinkClient {
+public class CloudLinkClient implements AutoCloseable {
 
     private CloudLinkClientConfig config;
 
-    private WebTarget webTarget;
+    private CloudLinkTransport transport;
+
+    private CloudLinkTransport ownedTransport;
+
+    private ConnectionLimiter connectionLimiter;
+
+    private CloudLinkRequestFactory requestFactory;
+
+    private volatile JsonCodec codec;
+
+    private volatile ObjectCache objectCache;
+
+    private volatile RetryExecutor retryExecutor;
+
+    private volatile CircuitBreakers circuitBreakers;
+
+    private volatile RateLimiter pushRateLimiter;
+
+    private volatile CloudLinkClientListener[] listeners = new CloudLinkClientListener[0];
+
+    private final CloudLinkClientMetrics metrics = new CloudLinkClientMetrics();
+
+    private final SingleFlight<String, ObjectData> objectRequests = new SingleFlight<>();
+
+    private final SingleFlight<String, List<ObjectData>> listRequests = new SingleFlight<>();
 
     @Inject
     private Validator validator;
@@ -98,40 +169,166 @@ public class CloudLinkClient {
      */
     public CloudLinkClient(CloudLinkClientConfig cloudLinkClientConfig,
             Configuration clientConfig) {
-        this.config = Objects.requireNonNull(cloudLinkClientConfig);
-        this.webTarget = buildJaxRSClient(clientConfig);
-        this.validator = Validation.buildDefaultValidatorFactory().getValidator();
+        RateLimiter rateLimiter = resolvePushRateLimiter(Objects.requireNonNull(cloudLinkClientConfig));
+        this.config = cloudLinkClientConfig;
+        buildTransport(clientConfig);
+        buildJsonCodec();
+        buildObjectCache();
+        buildRetryExecutor();
+        buildCircuitBreakers();
+        this.pushRateLimiter = rateLimiter;
+        this.listeners = config.getListeners().toArray(new CloudLinkClientListener[0]);
     }
 
     public void setCloudLinkClientConfig(CloudLinkClientConfig cloudLinkClientConfig) {
-        this.config = Objects.requireNonNull(cloudLinkClientConfig);
-        this.webTarget = buildJaxRSClient(null);
+        RateLimiter rateLimiter = resolvePushRateLimiter(Objects.requireNonNull(cloudLinkClientConfig));
+        this.config = cloudLinkClientConfig;
+        buildTransport(null);
+        buildJsonCodec();
+        buildObjectCache();
+        buildRetryExecutor();
+        buildCircuitBreakers();
+        this.pushRateLimiter = rateLimiter;
+        this.listeners = config.getListeners().toArray(new CloudLinkClientListener[0]);
     }
 
-    private WebTarget buildJaxRSClient(Configuration clientConfig) {
-        String cloudLinkUrl = config.getHostname();
-
-        //TODO Safer protocol check
-        if (! cloudLinkUrl.startsWith("http")) {
-            cloudLinkUrl = "https://" + cloudLinkUrl;
+    private void buildTransport(Configuration clientConfig) {
+        CloudLinkTransport previousTransport = ownedTransport;
+        CloudLinkTransport configuredTransport = config.getTransport();
+        this.ownedTransport = configuredTransport == null ? CloudLinkTransports.create(config, clientConfig) : null;
+        this.transport = configuredTransport == null ? ownedTransport : configuredTransport;
+        this.connectionLimiter = transport instanceof JaxRsTransport ? ((JaxRsTransport) transport).getConnectionLimiter()
+                : new ConnectionLimiter(config.getMaxConnectionsPerRoute());
+        this.requestFactory = new CloudLinkRequestFactory(config);
+        if (previousTransport != null) {
+            previousTransport.close();
         }
+    }
+
+    // requests that are still in flight keep decoding their response with the previous codec
+    private void buildJsonCodec() {
+        this.codec = new JsonCodec(config.getJsonbConfig());
+    }
+
+    private void buildObjectCache() {
+        ObjectCacheConfig objectCacheConfig = config.getObjectCacheConfig();
+        this.objectCache = objectCacheConfig == null ? null : new ObjectCache(objectCacheConfig);
+    }
+
+    private void buildRetryExecutor() {
+        this.retryExecutor = new RetryExecutor(config.getRetryConfig(), CloudLinkClient::isIOFailure);
+    }
 
-        ClientBuilder builder = ClientBuilder.newBuilder();
-        builder.register(new GluonAuthenticationFeature(config.getServerKey()));
+    private void buildCircuitBreakers() {
+        this.circuitBreakers = new CircuitBreakers(config.getCircuitBreakerConfig(), CloudLinkClient::isIOFailure);
+    }
 
-        if (clientConfig != null) {
-            builder.withConfig(clientConfig);
+    // resolved before anything else is built, so that a configuration that conflicts with the limiter of its server
+    // key is rejected before a transport is acquired or the current configuration is replaced
+    private static RateLimiter resolvePushRateLimiter(CloudLinkClientConfig config) {
+        RateLimiterConfig rateLimiterConfig = config.getPushRateLimiterConfig();
+        return rateLimiterConfig == null ? null : RateLimiter.forServerKey(config.getServerKey(), rateLimiterConfig);
+    }
+
+    private static boolean isIOFailure(Throwable failure) {
+        return failure instanceof ProcessingException && failure.getCause() instanceof IOException;
+    }
+
+    /**
+     * Returns the management interface of this CloudLinkClient, which exposes request counts, error counts and
+     * latency percentiles per operation. When the CloudLinkClient is injected with CDI, the management interface is
+     * registered in the platform MBean server for as long as the CloudLinkClient is in use.
+     *
+     * @return the management interface of this CloudLinkClient
+     */
+    public CloudLinkClientMXBean getMXBean() {
+        return metrics;
+    }
+
+    /**
+     * Returns the statistics of the push notification rate limiter that is used by this CloudLinkClient.
+     *
+     * @return a snapshot of the rate limiter statistics, or <code>null</code> when no rate limiter is configured
+     * @see CloudLinkClientConfig#setPushRateLimiterConfig(RateLimiterConfig)
+     */
+    public RateLimiterStats getPushRateLimiterStats() {
+        RateLimiter rateLimiter = pushRateLimiter;
+        return rateLimiter == null ? null : rateLimiter.stats();
+    }
+
+    /**
+     * Returns the current state of the circuit breaker that guards the specified endpoint family.
+     *
+     * @param endpointFamily the endpoint family to return the circuit breaker state for
+     * @return the state of the circuit breaker, which is always {@link CircuitBreakerState#CLOSED} when no circuit
+     * breaker is configured
+     * @throws NullPointerException when <code>endpointFamily</code> is <code>null</code>
+     * @see CloudLinkClientConfig#setCircuitBreakerConfig(CircuitBreakerConfig)
+     */
+    public CircuitBreakerState getCircuitBreakerState(@NotNull EndpointFamily endpointFamily) {
+        Objects.requireNonNull(endpointFamily, "endpointFamily may not be null");
+
+        return circuitBreakers.getState(endpointFamily);
+    }
+
+    /**
+     * Returns the statistics of the near-cache of this CloudLinkClient.
+     *
+     * @return a snapshot of the cache statistics, or <code>null</code> when no near-cache is configured
+     * @see CloudLinkClientConfig#setObjectCacheConfig(ObjectCacheConfig)
+     */
+    public ObjectCacheStats getObjectCacheStats() {
+        ObjectCache cache = objectCache;
+        return cache == null ? null : cache.stats();
+    }
+
+    /**
+     * Removes all objects from the near-cache of this CloudLinkClient. This method has no effect when no near-cache
+     * is configured.
+     */
+    public void invalidateObjectCache() {
+        ObjectCache cache = objectCache;
+        if (cache != null) {
+            cache.invalidateAll();
         }
+    }
 
-        return builder.build().target(cloudLinkUrl);
+    /**
+     * Closes this CloudLinkClient, and the transport that it created. The underlying JAX-RS client is closed as well
+     * when it is no longer used by any other CloudLinkClient instance. A transport that is set on the configuration is
+     * not closed.
+     */
+    @Override
+    public void close() {
+        if (ownedTransport != null) {
+            ownedTransport.close();
+            ownedTransport = null;
+        }
     }
 
     @AroundInvoke
     private Object aroundInvoke(InvocationContext invocationContext) throws Exception {
-        validator.forExecutables().validateParameters(this, invocationContext.getMethod(), invocationContext.getParameters());
+        if (!isFastValidationMode() || !ParameterConstraints.isValid(invocationContext.getMethod(), invocationContext.getParameters())) {
+            Set<ConstraintViolation<CloudLinkClient>> violations = validator().forExecutables()
+                    .validateParameters(this, invocationContext.getMethod(), invocationContext.getParameters());
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
+        }
         return invocationContext.proceed();
     }
 
+    private boolean isFastValidationMode() {
+        // the configuration is not yet set when setCloudLinkClientConfig itself is intercepted
+        CloudLinkClientConfig currentConfig = config;
+        return currentConfig != null && currentConfig.getValidationMode() == ValidationMode.FAST;
+    }
+
+    private Validator validator() {
+        Validator injectedValidator = validator;
+        return injectedValidator != null ? injectedValidator : SharedValidator.get();
+    }
+
     /**
      * Send a push notification.
      *
@@ -145,32 +342,83 @@ public class CloudLinkClient {
     public PushNotification sendPushNotification(@Valid @NotNull PushNotification notification) {
         Objects.requireNonNull(notification, "notification may not be null");
 
-        Form form = new Form();
-        form.param("customIdentifier", notification.getCustomIdentifier())
-                .param("title", notification.getTitle())
-                .param("body", notification.getBody())
-                .param("deliveryDate", "0")
-                .param("priority", notification.getPriority().name())
-                .param("expirationType", notification.getExpirationType().name())
-                .param("expirationAmount", String.valueOf(notification.getExpirationAmount()))
-                .param("targetType", notification.getTarget().getType().name())
-                .param("invisible", String.valueOf(notification.isInvisible()));
-
-        if (notification.getTarget().getType() == PushNotificationTarget.Type.SINGLE_DEVICE) {
-            form.param("targetDeviceToken", notification.getTarget().getDeviceToken());
-        } else if (notification.getTarget().getType() == PushNotificationTarget.Type.TOPIC) {
-            form.param("targetTopic", notification.getTarget().getTopic());
-        }
+        return invoke(Operation.PUSH, null, null, isIdempotent(notification), requestFactory.sendPushNotification(notification),
+                this::readPushNotification);
+    }
 
-        Response response = webTarget.path("3").path("push").path("enterprise").path("notification").request()
-                .post(Entity.form(form));
-        if (response.getStatus() == 200) {
-            String json = response.readEntity(String.class);
-            Jsonb jsonb = JsonbBuilder.create();
-            return jsonb.fromJson(json, PushNotification.class);
-        } else {
-            throw handleErrorResponse(response);
+    /**
+     * Send a push notification asynchronously.
+     *
+     * @param notification the push notification to send
+     * @return a completion stage that completes with the push notification that was sent, with the identifier and
+     * creation date set, or that completes exceptionally with a {@link CloudLinkClientException} when an invalid HTTP
+     * response is returned from the request to Gluon CloudLink
+     * @throws javax.validation.ConstraintViolationException when the provided push notification object fails to
+     * validate
+     * @throws NullPointerException when <code>notification</code> is <code>null</code>
+     */
+    public CompletionStage<PushNotification> sendPushNotificationAsync(@Valid @NotNull PushNotification notification) {
+        Objects.requireNonNull(notification, "notification may not be null");
+
+        return async(Operation.PUSH, null, null, isIdempotent(notification), requestFactory.sendPushNotification(notification),
+                this::readPushNotification);
+    }
+
+    /**
+     * Send a collection of push notifications. The push notifications are sent concurrently, with at most
+     * {@link CloudLinkClientConfig#getBulkPushParallelism()} requests in flight at the same time. A push notification
+     * that fails to validate or to be sent does not prevent the others from being sent: the outcome of each push
+     * notification is reported in the returned result, in the order of the provided collection.
+     *
+     * @param notifications the push notifications to send
+     * @return the outcome for each of the provided push notifications
+     * @throws NullPointerException when <code>notifications</code> is <code>null</code>
+     */
+    public BulkPushResult sendPushNotifications(@NotNull Collection<PushNotification> notifications) {
+        Objects.requireNonNull(notifications, "notifications may not be null");
+
+        return sendPushNotificationsAsync(notifications).toCompletableFuture().join();
+    }
+
+    /**
+     * Send a collection of push notifications asynchronously. The push notifications are sent concurrently, with at
+     * most {@link CloudLinkClientConfig#getBulkPushParallelism()} requests in flight at the same time. A push
+     * notification that fails to validate or to be sent does not prevent the others from being sent: the outcome of
+     * each push notification is reported in the result, in the order of the provided collection.
+     *
+     * @param notifications the push notifications to send
+     * @return a completion stage that completes with the outcome for each of the provided push notifications
+     * @throws NullPointerException when <code>notifications</code> is <code>null</code>
+     */
+    public CompletionStage<BulkPushResult> sendPushNotificationsAsync(@NotNull Collection<PushNotification> notifications) {
+        Objects.requireNonNull(notifications, "notifications may not be null");
+
+        List<PushNotification> inputs = new ArrayList<>(notifications);
+        return FanOut.execute(inputs, config.getBulkPushParallelism(), this::validateAndSendAsync)
+                .thenApply(results -> {
+                    List<BulkPushResult.Item> items = new ArrayList<>(results.size());
+                    for (int i = 0; i < results.size(); i++) {
+                        CompletableFuture<PushNotification> result = results.get(i);
+                        try {
+                            items.add(new BulkPushResult.Item(i, inputs.get(i), result.join(), null));
+                        } catch (CompletionException e) {
+                            items.add(new BulkPushResult.Item(i, inputs.get(i), null, e.getCause()));
+                        }
+                    }
+                    return new BulkPushResult(items);
+                });
+    }
+
+    private CompletionStage<PushNotification> validateAndSendAsync(PushNotification notification) {
+        Objects.requireNonNull(notification, "notification may not be null");
+
+        if (!isFastValidationMode() || !PushNotificationConstraints.isValid(notification)) {
+            Set<ConstraintViolation<PushNotification>> violations = validator().validate(notification);
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
         }
+        return sendPushNotificationAsync(notification);
     }
 
     /**
@@ -188,20 +436,18 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        Response response = webTarget.path("3").path("data").path("enterprise").path("object").path(objectId)
-                .request().get();
-        if (response.getStatus() == 200) {
-            String json = response.readEntity(String.class);
-            Jsonb jsonb = JsonbBuilder.create();
-            ObjectData object = jsonb.fromJson(json, ObjectData.class);
-            if (object.getUid() == null) {
-                return null;
-            } else {
-                return objectMapper.apply(object);
-            }
-        } else {
-            throw handleErrorResponse(response);
+        ObjectCache cache = objectCache;
+        ObjectData cached = cache == null ? null : cache.get(objectId);
+        if (cached != null) {
+            return mapOptionalObject(cached, objectMapper);
         }
+
+        ObjectData object = objectRequests.execute(objectId, () -> {
+            long generation = cache == null ? 0 : cache.generation();
+            return invoke(Operation.GET_OBJECT, null, objectId, requestFactory.getObject(objectId),
+                    response -> cacheRetrievedObject(cache, objectId, readObjectData(response), generation));
+        });
+        return mapOptionalObject(object, objectMapper);
     }
 
     /**
@@ -219,7 +465,53 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(objectType, "objectType may not be null");
 
-        return getObject(objectId, data -> fromJson(data, objectType));
+        return getObject(objectId, data -> codec.fromPayload(data, objectType));
+    }
+
+    /**
+     * Retrieve an object with the specified identifier asynchronously. If no object with such an identifier exists,
+     * the returned completion stage completes with <code>null</code>.
+     *
+     * @param objectId the identifier of the object to retrieve
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the returned object
+     * @return a completion stage that completes with the object attached to the specified identifier or
+     * <code>null</code> if no such object exists
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> CompletionStage<T> getObjectAsync(@NotEmpty String objectId, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        ObjectCache cache = objectCache;
+        ObjectData cached = cache == null ? null : cache.get(objectId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached).thenApply(data -> mapOptionalObject(data, objectMapper));
+        }
+
+        return objectRequests.executeAsync(objectId, () -> {
+            long generation = cache == null ? 0 : cache.generation();
+            return async(Operation.GET_OBJECT, null, objectId, requestFactory.getObject(objectId),
+                    response -> cacheRetrievedObject(cache, objectId, readObjectData(response), generation));
+        }).thenApply(object -> mapOptionalObject(object, objectMapper));
+    }
+
+    /**
+     * Retrieve an object with the specified identifier asynchronously. If no object with such an identifier exists,
+     * the returned completion stage completes with <code>null</code>.
+     *
+     * @param objectId the identifier of the object to retrieve
+     * @param objectType the type of the returned object
+     * @param <T> the type of the returned object
+     * @return a completion stage that completes with the object attached to the specified identifier or
+     * <code>null</code> if no such object exists
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> CompletionStage<T> getObjectAsync(@NotEmpty String objectId, @NotNull Class<T> objectType) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(objectType, "objectType may not be null");
+
+        return getObjectAsync(objectId, data -> codec.fromPayload(data, objectType));
     }
 
     /**
@@ -239,15 +531,9 @@ public class CloudLinkClient {
         Objects.requireNonNull(target, "target may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        Response response = webTarget.path("3").path("data").path("enterprise").path("object").path(objectId).path("add")
-                .request().post(Entity.json(toJson(target)));
-        if (response.getStatus() == 200) {
-            String json = response.readEntity(String.class);
-            ObjectData object = JsonbBuilder.create().fromJson(json, ObjectData.class);
-            return objectMapper.apply(object);
-        } else {
-            throw handleErrorResponse(response);
-        }
+        String json = codec.toPayload(target);
+        return invoke(Operation.ADD_OBJECT, null, objectId, requestFactory.addObject(objectId, json),
+                response -> objectMapper.apply(cacheObject(objectId, readObjectData(response))));
     }
 
     /**
@@ -266,7 +552,46 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(target, "target may not be null");
 
-        return addObject(objectId, target, data -> fromJson(data, (Class<T>) target.getClass()));
+        return addObject(objectId, target, data -> codec.fromPayload(data, (Class<T>) target.getClass()));
+    }
+
+    /**
+     * Adds the object with the specified identifier asynchronously. If an object already exists with the specified
+     * identifier, the existing object will be overwritten with the new value.
+     *
+     * @param objectId the identifier of the object to add
+     * @param target the object to add
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the added object
+     * @return a completion stage that completes with the newly added object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> CompletionStage<T> addObjectAsync(@NotEmpty String objectId, @NotNull T target, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        String json = codec.toPayload(target);
+        return async(Operation.ADD_OBJECT, null, objectId, requestFactory.addObject(objectId, json),
+                response -> objectMapper.apply(cacheObject(objectId, readObjectData(response))));
+    }
+
+    /**
+     * Adds the object with the specified identifier asynchronously. If an object already exists with the specified
+     * identifier, the existing object will be overwritten with the new value.
+     *
+     * @param objectId the identifier of the object to add
+     * @param target the object to add
+     * @param <T> the type of the added object
+     * @return a completion stage that completes with the newly added object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> addObjectAsync(@NotEmpty String objectId, @NotNull T target) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+
+        return addObjectAsync(objectId, target, data -> codec.fromPayload(data, (Class<T>) target.getClass()));
     }
 
     /**
@@ -286,19 +611,9 @@ public class CloudLinkClient {
         Objects.requireNonNull(target, "target may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        Response response = webTarget.path("3").path("data").path("enterprise").path("object").path(objectId).path("update")
-                .request().post(Entity.json(toJson(target)));
-        if (response.getStatus() == 200) {
-            String json = response.readEntity(String.class);
-            ObjectData object = JsonbBuilder.create().fromJson(json, ObjectData.class);
-            if (object.getUid() == null) {
-                return null;
-            } else {
-                return objectMapper.apply(object);
-            }
-        } else {
-            throw handleErrorResponse(response);
-        }
+        String json = codec.toPayload(target);
+        return invoke(Operation.UPDATE_OBJECT, null, objectId, requestFactory.updateObject(objectId, json),
+                response -> mapOptionalObject(cacheObject(objectId, readObjectData(response)), objectMapper));
     }
 
     /**
@@ -317,7 +632,48 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(target, "target may not be null");
 
-        return updateObject(objectId, target, data -> fromJson(data, (Class<T>) target.getClass()));
+        return updateObject(objectId, target, data -> codec.fromPayload(data, (Class<T>) target.getClass()));
+    }
+
+    /**
+     * Updates the object with the specified identifier asynchronously. If no object exists with the specified
+     * identifier, nothing will happen and the returned completion stage completes with <code>null</code>.
+     *
+     * @param objectId the identifier of the object to update
+     * @param target the object to update
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the updated object
+     * @return a completion stage that completes with the updated object or <code>null</code> if no object exists
+     * with the specified identifier
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> CompletionStage<T> updateObjectAsync(@NotEmpty String objectId, @NotNull T target, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        String json = codec.toPayload(target);
+        return async(Operation.UPDATE_OBJECT, null, objectId, requestFactory.updateObject(objectId, json),
+                response -> mapOptionalObject(cacheObject(objectId, readObjectData(response)), objectMapper));
+    }
+
+    /**
+     * Updates the object with the specified identifier asynchronously. If no object exists with the specified
+     * identifier, nothing will happen and the returned completion stage completes with <code>null</code>.
+     *
+     * @param objectId the identifier of the object to update
+     * @param target the object to update
+     * @param <T> the type of the updated object
+     * @return a completion stage that completes with the updated object or <code>null</code> if no object exists
+     * with the specified identifier
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> updateObjectAsync(@NotEmpty String objectId, @NotNull T target) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+
+        return updateObjectAsync(objectId, target, data -> codec.fromPayload(data, (Class<T>) target.getClass()));
     }
 
     /**
@@ -330,11 +686,22 @@ public class CloudLinkClient {
     public void removeObject(@NotEmpty String objectId) {
         Objects.requireNonNull(objectId, "objectId may not be null");
 
-        Response response = webTarget.path("3").path("data").path("enterprise").path("object").path(objectId).path("remove")
-                .request().post(Entity.form(new Form()));
-        if (response.getStatus() != 200) {
-            throw handleErrorResponse(response);
-        }
+        invoke(Operation.REMOVE_OBJECT, null, objectId, requestFactory.removeObject(objectId),
+                response -> evictObject(objectId, readEmpty(response)));
+    }
+
+    /**
+     * Removes the object with the specified identifier asynchronously.
+     *
+     * @param objectId the identifier of the object to remove
+     * @return a completion stage that completes when the object has been removed
+     * @throws NullPointerException when <code>objectId</code> is <code>null</code>
+     */
+    public CompletionStage<Void> removeObjectAsync(@NotEmpty String objectId) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+
+        return async(Operation.REMOVE_OBJECT, null, objectId, requestFactory.removeObject(objectId),
+                response -> evictObject(objectId, readEmpty(response)));
     }
 
     /**
@@ -352,16 +719,9 @@ public class CloudLinkClient {
         Objects.requireNonNull(listId, "listId may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        Response response = webTarget.path("3").path("data").path("enterprise").path("list").path(listId)
-                .request().get();
-        if (response.getStatus() == 200) {
-            String json = response.readEntity(String.class);
-            Jsonb jsonb = JsonbBuilder.create();
-            List<ObjectData> objects = jsonb.fromJson(json, new ArrayList<ObjectData>(){}.getClass().getGenericSuperclass());
-            return objects.stream().map(objectMapper).collect(Collectors.toList());
-        } else {
-            throw handleErrorResponse(response);
-        }
+        List<ObjectData> objects = listRequests.execute(listId, () -> invoke(Operation.GET_LIST, listId, null, requestFactory.getList(listId),
+                response -> readList(response, Function.identity())));
+        return objects.stream().map(objectMapper).collect(Collectors.toList());
     }
 
     /**
@@ -379,8 +739,149 @@ public class CloudLinkClient {
         Objects.requireNonNull(listId, "listId may not be null");
         Objects.requireNonNull(objectType, "objectType may not be null");
 
-        Jsonb jsonb = JsonbBuilder.create();
-        return getList(listId, data -> jsonb.fromJson(data.getPayload(), objectType));
+        return getList(listId, data -> codec.fromJson(data.getPayload(), objectType));
+    }
+
+    /**
+     * Retrieve a list with the specified identifier asynchronously. The list that the returned completion stage
+     * completes with contains the list of objects that were added to the list.
+     *
+     * @param listId the identifier of the list to retrieve
+     * @param objectMapper a mapper to convert instances of ObjectData into the defined object type
+     * @param <T> the type of the objects in the list
+     * @return a completion stage that completes with the list attached to the specified identifier
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> CompletionStage<List<T>> getListAsync(@NotEmpty String listId, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        return listRequests.executeAsync(listId, () -> async(Operation.GET_LIST, listId, null, requestFactory.getList(listId),
+                response -> readList(response, Function.identity())))
+                .thenApply(objects -> objects.stream().map(objectMapper).collect(Collectors.toList()));
+    }
+
+    /**
+     * Retrieve a list with the specified identifier asynchronously. The list that the returned completion stage
+     * completes with contains the list of objects that were added to the list.
+     *
+     * @param listId the identifier of the list to retrieve
+     * @param objectType the type of the objects in the list
+     * @param <T> the type of the objects in the list
+     * @return a completion stage that completes with the list attached to the specified identifier
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> CompletionStage<List<T>> getListAsync(@NotEmpty String listId, @NotNull Class<T> objectType) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectType, "objectType may not be null");
+
+        return getListAsync(listId, data -> codec.fromJson(data.getPayload(), objectType));
+    }
+
+    /**
+     * Retrieve a list with the specified identifier as a stream. The objects in the list are read from the response
+     * one at a time while the stream is consumed, so that the list as a whole is never held in memory. The returned
+     * stream holds on to the HTTP connection and must be closed after use, preferably with a try-with-resources
+     * statement. The request is guarded by the circuit breaker for list endpoints, but it is not retried.
+     *
+     * @param listId the identifier of the list to retrieve
+     * @param objectMapper a mapper to convert instances of ObjectData into the defined object type
+     * @param <T> the type of the objects in the list
+     * @return a stream of the objects in the list attached to the specified identifier
+     * @throws CloudLinkClientException when an invalid HTTP response is returned from the request to Gluon CloudLink
+     * @throws javax.json.stream.JsonParsingException when the response could not be parsed while consuming the stream
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Stream<T> streamList(@NotEmpty String listId, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        ListenerRequestContext context = ListenerRequestContext.start(listeners, Operation.STREAM_LIST, listId, null);
+        ConnectionLimiter connectionLimiter = this.connectionLimiter;
+        connectionLimiter.acquire();
+        CloudLinkResponse response = null;
+        try {
+            // the circuit breaker records the outcome once the response headers arrived, not when the stream is closed
+            response = circuitBreakers.execute(Operation.STREAM_LIST.getEndpointFamily(), () -> {
+                CloudLinkResponse received = execute(Operation.STREAM_LIST, context, requestFactory.getList(listId));
+                if (received.getStatus() != 200) {
+                    try {
+                        throw handleErrorResponse(received);
+                    } finally {
+                        received.close();
+                    }
+                }
+                return received;
+            });
+
+            CloudLinkResponse streamedResponse = response;
+            JsonParser parser = codec.createParser(readBody(response));
+            ObjectDataSpliterator spliterator = new ObjectDataSpliterator(parser, context != null);
+            return StreamSupport.stream(spliterator, false)
+                    .map(objectMapper)
+                    .onClose(() -> {
+                        try {
+                            parser.close();
+                        } finally {
+                            streamedResponse.close();
+                            connectionLimiter.release();
+                            if (context != null) {
+                                context.decodeFinished(spliterator.getParseTime());
+                            }
+                        }
+                    });
+        } catch (RuntimeException e) {
+            if (response != null) {
+                response.close();
+            }
+            connectionLimiter.release();
+            if (context != null) {
+                context.requestFailed(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieve a list with the specified identifier as a stream. The objects in the list are read from the response
+     * one at a time while the stream is consumed, so that the list as a whole is never held in memory. The returned
+     * stream holds on to the HTTP connection and must be closed after use, preferably with a try-with-resources
+     * statement.
+     *
+     * @param listId the identifier of the list to retrieve
+     * @param objectType the type of the objects in the list
+     * @param <T> the type of the objects in the list
+     * @return a stream of the objects in the list attached to the specified identifier
+     * @throws CloudLinkClientException when an invalid HTTP response is returned from the request to Gluon CloudLink
+     * @throws javax.json.stream.JsonParsingException when the response could not be parsed while consuming the stream
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Stream<T> streamList(@NotEmpty String listId, @NotNull Class<T> objectType) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectType, "objectType may not be null");
+
+        return streamList(listId, data -> codec.fromJson(data.getPayload(), objectType));
+    }
+
+    /**
+     * Performs the given action for each object in the list with the specified identifier. Each object is handed
+     * to the action as soon as it has been read from the response, before the next object is read.
+     *
+     * @param listId the identifier of the list to retrieve
+     * @param objectType the type of the objects in the list
+     * @param action the action to perform for each object in the list
+     * @param <T> the type of the objects in the list
+     * @throws CloudLinkClientException when an invalid HTTP response is returned from the request to Gluon CloudLink
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> void forEachInList(@NotEmpty String listId, @NotNull Class<T> objectType, @NotNull Consumer<? super T> action) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectType, "objectType may not be null");
+        Objects.requireNonNull(action, "action may not be null");
+
+        try (Stream<T> objects = streamList(listId, objectType)) {
+            objects.forEach(action);
+        }
     }
 
     /**
@@ -401,16 +902,9 @@ public class CloudLinkClient {
         Objects.requireNonNull(target, "target may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        Jsonb jsonb = JsonbBuilder.create();
-        Response response = webTarget.path("3").path("data").path("enterprise").path("list").path(listId).path("add").path(objectId)
-                .request().post(Entity.json(jsonb.toJson(target)));
-        if (response.getStatus() == 200) {
-            String json = response.readEntity(String.class);
-            ObjectData object = jsonb.fromJson(json, ObjectData.class);
-            return objectMapper.apply(object);
-        } else {
-            throw handleErrorResponse(response);
-        }
+        String json = codec.toJson(target);
+        return invoke(Operation.ADD_TO_LIST, listId, objectId, requestFactory.addToList(listId, objectId, json),
+                response -> forgetList(listId, readObject(response, objectMapper)));
     }
 
     /**
@@ -430,8 +924,48 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(target, "target may not be null");
 
-        Jsonb jsonb = JsonbBuilder.create();
-        return addToList(listId, objectId, target, data -> jsonb.fromJson(data.getPayload(), (Class<T>) target.getClass()));
+        return addToList(listId, objectId, target, data -> codec.fromJson(data.getPayload(), (Class<T>) target.getClass()));
+    }
+
+    /**
+     * Adds an object to the list with the specified identifiers asynchronously.
+     *
+     * @param listId the identifier of the list to add the object to
+     * @param objectId the identifier of the object to add
+     * @param target the object to add
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the added object
+     * @return a completion stage that completes with the newly added object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> CompletionStage<T> addToListAsync(@NotEmpty String listId, @NotEmpty String objectId, @NotNull T target, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        String json = codec.toJson(target);
+        return async(Operation.ADD_TO_LIST, listId, objectId, requestFactory.addToList(listId, objectId, json),
+                response -> forgetList(listId, readObject(response, objectMapper)));
+    }
+
+    /**
+     * Adds an object to the list with the specified identifiers asynchronously.
+     *
+     * @param listId the identifier of the list to add the object to
+     * @param objectId the identifier of the object to add
+     * @param target the object to add
+     * @param <T> the type of the added object
+     * @return a completion stage that completes with the newly added object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> addToListAsync(@NotEmpty String listId, @NotEmpty String objectId, @NotNull T target) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+
+        return addToListAsync(listId, objectId, target, data -> codec.fromJson(data.getPayload(), (Class<T>) target.getClass()));
     }
 
     /**
@@ -453,21 +987,9 @@ public class CloudLinkClient {
         Objects.requireNonNull(target, "target may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        Objects.requireNonNull(objectMapper);
-        Jsonb jsonb = JsonbBuilder.create();
-        Response response = webTarget.path("3").path("data").path("enterprise").path("list").path(listId).path("update").path(objectId)
-                .request().post(Entity.json(jsonb.toJson(target)));
-        if (response.getStatus() == 200) {
-            String json = response.readEntity(String.class);
-            ObjectData object = jsonb.fromJson(json, ObjectData.class);
-            if (object.getUid() == null) {
-                return null;
-            } else {
-                return objectMapper.apply(object);
-            }
-        } else {
-            throw handleErrorResponse(response);
-        }
+        String json = codec.toJson(target);
+        return invoke(Operation.UPDATE_IN_LIST, listId, objectId, requestFactory.updateInList(listId, objectId, json),
+                response -> forgetList(listId, readOptionalObject(response, objectMapper)));
     }
 
     /**
@@ -488,8 +1010,54 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(target, "target may not be null");
 
-        Jsonb jsonb = JsonbBuilder.create();
-        return updateInList(listId, objectId, target, data -> jsonb.fromJson(data.getPayload(), (Class<T>) target.getClass()));
+        return updateInList(listId, objectId, target, data -> codec.fromJson(data.getPayload(), (Class<T>) target.getClass()));
+    }
+
+    /**
+     * Updates an existing object in the list with the specified identifiers asynchronously. When the object with the
+     * specified identifier does not exist in the list, nothing will happen and the returned completion stage
+     * completes with <code>null</code>.
+     *
+     * @param listId the identifier of the list to update the object in
+     * @param objectId the identifier of the object to update
+     * @param target the object to update
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the updated object
+     * @return a completion stage that completes with the updated object or <code>null</code> if no object exists in
+     * the list with the specified identifiers
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> CompletionStage<T> updateInListAsync(@NotEmpty String listId, @NotEmpty String objectId, @NotNull T target, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        String json = codec.toJson(target);
+        return async(Operation.UPDATE_IN_LIST, listId, objectId, requestFactory.updateInList(listId, objectId, json),
+                response -> forgetList(listId, readOptionalObject(response, objectMapper)));
+    }
+
+    /**
+     * Updates an existing object in the list with the specified identifiers asynchronously. When the object with the
+     * specified identifier does not exist in the list, nothing will happen and the returned completion stage
+     * completes with <code>null</code>.
+     *
+     * @param listId the identifier of the list to update the object in
+     * @param objectId the identifier of the object to update
+     * @param target the object to update
+     * @param <T> the type of the updated object
+     * @return a completion stage that completes with the updated object or <code>null</code> if no object exists in
+     * the list with the specified identifiers
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> updateInListAsync(@NotEmpty String listId, @NotEmpty String objectId, @NotNull T target) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+
+        return updateInListAsync(listId, objectId, target, data -> codec.fromJson(data.getPayload(), (Class<T>) target.getClass()));
     }
 
     /**
@@ -504,37 +1072,298 @@ public class CloudLinkClient {
         Objects.requireNonNull(listId, "listId may not be null");
         Objects.requireNonNull(objectId, "objectId may not be null");
 
-        Response response = webTarget.path("3").path("data").path("enterprise").path("list").path(listId).path("remove").path(objectId)
-                .request().post(Entity.form(new Form()));
-        if (response.getStatus() != 200) {
+        invoke(Operation.REMOVE_FROM_LIST, listId, objectId, requestFactory.removeFromList(listId, objectId),
+                response -> forgetList(listId, readEmpty(response)));
+    }
+
+    /**
+     * Removes the object from the list with the specified identifiers asynchronously.
+     *
+     * @param listId the identifier of the list to remove the object from
+     * @param objectId the identifier of the object to remove
+     * @return a completion stage that completes when the object has been removed from the list
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public CompletionStage<Void> removeFromListAsync(@NotEmpty String listId, @NotEmpty String objectId) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+
+        return async(Operation.REMOVE_FROM_LIST, listId, objectId, requestFactory.removeFromList(listId, objectId),
+                response -> forgetList(listId, readEmpty(response)));
+    }
+
+    private boolean isIdempotent(PushNotification notification) {
+        RetryConfig retryConfig = config.getRetryConfig();
+        return retryConfig != null && retryConfig.isRetryPushWithCustomIdentifier()
+                && notification.getCustomIdentifier() != null && !notification.getCustomIdentifier().isEmpty();
+    }
+
+    private <R> R invoke(Operation operation, String listId, String objectId, CloudLinkRequest request,
+            Function<CloudLinkResponse, R> responseHandler) {
+        return invoke(operation, listId, objectId, true, request, responseHandler);
+    }
+
+    private <R> R invoke(Operation operation, String listId, String objectId, boolean idempotent, CloudLinkRequest request,
+            Function<CloudLinkResponse, R> responseHandler) {
+        CircuitBreakers breakers = circuitBreakers;
+        RateLimiter rateLimiter = operation.getEndpointFamily() == EndpointFamily.PUSH ? pushRateLimiter : null;
+        return retryExecutor.execute(idempotent, () -> {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            return breakers.execute(operation.getEndpointFamily(),
+                    () -> invokeOnce(operation, listId, objectId, request, responseHandler));
+        });
+    }
+
+    private <R> R invokeOnce(Operation operation, String listId, String objectId, CloudLinkRequest request,
+            Function<CloudLinkResponse, R> responseHandler) {
+        ListenerRequestContext context = ListenerRequestContext.start(listeners, operation, listId, objectId);
+        ConnectionLimiter connectionLimiter = this.connectionLimiter;
+        connectionLimiter.acquire();
+        try {
+            CloudLinkResponse response = execute(operation, context, request);
+            try {
+                return decode(context, response, responseHandler);
+            } finally {
+                response.close();
+            }
+        } catch (RuntimeException e) {
+            if (context != null) {
+                context.requestFailed(e);
+            }
+            throw e;
+        } finally {
+            connectionLimiter.release();
+        }
+    }
+
+    private CloudLinkResponse execute(Operation operation, ListenerRequestContext context, CloudLinkRequest request) {
+        long start = metrics.requestStarted(operation);
+        requestSent(context, request);
+        CloudLinkResponse response;
+        try {
+            response = transport.execute(request);
+        } catch (IOException e) {
+            metrics.requestCompleted(operation, start, CloudLinkClientMetrics.NO_RESPONSE);
+            throw new ProcessingException(e);
+        } catch (RuntimeException e) {
+            metrics.requestCompleted(operation, start, CloudLinkClientMetrics.NO_RESPONSE);
+            throw e;
+        }
+        responseReceived(operation, context, start, response);
+        return response;
+    }
+
+    private static void requestSent(ListenerRequestContext context, CloudLinkRequest request) {
+        if (context != null) {
+            context.requestSent(request.getBody() == null ? 0 : request.getBody().getContentLength());
+        }
+    }
+
+    private void responseReceived(Operation operation, ListenerRequestContext context, long start, CloudLinkResponse response) {
+        metrics.requestCompleted(operation, start, response.getStatus());
+        if (context != null) {
+            context.responseReceived(response.getStatus(), response.getContentLength(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reports an I/O failure of the transport as a {@link ProcessingException}, like the JAX-RS client does, so that
+     * it is retried and counted by the circuit breakers.
+     */
+    private static Throwable asProcessingException(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof IOException ? new ProcessingException(cause) : cause;
+    }
+
+    private <R> R decode(ListenerRequestContext context, CloudLinkResponse response, Function<CloudLinkResponse, R> responseHandler) {
+        if (context == null) {
+            return responseHandler.apply(response);
+        }
+
+        long start = System.nanoTime();
+        R result = responseHandler.apply(response);
+        context.decodeFinished(System.nanoTime() - start);
+        return result;
+    }
+
+    private <R> CompletionStage<R> async(Operation operation, String listId, String objectId, CloudLinkRequest request,
+            Function<CloudLinkResponse, R> responseHandler) {
+        return async(operation, listId, objectId, true, request, responseHandler);
+    }
+
+    private <R> CompletionStage<R> async(Operation operation, String listId, String objectId, boolean idempotent,
+            CloudLinkRequest request, Function<CloudLinkResponse, R> responseHandler) {
+        CircuitBreakers breakers = circuitBreakers;
+        RateLimiter rateLimiter = operation.getEndpointFamily() == EndpointFamily.PUSH ? pushRateLimiter : null;
+        Supplier<CompletionStage<R>> attempt = () -> breakers.executeAsync(operation.getEndpointFamily(),
+                () -> asyncOnce(operation, listId, objectId, request, responseHandler));
+        return retryExecutor.executeAsync(idempotent, rateLimiter == null ? attempt
+                : () -> rateLimiter.acquireAsync().thenCompose(permit -> attempt.get()));
+    }
+
+    private <R> CompletionStage<R> asyncOnce(Operation operation, String listId, String objectId, CloudLinkRequest request,
+            Function<CloudLinkResponse, R> responseHandler) {
+        ListenerRequestContext context = ListenerRequestContext.start(listeners, operation, listId, objectId);
+        CloudLinkTransport transport = this.transport;
+        ConnectionLimiter connectionLimiter = this.connectionLimiter;
+        // the response is only handed on once it is recorded, so that decoding never precedes the notification
+        CompletableFuture<CloudLinkResponse> recordedResponse = new CompletableFuture<>();
+        connectionLimiter.execute(() -> {
+            long start = metrics.requestStarted(operation);
+            requestSent(context, request);
+            CompletionStage<CloudLinkResponse> response;
+            try {
+                response = transport.executeAsync(request);
+            } catch (RuntimeException e) {
+                CompletableFuture<CloudLinkResponse> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                response = failed;
+            }
+            response.whenComplete((value, throwable) -> {
+                if (value == null) {
+                    metrics.requestCompleted(operation, start, CloudLinkClientMetrics.NO_RESPONSE);
+                    recordedResponse.completeExceptionally(asProcessingException(throwable));
+                } else {
+                    responseReceived(operation, context, start, value);
+                    recordedResponse.complete(value);
+                }
+            });
+        });
+
+        Function<CloudLinkResponse, R> closingResponseHandler = response -> {
+            try {
+                return decode(context, response, responseHandler);
+            } finally {
+                response.close();
+            }
+        };
+
+        Executor executor = config.getExecutor();
+        CompletableFuture<R> result = executor == null
+                ? recordedResponse.thenApply(closingResponseHandler)
+                : recordedResponse.thenApplyAsync(closingResponseHandler, executor);
+        result.whenComplete((value, throwable) -> {
+            connectionLimiter.release();
+            if (throwable != null && context != null) {
+                context.requestFailed(throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause() : throwable);
+            }
+        });
+        return result;
+    }
+
+    private PushNotification readPushNotification(CloudLinkResponse response) {
+        if (response.getStatus() == 200) {
+            return codec.fromJson(readBody(response), PushNotification.class);
+        } else {
             throw handleErrorResponse(response);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> T fromJson(ObjectData data, Class<T> objectType) {
-        if (String.class.equals(objectType)) {
-            return (T) JsonbBuilder.create().fromJson(data.getPayload(), StringObject.class).getV();
+    private ObjectData readObjectData(CloudLinkResponse response) {
+        if (response.getStatus() == 200) {
+            return codec.fromJson(readBody(response), ObjectData.class);
         } else {
-            return JsonbBuilder.create().fromJson(data.getPayload(), objectType);
+            throw handleErrorResponse(response);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> String toJson(T target) {
-        if (String.class.equals(target.getClass())) {
-            return Json.createObjectBuilder().add("v", (String) target).build().toString();
+    private <T> T readObject(CloudLinkResponse response, Function<ObjectData, T> objectMapper) {
+        return objectMapper.apply(readObjectData(response));
+    }
+
+    private <T> T readOptionalObject(CloudLinkResponse response, Function<ObjectData, T> objectMapper) {
+        return mapOptionalObject(readObjectData(response), objectMapper);
+    }
+
+    private <T> T mapOptionalObject(ObjectData object, Function<ObjectData, T> objectMapper) {
+        if (object.getUid() == null) {
+            return null;
+        } else {
+            return objectMapper.apply(object);
+        }
+    }
+
+    private <T> List<T> readList(CloudLinkResponse response, Function<ObjectData, T> objectMapper) {
+        if (response.getStatus() == 200) {
+            try (JsonParser parser = codec.createParser(readBody(response))) {
+                return StreamSupport.stream(new ObjectDataSpliterator(parser), false)
+                        .map(objectMapper)
+                        .collect(Collectors.toList());
+            }
         } else {
-            return JsonbBuilder.create().toJson(target);
+            throw handleErrorResponse(response);
+        }
+    }
+
+    private static ObjectData cacheRetrievedObject(ObjectCache cache, String objectId, ObjectData object, long generation) {
+        return cache == null ? object : cache.putRetrieved(objectId, object, generation);
+    }
+
+    // a retrieval that is still in flight may have been answered before the write, so it is no longer shared
+    private ObjectData cacheObject(String objectId, ObjectData object) {
+        ObjectCache cache = objectCache;
+        if (cache != null) {
+            cache.put(objectId, object);
         }
+        objectRequests.forget(objectId);
+        return object;
     }
 
-    private CloudLinkClientException handleErrorResponse(Response response) {
+    private <R> R evictObject(String objectId, R result) {
+        ObjectCache cache = objectCache;
+        if (cache != null) {
+            cache.invalidate(objectId);
+        }
+        objectRequests.forget(objectId);
+        return result;
+    }
+
+    // a retrieval of the list that is still in flight may have been answered before the write
+    private <R> R forgetList(String listId, R result) {
+        listRequests.forget(listId);
+        return result;
+    }
+
+    private Void readEmpty(CloudLinkResponse response) {
+        if (response.getStatus() != 200) {
+            throw handleErrorResponse(response);
+        }
+        return null;
+    }
+
+    private CloudLinkClientException handleErrorResponse(CloudLinkResponse response) {
+        long retryAfter = RetryExecutor.parseRetryAfter(response.getHeader("Retry-After"));
         if (config.getLogLevel().intValue() <= Level.FINE.intValue()) {
-            return new CloudLinkClientException(response.getStatus(), response.getStatusInfo().getReasonPhrase(),
-                    response.readEntity(String.class));
+            return new CloudLinkClientException(response.getStatus(), response.getReasonPhrase(),
+                    readString(response), retryAfter);
         } else {
-            return new CloudLinkClientException(response.getStatus(), response.getStatusInfo().getReasonPhrase());
+            return new CloudLinkClientException(response.getStatus(), response.getReasonPhrase(),
+                    null, retryAfter);
+        }
+    }
+
+    private static InputStream readBody(CloudLinkResponse response) {
+        try {
+            return GzipDecoder.decode(response.getBody(), response.getHeader("Content-Encoding"));
+        } catch (IOException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
+    private static String readString(CloudLinkResponse response) {
+        try (InputStream body = readBody(response)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ProcessingException(e);
         }
     }
 }
@@ -31,6 +31,14 @@
  */
 package com.gluonhq.cloudlink.enterprise.sdk.javaee;
 
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkTransport;
+
+import javax.json.bind.JsonbConfig;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 
 /**
@@ -41,6 +49,20 @@ public class CloudLinkClientConfig {
     private String hostname;
     private String serverKey;
     private Level logLevel = Level.OFF;
+    private Executor executor;
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM_THREADS;
+    private HttpTransport httpTransport;
+    private CloudLinkTransport transport;
+    private int maxConnectionsPerRoute = 50;
+    private int bulkPushParallelism = 16;
+    private ValidationMode validationMode = ValidationMode.BEAN_VALIDATION;
+    private JsonbConfig jsonbConfig;
+    private ObjectCacheConfig objectCacheConfig;
+    private RetryConfig retryConfig;
+    private CircuitBreakerConfig circuitBreakerConfig;
+    private RateLimiterConfig pushRateLimiterConfig;
+    private CompressionConfig compressionConfig;
+    private final List<CloudLinkClientListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Create a new configuration using the default host name, cloud.gluonhq.com, to connect to Gluon CloudLink.
@@ -119,4 +141,302 @@ public class CloudLinkClientConfig {
     public void setLogLevel(Level logLevel) {
         this.logLevel = logLevel;
     }
+
+    /**
+     * Returns the executor that is used for processing the responses of asynchronous requests.
+     *
+     * @return the executor for processing asynchronous responses or <code>null</code> when the responses are
+     * processed on the thread of the JAX-RS client that completed the request
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor that is used for processing the responses of asynchronous requests. Inside a Java EE
+     * container, this would typically be a <code>ManagedExecutorService</code>. When no executor is set, responses
+     * are processed on the thread of the JAX-RS client that completed the request.
+     *
+     * @param executor the executor for processing asynchronous responses
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns on which threads asynchronous requests are sent.
+     *
+     * @return the execution mode
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Sets on which threads asynchronous requests are sent. With {@link ExecutionMode#VIRTUAL_THREADS}, every
+     * asynchronous request is sent as a blocking request on a new virtual thread, which requires Java 21 or later.
+     * The default value is {@link ExecutionMode#PLATFORM_THREADS}.
+     *
+     * @param executionMode the execution mode
+     * @throws NullPointerException when <code>executionMode</code> is <code>null</code>
+     */
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = Objects.requireNonNull(executionMode, "executionMode may not be null");
+    }
+
+    /**
+     * Returns the built-in transport with which requests are sent to Gluon CloudLink.
+     *
+     * @return the built-in transport, or <code>null</code> when none is selected
+     */
+    public HttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
+    /**
+     * Sets the built-in transport with which requests are sent to Gluon CloudLink. The built-in transport is used
+     * when no transport is set with {@link #setTransport(CloudLinkTransport)}, even when a
+     * {@link com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkTransportProvider} is registered. When no
+     * built-in transport is selected, which is the default, the transport of a registered provider is used, or else
+     * {@link HttpTransport#JAX_RS}.
+     *
+     * @param httpTransport the built-in transport, or <code>null</code> to use the transport of a registered provider
+     * or else the JAX-RS transport
+     */
+    public void setHttpTransport(HttpTransport httpTransport) {
+        this.httpTransport = httpTransport;
+    }
+
+    /**
+     * Returns the transport with which requests are sent to Gluon CloudLink.
+     *
+     * @return the transport or <code>null</code> when the transport is created by a registered provider or is the
+     * built-in transport
+     */
+    public CloudLinkTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets the transport with which requests are sent to Gluon CloudLink. The transport is not closed when the
+     * CloudLinkClient is closed, so that it can be shared by several CloudLinkClient instances.
+     *
+     * @param transport the transport or <code>null</code> to use the transport of a registered provider or the
+     * built-in transport
+     */
+    public void setTransport(CloudLinkTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Returns the maximum number of concurrent connections to the Gluon CloudLink host.
+     *
+     * @return the maximum number of concurrent connections to the Gluon CloudLink host
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of concurrent connections to the Gluon CloudLink host. With the JAX-RS transport, the
+     * limit is shared by all CloudLinkClient instances that connect to the same host with the same JAX-RS client
+     * configuration; with any other transport, it applies to a single CloudLinkClient. Requests that exceed the limit
+     * wait until a connection becomes available. A value of <code>0</code> or less disables the limit. The default
+     * value is <code>50</code>.
+     *
+     * @param maxConnectionsPerRoute the maximum number of concurrent connections to the Gluon CloudLink host
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    /**
+     * Returns the maximum number of push notifications that are sent concurrently by
+     * {@link CloudLinkClient#sendPushNotifications(java.util.Collection)}.
+     *
+     * @return the maximum number of push notifications that are sent concurrently in a bulk request
+     */
+    public int getBulkPushParallelism() {
+        return bulkPushParallelism;
+    }
+
+    /**
+     * Sets the maximum number of push notifications that are sent concurrently by
+     * {@link CloudLinkClient#sendPushNotifications(java.util.Collection)}. Concurrent requests are still subject to
+     * the maximum number of connections per route. A value of <code>0</code> or less sends all push notifications
+     * at once. The default value is <code>16</code>.
+     *
+     * @param bulkPushParallelism the maximum number of push notifications that are sent concurrently in a bulk request
+     */
+    public void setBulkPushParallelism(int bulkPushParallelism) {
+        this.bulkPushParallelism = bulkPushParallelism;
+    }
+
+    /**
+     * Returns how the parameters of the CloudLinkClient operations are validated.
+     *
+     * @return the validation mode
+     */
+    public ValidationMode getValidationMode() {
+        return validationMode;
+    }
+
+    /**
+     * Sets how the parameters of the CloudLinkClient operations are validated. With {@link ValidationMode#FAST},
+     * Bean Validation is skipped for parameters that pass the hand-written checks of the CloudLinkClient. The default
+     * value is {@link ValidationMode#BEAN_VALIDATION}.
+     *
+     * @param validationMode the validation mode
+     * @throws NullPointerException when <code>validationMode</code> is <code>null</code>
+     */
+    public void setValidationMode(ValidationMode validationMode) {
+        this.validationMode = Objects.requireNonNull(validationMode, "validationMode may not be null");
+    }
+
+    /**
+     * Returns the JSON-B configuration that is used for converting objects from and to JSON.
+     *
+     * @return the JSON-B configuration or <code>null</code> when the default configuration is used
+     */
+    public JsonbConfig getJsonbConfig() {
+        return jsonbConfig;
+    }
+
+    /**
+     * Sets the JSON-B configuration that is used for converting objects from and to JSON. The CloudLinkClient creates
+     * a single JSON-B instance with this configuration when the configuration is applied, and closes it when the
+     * client is closed. When no configuration is set, the default JSON-B configuration is used.
+     *
+     * @param jsonbConfig the JSON-B configuration, or <code>null</code> to use the default configuration
+     */
+    public void setJsonbConfig(JsonbConfig jsonbConfig) {
+        this.jsonbConfig = jsonbConfig;
+    }
+
+    /**
+     * Returns the configuration of the near-cache for objects.
+     *
+     * @return the near-cache configuration or <code>null</code> when the near-cache is disabled
+     */
+    public ObjectCacheConfig getObjectCacheConfig() {
+        return objectCacheConfig;
+    }
+
+    /**
+     * Enables the near-cache for objects with the specified configuration. Objects retrieved with
+     * <code>getObject</code> are then kept in memory, and are updated or evicted when they are added, updated or
+     * removed through the same CloudLinkClient. Changes made to the objects by other clients are not visible until
+     * the cached object expires. The near-cache is disabled by default.
+     *
+     * @param objectCacheConfig the near-cache configuration, or <code>null</code> to disable the near-cache
+     */
+    public void setObjectCacheConfig(ObjectCacheConfig objectCacheConfig) {
+        this.objectCacheConfig = objectCacheConfig;
+    }
+
+    /**
+     * Returns the configuration for retrying requests that failed with a transient error.
+     *
+     * @return the retry configuration or <code>null</code> when requests are not retried
+     */
+    public RetryConfig getRetryConfig() {
+        return retryConfig;
+    }
+
+    /**
+     * Enables retrying requests that failed with a transient error, with the specified configuration. Requests are
+     * not retried by default.
+     *
+     * @param retryConfig the retry configuration, or <code>null</code> to disable retries
+     */
+    public void setRetryConfig(RetryConfig retryConfig) {
+        this.retryConfig = retryConfig;
+    }
+
+    /**
+     * Returns the configuration for the circuit breakers that guard the Gluon CloudLink endpoints.
+     *
+     * @return the circuit breaker configuration or <code>null</code> when no circuit breakers are used
+     */
+    public CircuitBreakerConfig getCircuitBreakerConfig() {
+        return circuitBreakerConfig;
+    }
+
+    /**
+     * Enables a circuit breaker for each {@link EndpointFamily}, with the specified configuration. No circuit breakers
+     * are used by default.
+     *
+     * @param circuitBreakerConfig the circuit breaker configuration, or <code>null</code> to disable circuit breakers
+     */
+    public void setCircuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+        this.circuitBreakerConfig = circuitBreakerConfig;
+    }
+
+    /**
+     * Returns the configuration for the client-side rate limiter for push notifications.
+     *
+     * @return the rate limiter configuration or <code>null</code> when push notifications are not rate limited
+     */
+    public RateLimiterConfig getPushRateLimiterConfig() {
+        return pushRateLimiterConfig;
+    }
+
+    /**
+     * Enables a client-side rate limiter for push notifications, with the specified configuration. Push
+     * notifications are not rate limited by default. The rate limiter is shared by all clients with the same server
+     * key, so its configuration cannot be changed once a client with this server key was created.
+     *
+     * @param pushRateLimiterConfig the rate limiter configuration, or <code>null</code> to disable rate limiting
+     */
+    public void setPushRateLimiterConfig(RateLimiterConfig pushRateLimiterConfig) {
+        this.pushRateLimiterConfig = pushRateLimiterConfig;
+    }
+
+    /**
+     * Returns the configuration of the gzip compression of request and response bodies.
+     *
+     * @return the compression configuration or <code>null</code> when bodies are not compressed
+     */
+    public CompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+
+    /**
+     * Enables the gzip compression of request and response bodies with the specified configuration. Compression is
+     * disabled by default.
+     *
+     * @param compressionConfig the compression configuration, or <code>null</code> to disable compression
+     */
+    public void setCompressionConfig(CompressionConfig compressionConfig) {
+        this.compressionConfig = compressionConfig;
+    }
+
+    /**
+     * Returns the listeners that are notified of the lifecycle of every request.
+     *
+     * @return an unmodifiable view of the registered listeners
+     */
+    public List<CloudLinkClientListener> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * Adds a listener that is notified of the lifecycle of every request. Listeners must be added before the
+     * CloudLinkClient is created with this configuration.
+     *
+     * @param listener the listener to add
+     * @throws NullPointerException when <code>listener</code> is <code>null</code>
+     */
+    public void addListener(CloudLinkClientListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener may not be null"));
+    }
+
+    /**
+     * Removes a listener that was added with {@link #addListener(CloudLinkClientListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(CloudLinkClientListener listener) {
+        listeners.remove(listener);
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import java.util.Map;
+
+/**
+ * The management interface of a {@link CloudLinkClient}. It exposes the number of requests that were sent to Gluon
+ * CloudLink, the number of requests that failed, the number of requests that are in flight and the latency
+ * percentiles of each operation. The latency of a request is measured from sending the request until its response
+ * is received, so that it does not include the time spent waiting for a connection or processing the response.
+ *
+ * <p>When a CloudLinkClient is injected with CDI, its management interface is registered in the platform MBean
+ * server under the name <code>com.gluonhq.cloudlink:type=CloudLinkClient,hostname=&lt;hostname&gt;,id=&lt;id&gt;</code>
+ * and unregistered when the CloudLinkClient is disposed.</p>
+ *
+ * @see CloudLinkClient#getMXBean()
+ */
+public interface CloudLinkClientMXBean {
+
+    /**
+     * Returns the number of requests that were sent to Gluon CloudLink over all operations.
+     *
+     * @return the number of requests
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of requests over all operations that failed with an error status code or without a
+     * response.
+     *
+     * @return the number of failed requests
+     */
+    long getErrorCount();
+
+    /**
+     * Returns the number of requests over all operations for which no response has been received yet.
+     *
+     * @return the number of requests in flight
+     */
+    long getInFlightRequests();
+
+    /**
+     * Returns the statistics of each operation of which at least one request was sent, keyed by the name of the
+     * operation, like <code>push</code>, <code>getObject</code> or <code>addToList</code>.
+     *
+     * @return the statistics per operation
+     */
+    Map<String, OperationStatistics> getOperationStatistics();
+}
@@ -72,4 +72,30 @@ public @interface CloudLinkConfig {
     @Nonbinding
     String serverKey();
 
+    /**
+     * Defines how the parameters of the operations of the injected CloudLinkClient are validated.
+     *
+     * @return the validation mode of the injected CloudLinkClient
+     */
+    @Nonbinding
+    ValidationMode validationMode() default ValidationMode.BEAN_VALIDATION;
+
+    /**
+     * Defines on which threads the injected CloudLinkClient sends asynchronous requests.
+     *
+     * @return the execution mode of the injected CloudLinkClient
+     */
+    @Nonbinding
+    ExecutionMode executionMode() default ExecutionMode.PLATFORM_THREADS;
+
+    /**
+     * Defines the built-in transport with which the injected CloudLinkClient sends its requests. When left at
+     * {@link HttpTransport#JAX_RS}, the transport of a registered
+     * {@link com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkTransportProvider} is used instead, if any.
+     *
+     * @return the built-in transport of the injected CloudLinkClient
+     */
+    @Nonbinding
+    HttpTransport httpTransport() default HttpTransport.JAX_RS;
+
 }
@@ -0,0 +1,56 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+/**
+ * The built-in transports with which the {@link CloudLinkClient} sends its requests to Gluon CloudLink, when no
+ * transport is set on its configuration. When no built-in transport is selected either, the transport of a registered
+ * {@link com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkTransportProvider} is used, or else
+ * {@link #JAX_RS}.
+ *
+ * @see CloudLinkClientConfig#setHttpTransport(HttpTransport)
+ */
+public enum HttpTransport {
+
+    /**
+     * Requests are sent with the JAX-RS client of the container. The JAX-RS client is shared by all CloudLinkClient
+     * instances that connect to the same host with the same JAX-RS client configuration.
+     */
+    JAX_RS,
+
+    /**
+     * Requests are sent with the HTTP client of the JDK, which negotiates HTTP/2 with the Gluon CloudLink host and
+     * multiplexes all concurrent requests over a single connection instead of a connection per request. This
+     * requires Java 11 or later. The JAX-RS client configuration of the CloudLinkClient is not used.
+     */
+    JDK_HTTP_CLIENT
+}
@@ -0,0 +1,180 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import java.beans.ConstructorProperties;
+import java.util.Map;
+
+/**
+ * A snapshot of the statistics of a single operation of a {@link CloudLinkClient}. Latencies are expressed in
+ * milliseconds.
+ *
+ * @see CloudLinkClientMXBean
+ */
+public class OperationStatistics {
+
+    private final long requestCount;
+    private final long errorCount;
+    private final long inFlightRequests;
+    private final Map<String, Long> errorCountsByStatus;
+    private final double latencyP50;
+    private final double latencyP90;
+    private final double latencyP99;
+    private final double latencyP999;
+    private final double maxLatency;
+
+    /**
+     * Creates a new snapshot of operation statistics.
+     *
+     * @param requestCount the number of requests that were sent
+     * @param errorCount the number of requests that failed
+     * @param inFlightRequests the number of requests for which no response has been received yet
+     * @param errorCountsByStatus the number of failed requests by http status code
+     * @param latencyP50 the median latency in milliseconds
+     * @param latencyP90 the 90th percentile latency in milliseconds
+     * @param latencyP99 the 99th percentile latency in milliseconds
+     * @param latencyP999 the 99.9th percentile latency in milliseconds
+     * @param maxLatency the maximum latency in milliseconds
+     */
+    @ConstructorProperties({"requestCount", "errorCount", "inFlightRequests", "errorCountsByStatus", "latencyP50",
+            "latencyP90", "latencyP99", "latencyP999", "maxLatency"})
+    public OperationStatistics(long requestCount, long errorCount, long inFlightRequests,
+            Map<String, Long> errorCountsByStatus, double latencyP50, double latencyP90, double latencyP99,
+            double latencyP999, double maxLatency) {
+        this.requestCount = requestCount;
+        this.errorCount = errorCount;
+        this.inFlightRequests = inFlightRequests;
+        this.errorCountsByStatus = errorCountsByStatus;
+        this.latencyP50 = latencyP50;
+        this.latencyP90 = latencyP90;
+        this.latencyP99 = latencyP99;
+        this.latencyP999 = latencyP999;
+        this.maxLatency = maxLatency;
+    }
+
+    /**
+     * Returns the number of requests that were sent.
+     *
+     * @return the number of requests
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns the number of requests that failed with an error status code or without a response.
+     *
+     * @return the number of failed requests
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Returns the number of requests for which no response has been received yet.
+     *
+     * @return the number of requests in flight
+     */
+    public long getInFlightRequests() {
+        return inFlightRequests;
+    }
+
+    /**
+     * Returns the number of failed requests keyed by http status code. Requests that failed without a response, for
+     * instance because of an I/O error, are counted under the key <code>IO_ERROR</code>.
+     *
+     * @return the number of failed requests by status
+     */
+    public Map<String, Long> getErrorCountsByStatus() {
+        return errorCountsByStatus;
+    }
+
+    /**
+     * Returns the median latency in milliseconds.
+     *
+     * @return the 50th percentile latency
+     */
+    public double getLatencyP50() {
+        return latencyP50;
+    }
+
+    /**
+     * Returns the 90th percentile latency in milliseconds.
+     *
+     * @return the 90th percentile latency
+     */
+    public double getLatencyP90() {
+        return latencyP90;
+    }
+
+    /**
+     * Returns the 99th percentile latency in milliseconds.
+     *
+     * @return the 99th percentile latency
+     */
+    public double getLatencyP99() {
+        return latencyP99;
+    }
+
+    /**
+     * Returns the 99.9th percentile latency in milliseconds.
+     *
+     * @return the 99.9th percentile latency
+     */
+    public double getLatencyP999() {
+        return latencyP999;
+    }
+
+    /**
+     * Returns the maximum latency in milliseconds.
+     *
+     * @return the maximum latency
+     */
+    public double getMaxLatency() {
+        return maxLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationStatistics{" +
+                "requestCount=" + requestCount +
+                ", errorCount=" + errorCount +
+                ", inFlightRequests=" + inFlightRequests +
+                ", errorCountsByStatus=" + errorCountsByStatus +
+                ", latencyP50=" + latencyP50 +
+                ", latencyP90=" + latencyP90 +
+                ", latencyP99=" + latencyP99 +
+                ", latencyP999=" + latencyP999 +
+                ", maxLatency=" + maxLatency +
+                '}';
+    }
+}
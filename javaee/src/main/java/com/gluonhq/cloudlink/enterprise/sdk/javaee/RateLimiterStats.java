@@ -0,0 +1,132 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+/**
+ * A snapshot of the statistics of the push notification rate limiter of a {@link CloudLinkClient}. As the rate
+ * limiter is shared by all CloudLinkClient instances that use the same server key, so are its statistics.
+ *
+ * @see RateLimiterConfig
+ */
+public class RateLimiterStats {
+
+    private final long availablePermits;
+    private final long acquiredCount;
+    private final long rejectedCount;
+    private final long totalWaitTime;
+    private final long maxWaitTime;
+
+    /**
+     * Creates a new snapshot of rate limiter statistics.
+     *
+     * @param availablePermits the number of permits that can currently be acquired without waiting
+     * @param acquiredCount the number of permits that were acquired
+     * @param rejectedCount the number of permits that were rejected because none was available
+     * @param totalWaitTime the total time in milliseconds that was spent waiting for permits
+     * @param maxWaitTime the longest time in milliseconds that was spent waiting for a single permit
+     */
+    public RateLimiterStats(long availablePermits, long acquiredCount, long rejectedCount, long totalWaitTime,
+            long maxWaitTime) {
+        this.availablePermits = availablePermits;
+        this.acquiredCount = acquiredCount;
+        this.rejectedCount = rejectedCount;
+        this.totalWaitTime = totalWaitTime;
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    /**
+     * Returns the number of permits that can currently be acquired without waiting.
+     *
+     * @return the number of available permits
+     */
+    public long getAvailablePermits() {
+        return availablePermits;
+    }
+
+    /**
+     * Returns the number of permits that were acquired, either immediately or after waiting.
+     *
+     * @return the number of acquired permits
+     */
+    public long getAcquiredCount() {
+        return acquiredCount;
+    }
+
+    /**
+     * Returns the number of permits that were rejected because none was available, which only happens in the
+     * {@link RateLimiterConfig.AcquireMode#FAIL_FAST} mode.
+     *
+     * @return the number of rejected permits
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * Returns the total time in milliseconds that was spent waiting for permits.
+     *
+     * @return the total wait time in milliseconds
+     */
+    public long getTotalWaitTime() {
+        return totalWaitTime;
+    }
+
+    /**
+     * Returns the average time in milliseconds that was spent waiting for a permit, or <code>0</code> when no
+     * permits were acquired.
+     *
+     * @return the average wait time in milliseconds
+     */
+    public double getAverageWaitTime() {
+        return acquiredCount == 0 ? 0 : (double) totalWaitTime / acquiredCount;
+    }
+
+    /**
+     * Returns the longest time in milliseconds that was spent waiting for a single permit.
+     *
+     * @return the maximum wait time in milliseconds
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiterStats{" +
+                "availablePermits=" + availablePermits +
+                ", acquiredCount=" + acquiredCount +
+                ", rejectedCount=" + rejectedCount +
+                ", totalWaitTime=" + totalWaitTime +
+                ", maxWaitTime=" + maxWaitTime +
+                '}';
+    }
+}
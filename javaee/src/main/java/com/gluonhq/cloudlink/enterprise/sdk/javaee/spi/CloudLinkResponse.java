@@ -0,0 +1,84 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee.spi;
+
+import java.io.InputStream;
+
+/**
+ * A response from Gluon CloudLink, as it is received by a {@link CloudLinkTransport}. The body is read while it is
+ * streamed from the connection, and the response is always closed by the caller, also when the body is not read.
+ */
+public interface CloudLinkResponse extends AutoCloseable {
+
+    /**
+     * Returns the HTTP status code of the response.
+     *
+     * @return the status code
+     */
+    int getStatus();
+
+    /**
+     * Returns the reason phrase of the response status.
+     *
+     * @return the reason phrase, or the standard reason phrase of the status code when the protocol does not
+     * transfer it
+     */
+    String getReasonPhrase();
+
+    /**
+     * Returns the first value of the header with the specified name.
+     *
+     * @param name the case insensitive name of the header
+     * @return the value of the header, or <code>null</code> when the response has no such header
+     */
+    String getHeader(String name);
+
+    /**
+     * Returns the length of the body, as announced by the <code>Content-Length</code> header.
+     *
+     * @return the length of the body, or <code>-1</code> when the length is not known
+     */
+    long getContentLength();
+
+    /**
+     * Returns the body of the response. The body can only be read once.
+     *
+     * @return a stream that reads the body from the connection
+     */
+    InputStream getBody();
+
+    /**
+     * Releases the connection of this response, discarding the part of the body that was not read.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,52 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee.spi;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClientConfig;
+
+/**
+ * Creates the {@link CloudLinkTransport} of a {@link com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClient}.
+ * Providers are looked up with the {@link java.util.ServiceLoader}, by registering the name of the implementation
+ * class in <code>META-INF/services/com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkTransportProvider</code>.
+ * When no transport is set on the configuration, the first provider that is found creates the transport.
+ */
+public interface CloudLinkTransportProvider {
+
+    /**
+     * Creates a new transport for a CloudLinkClient with the specified configuration. The transport is closed when
+     * the CloudLinkClient is closed.
+     *
+     * @param config the configuration of the CloudLinkClient
+     * @return a new transport
+     */
+    CloudLinkTransport create(CloudLinkClientConfig config);
+}
@@ -0,0 +1,178 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClientMXBean;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.OperationStatistics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CloudLinkClientMetrics implements CloudLinkClientMXBean {
+
+    public static final int NO_RESPONSE = 0;
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final OperationMetrics[] operations;
+
+    private volatile ObjectName objectName;
+
+    public CloudLinkClientMetrics() {
+        Operation[] values = Operation.values();
+        this.operations = new OperationMetrics[values.length];
+        for (int i = 0; i < values.length; i++) {
+            operations[i] = new OperationMetrics();
+        }
+    }
+
+    public long requestStarted(Operation operation) {
+        operations[operation.ordinal()].inFlight.increment();
+        return System.nanoTime();
+    }
+
+    public void requestCompleted(Operation operation, long start, int status) {
+        OperationMetrics metrics = operations[operation.ordinal()];
+        metrics.latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        metrics.inFlight.decrement();
+        metrics.requests.increment();
+        if (status == NO_RESPONSE || status >= 400) {
+            metrics.errors.increment();
+            metrics.errorsByStatus.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Registers this MXBean in the platform MBean server. Failing to register must not prevent the client from
+     * being used, so registration errors are ignored.
+     */
+    public void register(String hostname) {
+        try {
+            ObjectName name = new ObjectName("com.gluonhq.cloudlink:type=CloudLinkClient,hostname="
+                    + ObjectName.quote(hostname) + ",id=" + IDS.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            objectName = name;
+        } catch (JMException | SecurityException e) {
+            // the client can still be used without being monitored
+        }
+    }
+
+    public void unregister() {
+        ObjectName name = objectName;
+        if (name != null) {
+            objectName = null;
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            try {
+                mBeanServer.unregisterMBean(name);
+            } catch (JMException | SecurityException e) {
+                // already unregistered
+            }
+        }
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public long getRequestCount() {
+        long count = 0;
+        for (OperationMetrics metrics : operations) {
+            count += metrics.requests.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public long getErrorCount() {
+        long count = 0;
+        for (OperationMetrics metrics : operations) {
+            count += metrics.errors.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public long getInFlightRequests() {
+        long count = 0;
+        for (OperationMetrics metrics : operations) {
+            count += metrics.inFlight.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, OperationStatistics> getOperationStatistics() {
+        Map<String, OperationStatistics> statistics = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            OperationMetrics metrics = operations[operation.ordinal()];
+            if (metrics.requests.sum() > 0 || metrics.inFlight.sum() > 0) {
+                statistics.put(operation.getOperationName(), metrics.snapshot());
+            }
+        }
+        return statistics;
+    }
+
+    private static class OperationMetrics {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder inFlight = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> errorsByStatus = new ConcurrentHashMap<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private OperationStatistics snapshot() {
+            Map<String, Long> errorCountsByStatus = new TreeMap<>();
+            errorsByStatus.forEach((status, count) ->
+                    errorCountsByStatus.put(status == NO_RESPONSE ? "IO_ERROR" : status.toString(), count.sum()));
+
+            long[] percentiles = latency.getValuesAtPercentiles(50, 90, 99, 99.9);
+            return new OperationStatistics(requests.sum(), errors.sum(), inFlight.sum(), errorCountsByStatus,
+                    toMillis(percentiles[0]), toMillis(percentiles[1]), toMillis(percentiles[2]),
+                    toMillis(percentiles[3]), toMillis(latency.getMaxValue()));
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -34,8 +34,10 @@ package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
 import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClientConfig;
 import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkConfig;
 import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClient;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.HttpTransport;
 
 import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Disposes;
 import javax.enterprise.inject.Produces;
 import javax.enterprise.inject.spi.InjectionPoint;
 
@@ -43,11 +45,24 @@ public class CloudLinkClientProvider {
 
     @Produces @CloudLinkConfig(serverKey = "") @Any
     public CloudLinkClient cloudLinkClient(CloudLinkClient client, InjectionPoint injectionPoint) {
-        String hostname = injectionPoint.getAnnotated().getAnnotation(CloudLinkConfig.class).hostname();
-        String serverKey = injectionPoint.getAnnotated().getAnnotation(CloudLinkConfig.class).serverKey();
+        CloudLinkConfig cloudLinkConfig = injectionPoint.getAnnotated().getAnnotation(CloudLinkConfig.class);
+        String hostname = cloudLinkConfig.hostname();
+        String serverKey = cloudLinkConfig.serverKey();
 
         CloudLinkClientConfig config = new CloudLinkClientConfig(hostname, serverKey);
+        config.setValidationMode(cloudLinkConfig.validationMode());
+        config.setExecutionMode(cloudLinkConfig.executionMode());
+        if (cloudLinkConfig.httpTransport() != HttpTransport.JAX_RS) {
+            // the default of the annotation leaves the choice to a registered transport provider
+            config.setHttpTransport(cloudLinkConfig.httpTransport());
+        }
         client.setCloudLinkClientConfig(config);
+        ((CloudLinkClientMetrics) client.getMXBean()).register(hostname);
         return client;
     }
+
+    public void closeCloudLinkClient(@Disposes @CloudLinkConfig(serverKey = "") @Any CloudLinkClient client) {
+        ((CloudLinkClientMetrics) client.getMXBean()).unregister();
+        client.close();
+    }
 }
@@ -31,21 +31,25 @@
  */
 package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
 
-import javax.ws.rs.client.ClientRequestContext;
-import javax.ws.rs.client.ClientRequestFilter;
-import javax.ws.rs.core.HttpHeaders;
-import java.io.IOException;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.CompletableFuture;
 
-public class GluonAuthenticationFilter implements ClientRequestFilter {
+public class CompletableResponseCallback implements InvocationCallback<Response> {
 
-    private final String serverKey;
+    private final CompletableFuture<Response> response = new CompletableFuture<>();
 
-    public GluonAuthenticationFilter(String serverKey) {
-        this.serverKey = serverKey;
+    public CompletableFuture<Response> getResponse() {
+        return response;
     }
 
     @Override
-    public void filter(ClientRequestContext requestContext) throws IOException {
-        requestContext.getHeaders().add(HttpHeaders.AUTHORIZATION, "Gluon " + serverKey);
+    public void completed(Response response) {
+        this.response.complete(response);
+    }
+
+    @Override
+    public void failed(Throwable throwable) {
+        this.response.completeExceptionally(throwable);
     }
 }
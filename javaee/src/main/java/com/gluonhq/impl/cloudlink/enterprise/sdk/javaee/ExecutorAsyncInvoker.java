@@ -0,0 +1,279 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.client.AsyncInvoker;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.InvocationCallback;
+import javax.ws.rs.client.SyncInvoker;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.Response;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * An asynchronous invoker that sends every request as a blocking request on a task of the given executor. With a
+ * virtual thread per task executor, this does not hold on to the threads of the JAX-RS implementation while a
+ * request is in flight.
+ */
+public class ExecutorAsyncInvoker implements AsyncInvoker {
+
+    private final SyncInvoker invoker;
+    private final Executor executor;
+
+    public ExecutorAsyncInvoker(SyncInvoker invoker, Executor executor) {
+        this.invoker = invoker;
+        this.executor = executor;
+    }
+
+    @Override
+    public Future<Response> get() {
+        return method(HttpMethod.GET);
+    }
+
+    @Override
+    public <T> Future<T> get(Class<T> responseType) {
+        return method(HttpMethod.GET, responseType);
+    }
+
+    @Override
+    public <T> Future<T> get(GenericType<T> responseType) {
+        return method(HttpMethod.GET, responseType);
+    }
+
+    @Override
+    public <T> Future<T> get(InvocationCallback<T> callback) {
+        return method(HttpMethod.GET, callback);
+    }
+
+    @Override
+    public Future<Response> put(Entity<?> entity) {
+        return method(HttpMethod.PUT, entity);
+    }
+
+    @Override
+    public <T> Future<T> put(Entity<?> entity, Class<T> responseType) {
+        return method(HttpMethod.PUT, entity, responseType);
+    }
+
+    @Override
+    public <T> Future<T> put(Entity<?> entity, GenericType<T> responseType) {
+        return method(HttpMethod.PUT, entity, responseType);
+    }
+
+    @Override
+    public <T> Future<T> put(Entity<?> entity, InvocationCallback<T> callback) {
+        return method(HttpMethod.PUT, entity, callback);
+    }
+
+    @Override
+    public Future<Response> post(Entity<?> entity) {
+        return method(HttpMethod.POST, entity);
+    }
+
+    @Override
+    public <T> Future<T> post(Entity<?> entity, Class<T> responseType) {
+        return method(HttpMethod.POST, entity, responseType);
+    }
+
+    @Override
+    public <T> Future<T> post(Entity<?> entity, GenericType<T> responseType) {
+        return method(HttpMethod.POST, entity, responseType);
+    }
+
+    @Override
+    public <T> Future<T> post(Entity<?> entity, InvocationCallback<T> callback) {
+        return method(HttpMethod.POST, entity, callback);
+    }
+
+    @Override
+    public Future<Response> delete() {
+        return method(HttpMethod.DELETE);
+    }
+
+    @Override
+    public <T> Future<T> delete(Class<T> responseType) {
+        return method(HttpMethod.DELETE, responseType);
+    }
+
+    @Override
+    public <T> Future<T> delete(GenericType<T> responseType) {
+        return method(HttpMethod.DELETE, responseType);
+    }
+
+    @Override
+    public <T> Future<T> delete(InvocationCallback<T> callback) {
+        return method(HttpMethod.DELETE, callback);
+    }
+
+    @Override
+    public Future<Response> head() {
+        return method(HttpMethod.HEAD);
+    }
+
+    @Override
+    public Future<Response> head(InvocationCallback<Response> callback) {
+        return method(HttpMethod.HEAD, callback);
+    }
+
+    @Override
+    public Future<Response> options() {
+        return method(HttpMethod.OPTIONS);
+    }
+
+    @Override
+    public <T> Future<T> options(Class<T> responseType) {
+        return method(HttpMethod.OPTIONS, responseType);
+    }
+
+    @Override
+    public <T> Future<T> options(GenericType<T> responseType) {
+        return method(HttpMethod.OPTIONS, responseType);
+    }
+
+    @Override
+    public <T> Future<T> options(InvocationCallback<T> callback) {
+        return method(HttpMethod.OPTIONS, callback);
+    }
+
+    @Override
+    public Future<Response> trace() {
+        return method("TRACE");
+    }
+
+    @Override
+    public <T> Future<T> trace(Class<T> responseType) {
+        return method("TRACE", responseType);
+    }
+
+    @Override
+    public <T> Future<T> trace(GenericType<T> responseType) {
+        return method("TRACE", responseType);
+    }
+
+    @Override
+    public <T> Future<T> trace(InvocationCallback<T> callback) {
+        return method("TRACE", callback);
+    }
+
+    @Override
+    public Future<Response> method(String name) {
+        return submit(() -> invoker.method(name), null);
+    }
+
+    @Override
+    public <T> Future<T> method(String name, Class<T> responseType) {
+        return submit(() -> invoker.method(name, responseType), null);
+    }
+
+    @Override
+    public <T> Future<T> method(String name, GenericType<T> responseType) {
+        return submit(() -> invoker.method(name, responseType), null);
+    }
+
+    @Override
+    public <T> Future<T> method(String name, InvocationCallback<T> callback) {
+        Class<T> responseType = responseType(callback);
+        return submit(() -> invoker.method(name, responseType), callback);
+    }
+
+    @Override
+    public Future<Response> method(String name, Entity<?> entity) {
+        return submit(() -> invoker.method(name, entity), null);
+    }
+
+    @Override
+    public <T> Future<T> method(String name, Entity<?> entity, Class<T> responseType) {
+        return submit(() -> invoker.method(name, entity, responseType), null);
+    }
+
+    @Override
+    public <T> Future<T> method(String name, Entity<?> entity, GenericType<T> responseType) {
+        return submit(() -> invoker.method(name, entity, responseType), null);
+    }
+
+    @Override
+    public <T> Future<T> method(String name, Entity<?> entity, InvocationCallback<T> callback) {
+        Class<T> responseType = responseType(callback);
+        return submit(() -> invoker.method(name, entity, responseType), callback);
+    }
+
+    private <T> Future<T> submit(Supplier<T> request, InvocationCallback<T> callback) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                T response;
+                try {
+                    response = request.get();
+                } catch (Throwable t) {
+                    failed(future, callback, t);
+                    return;
+                }
+                future.complete(response);
+                if (callback != null) {
+                    callback.completed(response);
+                }
+            });
+        } catch (RuntimeException e) {
+            failed(future, callback, e);
+        }
+        return future;
+    }
+
+    private static <T> void failed(CompletableFuture<T> future, InvocationCallback<T> callback, Throwable failure) {
+        future.completeExceptionally(failure);
+        if (callback != null) {
+            callback.failed(failure);
+        }
+    }
+
+    /**
+     * Returns the type argument of the callback, like the JAX-RS implementations do.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> responseType(InvocationCallback<T> callback) {
+        for (Type type : callback.getClass().getGenericInterfaces()) {
+            if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == InvocationCallback.class) {
+                Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+                if (argument instanceof Class) {
+                    return (Class<T>) argument;
+                }
+            }
+        }
+        return (Class<T>) Response.class;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public final class FanOut<T, R> {
+
+    private final List<T> inputs;
+    private final Function<T, CompletionStage<R>> task;
+    private final List<CompletableFuture<R>> results;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private FanOut(List<T> inputs, Function<T, CompletionStage<R>> task) {
+        this.inputs = inputs;
+        this.task = task;
+        this.results = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Applies the task to each input, with at most <code>parallelism</code> tasks running at the same time. The
+     * returned future completes when all tasks have completed, with the result of each task in the order of the
+     * inputs. A failing task does not affect the others.
+     */
+    public static <T, R> CompletableFuture<List<CompletableFuture<R>>> execute(List<T> inputs, int parallelism,
+            Function<T, CompletionStage<R>> task) {
+        FanOut<T, R> fanOut = new FanOut<>(inputs, task);
+        int workers = parallelism <= 0 ? inputs.size() : Math.min(parallelism, inputs.size());
+        for (int i = 0; i < workers; i++) {
+            fanOut.startNext();
+        }
+        return CompletableFuture.allOf(fanOut.results.toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, throwable) -> fanOut.results);
+    }
+
+    // tasks that complete immediately are handled in this loop instead of recursively, to keep the stack flat
+    private void startNext() {
+        int index;
+        while ((index = next.getAndIncrement()) < inputs.size()) {
+            CompletableFuture<R> result = results.get(index);
+            CompletableFuture<R> stage;
+            try {
+                stage = task.apply(inputs.get(index)).toCompletableFuture();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                continue;
+            }
+
+            if (stage.isDone()) {
+                complete(result, stage);
+            } else {
+                stage.whenComplete((value, throwable) -> {
+                    complete(result, stage);
+                    startNext();
+                });
+                return;
+            }
+        }
+    }
+
+    private void complete(CompletableFuture<R> result, CompletableFuture<R> stage) {
+        try {
+            result.complete(stage.join());
+        } catch (CompletionException e) {
+            result.completeExceptionally(e.getCause() == null ? e : e.getCause());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
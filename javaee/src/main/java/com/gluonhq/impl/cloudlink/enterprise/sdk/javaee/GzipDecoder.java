@@ -0,0 +1,73 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompresses the body of a response that is compressed with gzip while it is read from the connection.
+ */
+public final class GzipDecoder {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private GzipDecoder() {
+    }
+
+    /**
+     * Returns a stream that reads the specified body decompressed, when the specified content encoding is gzip.
+     * A body that was already decompressed by the HTTP client, which may leave the header in place, is returned as
+     * it is.
+     */
+    public static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (body == null || !"gzip".equalsIgnoreCase(contentEncoding)) {
+            return body;
+        }
+
+        PushbackInputStream input = new PushbackInputStream(body, 2);
+        int first = input.read();
+        int second = first < 0 ? -1 : input.read();
+        if (second >= 0) {
+            input.unread(second);
+        }
+        if (first >= 0) {
+            input.unread(first);
+        }
+        if (first != (GZIPInputStream.GZIP_MAGIC & 0xFF) || second != (GZIPInputStream.GZIP_MAGIC >> 8)) {
+            return input;
+        }
+        return new GZIPInputStream(input, BUFFER_SIZE);
+    }
+}
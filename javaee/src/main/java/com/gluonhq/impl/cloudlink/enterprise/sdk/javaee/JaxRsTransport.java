@@ -0,0 +1,175 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClientConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.ExecutionMode;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkRequest;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkResponse;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkTransport;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Variant;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Sends the requests with the JAX-RS client of the container, which is shared by all CloudLinkClient instances that
+ * connect to the same host with the same JAX-RS client configuration. An I/O failure, which the JAX-RS client reports
+ * as a {@link ProcessingException}, is reported as the {@link IOException} that caused it.
+ */
+public class JaxRsTransport implements CloudLinkTransport {
+
+    private final SharedClient sharedClient;
+    private final Executor requestExecutor;
+
+    public JaxRsTransport(CloudLinkClientConfig config, Configuration clientConfig) {
+        this.sharedClient = SharedClient.acquire(CloudLinkRequestFactory.baseUrl(config), clientConfig,
+                config.getMaxConnectionsPerRoute());
+        this.requestExecutor = config.getExecutionMode() == ExecutionMode.VIRTUAL_THREADS ? VirtualThreads.executor() : null;
+    }
+
+    /**
+     * Returns the connection limiter that is shared by all CloudLinkClient instances that use the same JAX-RS client.
+     */
+    public ConnectionLimiter getConnectionLimiter() {
+        return sharedClient.getConnectionLimiter();
+    }
+
+    @Override
+    public CloudLinkResponse execute(CloudLinkRequest request) throws IOException {
+        try {
+            return new JaxRsResponse(request(request).method(request.getMethod(), entity(request)));
+        } catch (ProcessingException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletionStage<CloudLinkResponse> executeAsync(CloudLinkRequest request) {
+        CompletableResponseCallback callback = new CompletableResponseCallback();
+        try {
+            Invocation.Builder builder = request(request);
+            (requestExecutor == null ? builder.async() : new ExecutorAsyncInvoker(builder, requestExecutor))
+                    .method(request.getMethod(), entity(request), callback);
+        } catch (RuntimeException e) {
+            callback.failed(e);
+        }
+
+        CompletableFuture<CloudLinkResponse> response = new CompletableFuture<>();
+        callback.getResponse().whenComplete((value, throwable) -> {
+            if (value != null) {
+                response.complete(new JaxRsResponse(value));
+            } else if (throwable instanceof ProcessingException && throwable.getCause() instanceof IOException) {
+                response.completeExceptionally(throwable.getCause());
+            } else {
+                response.completeExceptionally(throwable);
+            }
+        });
+        return response;
+    }
+
+    @Override
+    public void close() {
+        sharedClient.release();
+    }
+
+    private Invocation.Builder request(CloudLinkRequest request) {
+        Invocation.Builder builder = sharedClient.getClient().target(request.getUri()).request();
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            builder.header(header.getKey(), header.getValue());
+        }
+        return builder;
+    }
+
+    private static Entity<CloudLinkRequest.Body> entity(CloudLinkRequest request) {
+        CloudLinkRequest.Body body = request.getBody();
+        if (body == null) {
+            return null;
+        }
+        // the content encoding must travel with the entity, otherwise it is reset from the entity variant
+        String encoding = request.getHeaders().get("Content-Encoding");
+        return encoding == null ? Entity.entity(body, body.getContentType())
+                : Entity.entity(body, new Variant(MediaType.valueOf(body.getContentType()), (String) null, encoding));
+    }
+
+    private static class JaxRsResponse implements CloudLinkResponse {
+
+        private final Response response;
+
+        JaxRsResponse(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public int getStatus() {
+            return response.getStatus();
+        }
+
+        @Override
+        public String getReasonPhrase() {
+            return response.getStatusInfo().getReasonPhrase();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return response.getHeaderString(name);
+        }
+
+        @Override
+        public long getContentLength() {
+            return response.getLength();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return response.readEntity(InputStream.class);
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.ObjectData;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Owns the JSON-B and JSON-P runtimes of a CloudLinkClient. Creating a {@link Jsonb} instance is expensive and its
+ * mapping metadata is cached per instance, so a single instance is shared by all operations of the client.
+ *
+ * <p>A codec is never closed: the runtimes only hold memory, which is reclaimed once the client replaced the codec and
+ * the requests that were still decoding their response with it completed.</p>
+ */
+public class JsonCodec {
+
+    private final JsonProvider jsonProvider;
+    private final JsonParserFactory parserFactory;
+    private final Jsonb jsonb;
+
+    public JsonCodec(JsonbConfig jsonbConfig) {
+        this.jsonProvider = JsonProvider.provider();
+        this.parserFactory = jsonProvider.createParserFactory(null);
+        this.jsonb = jsonbConfig == null ? JsonbBuilder.create() : JsonbBuilder.create(jsonbConfig);
+    }
+
+    public <T> T fromJson(String json, Class<T> type) {
+        return jsonb.fromJson(json, type);
+    }
+
+    public <T> T fromJson(InputStream json, Type type) {
+        return jsonb.fromJson(json, type);
+    }
+
+    public String toJson(Object object) {
+        return jsonb.toJson(object);
+    }
+
+    /**
+     * Deserializes the payload of the object data, where a String payload is wrapped in a JSON object.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T fromPayload(ObjectData data, Class<T> objectType) {
+        if (String.class.equals(objectType)) {
+            return (T) jsonb.fromJson(data.getPayload(), StringObject.class).getV();
+        } else {
+            return jsonb.fromJson(data.getPayload(), objectType);
+        }
+    }
+
+    /**
+     * Serializes the object into a payload, where a String is wrapped in a JSON object.
+     */
+    public String toPayload(Object target) {
+        if (String.class.equals(target.getClass())) {
+            return jsonProvider.createObjectBuilder().add("v", (String) target).build().toString();
+        } else {
+            return jsonb.toJson(target);
+        }
+    }
+
+    public JsonParser createParser(InputStream json) {
+        return parserFactory.createParser(json);
+    }
+}
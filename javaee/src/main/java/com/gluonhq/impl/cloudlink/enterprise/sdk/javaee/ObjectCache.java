@@ -0,0 +1,222 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.ObjectCacheConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.ObjectCacheStats;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.ObjectData;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A size-bounded LRU cache of object data with a separate time to live for objects that do not exist. Object data
+ * is copied when it leaves the cache, so that object mappers cannot modify the cached instances.
+ *
+ * <p>A retrieval that was sent before an object was written must not put its older result back in the cache. Every
+ * write therefore takes a new generation, which it records on the entry of the object, and a removed object leaves
+ * an entry without data behind. A retrieval takes the current {@link #generation()} before it is sent, and its
+ * result is only cached by {@link #putRetrieved(String, ObjectData, long)} when the object was not written, evicted
+ * or expired since.</p>
+ */
+public class ObjectCache {
+
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final long negativeTimeToLiveNanos;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long generation;
+    private long removedGeneration;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public ObjectCache(ObjectCacheConfig config) {
+        this.maxEntries = config.getMaxEntries();
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(config.getTimeToLive());
+        this.negativeTimeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(config.getNegativeTimeToLive());
+    }
+
+    public ObjectData get(String objectId) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Entry entry = entries.get(objectId);
+            if (entry != null && entry.expiresAt - now > 0) {
+                if (entry.data != null) {
+                    hitCount.increment();
+                    return copy(entry.data);
+                }
+            } else if (entry != null) {
+                remove(objectId, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * Returns the current generation, to be passed to {@link #putRetrieved(String, ObjectData, long)} with the result
+     * of a retrieval that is sent afterwards.
+     */
+    public long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Caches the result of a write of the object.
+     */
+    public ObjectData put(String objectId, ObjectData data) {
+        lock.lock();
+        try {
+            store(objectId, data, ++generation);
+        } finally {
+            lock.unlock();
+        }
+        return data;
+    }
+
+    /**
+     * Caches the result of a retrieval of the object that was sent at the specified generation, unless the object
+     * was written, evicted or expired since.
+     */
+    public ObjectData putRetrieved(String objectId, ObjectData data, long retrievalGeneration) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(objectId);
+            if (retrievalGeneration >= removedGeneration && (entry == null || entry.generation <= retrievalGeneration)) {
+                store(objectId, data, retrievalGeneration);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return data;
+    }
+
+    public void invalidate(String objectId) {
+        lock.lock();
+        try {
+            store(objectId, null, ++generation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            removedGeneration = ++generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public ObjectCacheStats stats() {
+        int size = 0;
+        lock.lock();
+        try {
+            for (Entry entry : entries.values()) {
+                if (entry.data != null) {
+                    size++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return new ObjectCacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+
+    // an entry without data marks a written object until a retrieval that was sent before the write completes
+    private void store(String objectId, ObjectData data, long entryGeneration) {
+        if (maxEntries <= 0) {
+            return;
+        }
+
+        long timeToLive = data == null ? Math.max(timeToLiveNanos, negativeTimeToLiveNanos)
+                : data.getUid() == null ? negativeTimeToLiveNanos : timeToLiveNanos;
+        if (timeToLive <= 0) {
+            data = null;
+            timeToLive = Math.max(timeToLiveNanos, negativeTimeToLiveNanos);
+        }
+        entries.put(objectId, new Entry(data == null ? null : copy(data), System.nanoTime() + timeToLive, entryGeneration));
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries) {
+            Entry evicted = eldest.next().getValue();
+            eldest.remove();
+            removedGeneration = Math.max(removedGeneration, evicted.generation);
+            if (evicted.data != null) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private void remove(String objectId, Entry entry) {
+        entries.remove(objectId);
+        removedGeneration = Math.max(removedGeneration, entry.generation);
+    }
+
+    private static ObjectData copy(ObjectData data) {
+        ObjectData copy = new ObjectData();
+        copy.setUid(data.getUid());
+        copy.setPayload(data.getPayload());
+        return copy;
+    }
+
+    private static class Entry {
+
+        private final ObjectData data;
+        private final long expiresAt;
+        private final long generation;
+
+        private Entry(ObjectData data, long expiresAt, long generation) {
+            this.data = data;
+            this.expiresAt = expiresAt;
+            this.generation = generation;
+        }
+    }
+}
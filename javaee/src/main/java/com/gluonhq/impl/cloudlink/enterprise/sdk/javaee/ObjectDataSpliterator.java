@@ -0,0 +1,153 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.ObjectData;
+
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Reads the elements of a JSON array of objects one at a time, so that a list never has to be materialized in
+ * memory as a whole.
+ */
+public class ObjectDataSpliterator extends Spliterators.AbstractSpliterator<ObjectData> {
+
+    private final JsonParser parser;
+    private final boolean timed;
+    private boolean started;
+    private boolean finished;
+    private long parseTime;
+
+    public ObjectDataSpliterator(JsonParser parser) {
+        this(parser, false);
+    }
+
+    /**
+     * @param timed whether to keep track of the time spent parsing, excluding the time spent in the consumers
+     */
+    public ObjectDataSpliterator(JsonParser parser, boolean timed) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.parser = parser;
+        this.timed = timed;
+    }
+
+    /**
+     * Returns the time in nanoseconds spent parsing so far, when this spliterator is timed.
+     */
+    public long getParseTime() {
+        return parseTime;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ObjectData> action) {
+        if (finished) {
+            return false;
+        }
+
+        long start = timed ? System.nanoTime() : 0;
+        ObjectData objectData = readNext();
+        if (timed) {
+            parseTime += System.nanoTime() - start;
+        }
+
+        if (objectData == null) {
+            return false;
+        }
+        action.accept(objectData);
+        return true;
+    }
+
+    private ObjectData readNext() {
+        if (!started) {
+            started = true;
+            if (next() != JsonParser.Event.START_ARRAY) {
+                throw new JsonParsingException("Expected the start of an array", parser.getLocation());
+            }
+        }
+
+        JsonParser.Event event = next();
+        if (event == JsonParser.Event.END_ARRAY) {
+            finished = true;
+            return null;
+        } else if (event != JsonParser.Event.START_OBJECT) {
+            throw new JsonParsingException("Expected the start of an object but was " + event, parser.getLocation());
+        }
+
+        return readObjectData();
+    }
+
+    private ObjectData readObjectData() {
+        ObjectData objectData = new ObjectData();
+        JsonParser.Event event;
+        while ((event = next()) == JsonParser.Event.KEY_NAME) {
+            String key = parser.getString();
+            JsonParser.Event value = next();
+            if ("uid".equals(key)) {
+                objectData.setUid(readString(value));
+            } else if ("payload".equals(key)) {
+                objectData.setPayload(readString(value));
+            } else if (value == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+            } else if (value == JsonParser.Event.START_ARRAY) {
+                parser.skipArray();
+            }
+        }
+
+        if (event != JsonParser.Event.END_OBJECT) {
+            throw new JsonParsingException("Expected the end of an object but was " + event, parser.getLocation());
+        }
+        return objectData;
+    }
+
+    private String readString(JsonParser.Event value) {
+        switch (value) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+            case VALUE_NUMBER:
+                return parser.getString();
+            default:
+                throw new JsonParsingException("Expected a string value but was " + value, parser.getLocation());
+        }
+    }
+
+    private JsonParser.Event next() {
+        if (!parser.hasNext()) {
+            throw new JsonParsingException("Unexpected end of JSON input", parser.getLocation());
+        }
+        return parser.next();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClientException;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.RateLimiterConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.RateLimiterStats;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A token bucket, implemented as the generic cell rate algorithm: instead of counting tokens, a single atomic value
+ * keeps the time at which the bucket will be full again, so that a permit is acquired with a single compare-and-set.
+ */
+public class RateLimiter {
+
+    private static final ConcurrentMap<String, RateLimiter> RATE_LIMITERS = new ConcurrentHashMap<>();
+
+    private final double permitsPerSecond;
+    private final int burstSize;
+    private final RateLimiterConfig.AcquireMode acquireMode;
+
+    private final long interval;
+    private final long burstTolerance;
+    private final boolean failFast;
+
+    private final AtomicLong fullAt;
+
+    private final LongAdder acquiredCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    /**
+     * Returns the rate limiter that is shared by all clients using the specified server key, creating it with the
+     * specified configuration when it does not exist yet.
+     *
+     * @throws IllegalStateException when the rate limiter of the server key was created with a different configuration
+     */
+    public static RateLimiter forServerKey(String serverKey, RateLimiterConfig config) {
+        RateLimiter rateLimiter = RATE_LIMITERS.computeIfAbsent(serverKey, key -> new RateLimiter(config));
+        if (rateLimiter.permitsPerSecond != config.getPermitsPerSecond()
+                || rateLimiter.burstSize != config.getBurstSize()
+                || rateLimiter.acquireMode != config.getAcquireMode()) {
+            throw new IllegalStateException("The push rate limiter of this server key was already created with "
+                    + rateLimiter.permitsPerSecond + " permits per second, a burst size of " + rateLimiter.burstSize
+                    + " and acquire mode " + rateLimiter.acquireMode);
+        }
+        return rateLimiter;
+    }
+
+    RateLimiter(RateLimiterConfig config) {
+        if (config.getPermitsPerSecond() <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be greater than 0");
+        }
+        if (config.getBurstSize() <= 0) {
+            throw new IllegalArgumentException("burstSize must be greater than 0");
+        }
+
+        this.permitsPerSecond = config.getPermitsPerSecond();
+        this.burstSize = config.getBurstSize();
+        this.acquireMode = config.getAcquireMode();
+        this.interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / config.getPermitsPerSecond()));
+        this.burstTolerance = interval * config.getBurstSize();
+        this.failFast = acquireMode == RateLimiterConfig.AcquireMode.FAIL_FAST;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    public void acquire() {
+        long wait = reserve();
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CloudLinkClientException(429, "Interrupted while waiting for a push notification permit");
+            }
+        }
+    }
+
+    public CompletableFuture<Void> acquireAsync() {
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        long wait;
+        try {
+            wait = reserve();
+        } catch (CloudLinkClientException e) {
+            permit.completeExceptionally(e);
+            return permit;
+        }
+
+        if (wait > 0) {
+            Scheduler.INSTANCE.schedule(() -> permit.complete(null), wait, TimeUnit.NANOSECONDS);
+        } else {
+            permit.complete(null);
+        }
+        return permit;
+    }
+
+    /**
+     * Reserves a permit and returns the time in nanoseconds to wait before it may be used.
+     */
+    private long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + interval;
+            long wait = next - now - burstTolerance;
+            if (wait > 0 && failFast) {
+                rejectedCount.increment();
+                throw new CloudLinkClientException(429, "Push notification rate limit exceeded", null,
+                        TimeUnit.NANOSECONDS.toMillis(wait) + 1);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                wait = Math.max(0, wait);
+                acquiredCount.increment();
+                if (wait > 0) {
+                    totalWaitTime.add(wait);
+                    maxWaitTime.accumulateAndGet(wait, Math::max);
+                }
+                return wait;
+            }
+        }
+    }
+
+    public RateLimiterStats stats() {
+        long backlog = Math.max(0, fullAt.get() - System.nanoTime());
+        return new RateLimiterStats(Math.max(0, (burstTolerance - backlog) / interval), acquiredCount.sum(),
+                rejectedCount.sum(), TimeUnit.NANOSECONDS.toMillis(totalWaitTime.sum()),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get()));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClientException;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.RetryConfig;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class RetryExecutor {
+
+    private final RetryConfig config;
+    private final Predicate<Throwable> transientFailure;
+
+    /**
+     * @param config the retry configuration, or <code>null</code> to never retry
+     * @param transientFailure tests whether a failure other than an error response is transient, e.g. an I/O error
+     */
+    public RetryExecutor(RetryConfig config, Predicate<Throwable> transientFailure) {
+        this.config = config;
+        this.transientFailure = transientFailure;
+    }
+
+    public <R> R execute(boolean idempotent, Supplier<R> request) {
+        if (config == null || !idempotent) {
+            return request.get();
+        }
+
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return request.get();
+            } catch (RuntimeException e) {
+                long delay = delayBeforeRetry(attempt, e, start);
+                if (delay < 0) {
+                    throw e;
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public <R> CompletableFuture<R> executeAsync(boolean idempotent, Supplier<? extends CompletionStage<R>> request) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        if (config == null || !idempotent) {
+            try {
+                return request.get().toCompletableFuture();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return result;
+            }
+        }
+
+        attemptAsync(1, System.nanoTime(), request, result);
+        return result;
+    }
+
+    private <R> void attemptAsync(int attempt, long start, Supplier<? extends CompletionStage<R>> request,
+            CompletableFuture<R> result) {
+        CompletionStage<R> stage;
+        try {
+            stage = request.get();
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        stage.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+                return;
+            }
+
+            Throwable failure = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable;
+            long delay = delayBeforeRetry(attempt, failure, start);
+            if (delay < 0) {
+                result.completeExceptionally(failure);
+            } else {
+                Scheduler.INSTANCE.schedule(() -> attemptAsync(attempt + 1, start, request, result),
+                        delay, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    /**
+     * Returns the delay in milliseconds before the next attempt, or -1 when the failure must be propagated.
+     */
+    private long delayBeforeRetry(int attempt, Throwable failure, long start) {
+        if (attempt >= config.getMaxAttempts() || !isRetryable(failure)) {
+            return -1;
+        }
+
+        long cap = Math.min(config.getMaxDelay(), config.getBaseDelay() << Math.min(attempt - 1, 30));
+        long delay = cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+        if (failure instanceof CloudLinkClientException) {
+            delay = Math.max(delay, ((CloudLinkClientException) failure).getRetryAfter());
+        }
+
+        if (config.getDeadline() > 0) {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsed + delay > config.getDeadline()) {
+                return -1;
+            }
+        }
+        return delay;
+    }
+
+    private boolean isRetryable(Throwable failure) {
+        if (failure instanceof CloudLinkClientException) {
+            int status = ((CloudLinkClientException) failure).getStatus();
+            return status == 429 || status == 500 || status == 502 || status == 503 || status == 504;
+        }
+        return transientFailure.test(failure);
+    }
+
+    /**
+     * Parses the value of a Retry-After header, which is either a number of seconds or an HTTP date.
+     *
+     * @return the delay in milliseconds, or -1 when the value is absent or invalid
+     */
+    public static long parseRetryAfter(String value) {
+        if (value == null || value.isEmpty()) {
+            return -1;
+        }
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                Instant date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                return Math.max(0, date.toEpochMilli() - System.currentTimeMillis());
+            } catch (DateTimeParseException dtpe) {
+                return -1;
+            }
+        }
+    }
+}
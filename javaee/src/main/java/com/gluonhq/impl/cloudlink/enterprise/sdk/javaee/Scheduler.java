@@ -31,20 +31,20 @@
  */
 package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
 
-import javax.ws.rs.core.Feature;
-import javax.ws.rs.core.FeatureContext;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
-public class GluonAuthenticationFeature implements Feature {
-
-    private final String serverKey;
+/**
+ * Holds the daemon thread that schedules delayed asynchronous work, like retries and rate limited requests.
+ */
+class Scheduler {
 
-    public GluonAuthenticationFeature(String serverKey) {
-        this.serverKey = serverKey;
-    }
+    static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cloudlink-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    @Override
-    public boolean configure(FeatureContext context) {
-        context.register(new GluonAuthenticationFilter(serverKey));
-        return true;
+    private Scheduler() {
     }
 }
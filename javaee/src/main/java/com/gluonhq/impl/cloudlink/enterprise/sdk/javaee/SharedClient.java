@@ -0,0 +1,124 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.core.Configuration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A JAX-RS client that is shared by all CloudLinkClient instances connecting to the same Gluon CloudLink host with
+ * the same JAX-RS client configuration. The authentication is part of the headers of every request, so a single
+ * client and its connection pool can be shared across different server keys. The client is closed when the last
+ * instance releases it.
+ */
+public class SharedClient {
+
+    private static final Map<Key, SharedClient> CLIENTS = new ConcurrentHashMap<>();
+
+    private final Key key;
+    private final Client client;
+    private final ConnectionLimiter connectionLimiter;
+    private int references;
+
+    private SharedClient(Key key) {
+        this.key = key;
+
+        ClientBuilder builder = ClientBuilder.newBuilder();
+        if (key.clientConfig != null) {
+            builder.withConfig(key.clientConfig);
+        }
+        builder.register(new RequestBodyWriter());
+
+        this.client = builder.build();
+        this.connectionLimiter = new ConnectionLimiter(key.maxConnectionsPerRoute);
+    }
+
+    public static SharedClient acquire(String url, Configuration clientConfig, int maxConnectionsPerRoute) {
+        return CLIENTS.compute(new Key(url, clientConfig, maxConnectionsPerRoute), (key, shared) -> {
+            SharedClient sharedClient = shared == null ? new SharedClient(key) : shared;
+            sharedClient.references++;
+            return sharedClient;
+        });
+    }
+
+    public void release() {
+        CLIENTS.computeIfPresent(key, (key, shared) -> {
+            if (shared != this || --references > 0) {
+                return shared;
+            }
+            client.close();
+            return null;
+        });
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public ConnectionLimiter getConnectionLimiter() {
+        return connectionLimiter;
+    }
+
+    private static final class Key {
+
+        private final String url;
+        private final Configuration clientConfig;
+        private final int maxConnectionsPerRoute;
+
+        private Key(String url, Configuration clientConfig, int maxConnectionsPerRoute) {
+            this.url = url;
+            this.clientConfig = clientConfig;
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key that = (Key) o;
+
+            return maxConnectionsPerRoute == that.maxConnectionsPerRoute &&
+                    url.equals(that.url) &&
+                    clientConfig == that.clientConfig;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, System.identityHashCode(clientConfig), maxConnectionsPerRoute);
+        }
+    }
+}
@@ -44,13 +44,14 @@ public class MaxPushNotificationExpirationValidator implements ConstraintValidat
 
     @Override
     public boolean isValid(PushNotification notification, ConstraintValidatorContext context) {
+        if (notification == null || PushNotificationConstraints.hasValidExpiration(notification)) {
+            return true;
+        }
+
         context.disableDefaultConstraintViolation();
         context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
                 .addPropertyNode("expirationAmount")
                 .addConstraintViolation();
-
-        return notification == null || notification.getExpirationType() == null ||
-                (notification.getExpirationAmount() >= 0 &&
-                notification.getExpirationAmount() <= notification.getExpirationType().getMaxAmount());
+        return false;
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.validation;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
+
+import javax.validation.Constraint;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Checks method parameters against their constraint annotations without going through Bean Validation. The checks
+ * for a method are built from its annotations the first time it is validated. Constraints that have no hand-written
+ * check make the parameter fail the check, so that the caller falls back to Bean Validation for it.
+ */
+public final class ParameterConstraints {
+
+    private static final ConcurrentMap<Method, List<Predicate<Object>>> CHECKS = new ConcurrentHashMap<>();
+
+    private ParameterConstraints() {
+    }
+
+    /**
+     * Returns <code>true</code> when the parameters satisfy all constraints of the method, and <code>false</code> when
+     * they violate a constraint or when they could not be checked.
+     */
+    public static boolean isValid(Method method, Object[] parameters) {
+        List<Predicate<Object>> checks = CHECKS.get(method);
+        if (checks == null) {
+            checks = checks(method);
+            CHECKS.putIfAbsent(method, checks);
+        }
+
+        for (int i = 0; i < checks.size(); i++) {
+            if (!checks.get(i).test(parameters[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Predicate<Object>> checks(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        Annotation[][] annotations = method.getParameterAnnotations();
+        List<Predicate<Object>> checks = new ArrayList<>(types.length);
+        for (int i = 0; i < types.length; i++) {
+            Predicate<Object> check = value -> true;
+            for (Annotation annotation : annotations[i]) {
+                check = check.and(check(types[i], annotation));
+            }
+            checks.add(check);
+        }
+        return checks;
+    }
+
+    private static Predicate<Object> check(Class<?> type, Annotation annotation) {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        if (annotationType == NotNull.class) {
+            return value -> value != null;
+        } else if (annotationType == NotEmpty.class) {
+            return ParameterConstraints::isNotEmpty;
+        } else if (annotationType == Valid.class) {
+            if (type == PushNotification.class) {
+                return value -> value == null || PushNotificationConstraints.isValid((PushNotification) value);
+            }
+            return value -> value == null;
+        } else if (annotationType.isAnnotationPresent(Constraint.class)) {
+            return value -> false;
+        }
+        return value -> true;
+    }
+
+    private static boolean isNotEmpty(Object value) {
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() > 0;
+        } else if (value instanceof Collection) {
+            return !((Collection<?>) value).isEmpty();
+        } else if (value instanceof Map) {
+            return !((Map<?, ?>) value).isEmpty();
+        } else if (value != null && value.getClass().isArray()) {
+            return Array.getLength(value) > 0;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.validation;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotificationTarget;
+
+/**
+ * Hand-written checks for the constraints that are declared on {@link PushNotification} and
+ * {@link PushNotificationTarget}. They must be kept in sync with the constraint annotations on both classes.
+ */
+public final class PushNotificationConstraints {
+
+    private PushNotificationConstraints() {
+    }
+
+    public static boolean isValid(PushNotification notification) {
+        return notification.getCustomIdentifier() != null &&
+                notification.getTitle() != null &&
+                notification.getBody() != null &&
+                notification.getDeliveryDate() >= 0 &&
+                notification.getPriority() != null &&
+                notification.getExpirationType() != null &&
+                hasValidExpiration(notification) &&
+                notification.getTarget() != null &&
+                isValid(notification.getTarget());
+    }
+
+    public static boolean isValid(PushNotificationTarget target) {
+        return target.getType() != null &&
+                target.getTopic() != null &&
+                target.getDeviceToken() != null &&
+                invalidTargetProperty(target) == null;
+    }
+
+    /**
+     * @see MaxPushNotificationExpiration
+     */
+    static boolean hasValidExpiration(PushNotification notification) {
+        return notification.getExpirationType() == null ||
+                (notification.getExpirationAmount() >= 0 &&
+                notification.getExpirationAmount() <= notification.getExpirationType().getMaxAmount());
+    }
+
+    /**
+     * Returns the property that is missing for the type of the target.
+     *
+     * @see ValidPushNotificationTarget
+     */
+    static String invalidTargetProperty(PushNotificationTarget target) {
+        if (target.getType() == PushNotificationTarget.Type.TOPIC && isBlank(target.getTopic())) {
+            return "topic";
+        }
+        if (target.getType() == PushNotificationTarget.Type.SINGLE_DEVICE && isBlank(target.getDeviceToken())) {
+            return "deviceToken";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -44,34 +44,19 @@ public class ValidPushNotificationTargetValidator implements ConstraintValidator
 
     @Override
     public boolean isValid(PushNotificationTarget target, ConstraintValidatorContext context) {
-        if (target == null || target.getType() == null || target.getType() == PushNotificationTarget.Type.ALL_DEVICES) {
+        if (target == null) {
             return true;
         }
 
-        PushNotificationTarget.Type type = target.getType();
-        switch (type) {
-            case TOPIC:
-                if (target.getTopic() != null && !target.getTopic().trim().isEmpty()) {
-                    return true;
-                } else {
-                    context.disableDefaultConstraintViolation();
-                    context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
-                            .addPropertyNode("topic")
-                            .addConstraintViolation();
-                    return false;
-                }
-            case SINGLE_DEVICE:
-                if (target.getDeviceToken() != null && !target.getDeviceToken().trim().isEmpty()) {
-                    return true;
-                } else {
-                    context.disableDefaultConstraintViolation();
-                    context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
-                            .addPropertyNode("deviceToken")
-                            .addConstraintViolation();
-                    return false;
-                }
+        String invalidProperty = PushNotificationConstraints.invalidTargetProperty(target);
+        if (invalidProperty == null) {
+            return true;
         }
 
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode(invalidProperty)
+                .addConstraintViolation();
         return false;
     }
 }
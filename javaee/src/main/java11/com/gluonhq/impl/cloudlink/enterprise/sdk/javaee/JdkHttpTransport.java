@@ -0,0 +1,183 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClientConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.ExecutionMode;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkRequest;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkResponse;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.spi.CloudLinkTransport;
+
+import javax.ws.rs.core.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Sends the requests with the HTTP client of the JDK. The client negotiates HTTP/2 with the Gluon CloudLink host, with
+ * ALPN over TLS, and then multiplexes all concurrent requests as streams over a single connection. The body of a
+ * response is handed to the caller as soon as the headers are received, and is read while it arrives.
+ *
+ * <p>Requests to a host without TLS, like a local emulator, are sent with HTTP/1.1, as servers do not agree on the
+ * cleartext upgrade to HTTP/2.</p>
+ *
+ * <p>This class only exists in <code>META-INF/versions/11</code> of the multi-release jar, and is created by
+ * {@link CloudLinkTransports} by name.</p>
+ */
+final class JdkHttpTransport implements CloudLinkTransport {
+
+    private final HttpClient httpClient;
+
+    JdkHttpTransport(CloudLinkClientConfig config) {
+        HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2);
+        if (config.getExecutionMode() == ExecutionMode.VIRTUAL_THREADS) {
+            builder.executor(VirtualThreads.executor());
+        }
+        this.httpClient = builder.build();
+    }
+
+    @Override
+    public CloudLinkResponse execute(CloudLinkRequest request) throws IOException {
+        try {
+            return new JdkResponse(httpClient.send(httpRequest(request), HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while sending " + request.getMethod() + " " + request.getUri());
+        }
+    }
+
+    @Override
+    public CompletionStage<CloudLinkResponse> executeAsync(CloudLinkRequest request) {
+        CompletableFuture<CloudLinkResponse> response = new CompletableFuture<>();
+        HttpRequest httpRequest;
+        try {
+            httpRequest = httpRequest(request);
+        } catch (IOException e) {
+            response.completeExceptionally(e);
+            return response;
+        }
+
+        httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream())
+                .whenComplete((value, throwable) -> {
+                    if (value != null) {
+                        response.complete(new JdkResponse(value));
+                    } else if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                        response.completeExceptionally(throwable.getCause());
+                    } else {
+                        response.completeExceptionally(throwable);
+                    }
+                });
+        return response;
+    }
+
+    private static HttpRequest httpRequest(CloudLinkRequest request) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri());
+        if ("http".equalsIgnoreCase(request.getUri().getScheme())) {
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+        request.getHeaders().forEach(builder::header);
+
+        CloudLinkRequest.Body body = request.getBody();
+        if (body == null) {
+            return builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody()).build();
+        }
+        builder.header("Content-Type", body.getContentType());
+        return builder.method(request.getMethod(), publisher(body)).build();
+    }
+
+    private static HttpRequest.BodyPublisher publisher(CloudLinkRequest.Body body) throws IOException {
+        if (body instanceof ByteArrayBody) {
+            return HttpRequest.BodyPublishers.ofByteArray(((ByteArrayBody) body).getBytes());
+        } else if (body instanceof GzipBody) {
+            // compressed while the client reads it, and opened again when the client resends the request
+            return HttpRequest.BodyPublishers.ofInputStream(((GzipBody) body)::openStream);
+        }
+
+        // the request factory does not create other bodies, which are buffered
+        long length = body.getContentLength();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(length > 0 && length < Integer.MAX_VALUE ? (int) length : 512);
+        body.writeTo(bytes);
+        return HttpRequest.BodyPublishers.ofByteArray(bytes.toByteArray());
+    }
+
+    private static class JdkResponse implements CloudLinkResponse {
+
+        private final HttpResponse<InputStream> response;
+
+        JdkResponse(HttpResponse<InputStream> response) {
+            this.response = response;
+        }
+
+        @Override
+        public int getStatus() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getReasonPhrase() {
+            // HTTP/2 does not transfer a reason phrase
+            Response.Status status = Response.Status.fromStatusCode(response.statusCode());
+            return status == null ? "" : status.getReasonPhrase();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return response.headers().firstValue(name).orElse(null);
+        }
+
+        @Override
+        public long getContentLength() {
+            return response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return response.body();
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.body().close();
+            } catch (IOException e) {
+                // the stream of the response is reset by the client
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void circuitBreakerOpensAndCloses() throws Exception {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                requests.incrementAndGet();
+                if (failing.get()) {
+                    request.response().setStatusCode(503).end();
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            List<String> transitions = new CopyOnWriteArrayList<>();
+            CloudLinkClientConfig config = buildConfig();
+            config.getCircuitBreakerConfig().setListener((endpointFamily, from, to) ->
+                    transitions.add(endpointFamily + ":" + from + "->" + to));
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            for (int i = 0; i < 4; i++) {
+                try {
+                    client.getObject("sample", String.class);
+                    fail("CloudLinkClientException must be thrown.");
+                } catch (CloudLinkClientException e) {
+                    assertEquals(503, e.getStatus());
+                }
+            }
+            assertEquals(CircuitBreakerState.OPEN, client.getCircuitBreakerState(EndpointFamily.OBJECT));
+            assertEquals(CircuitBreakerState.CLOSED, client.getCircuitBreakerState(EndpointFamily.PUSH));
+
+            try {
+                client.getObjectAsync("sample", String.class).toCompletableFuture().get(10, TimeUnit.SECONDS);
+                fail("CloudLinkClientException must be thrown.");
+            } catch (ExecutionException e) {
+                assertEquals(CloudLinkClientException.CIRCUIT_OPEN, ((CloudLinkClientException) e.getCause()).getStatus());
+            }
+            assertEquals(4, requests.get());
+
+            failing.set(false);
+            TimeUnit.MILLISECONDS.sleep(300);
+
+            assertEquals("value", client.getObject("sample", String.class));
+            assertEquals(CircuitBreakerState.CLOSED, client.getCircuitBreakerState(EndpointFamily.OBJECT));
+            assertEquals(Arrays.asList("OBJECT:CLOSED->OPEN", "OBJECT:OPEN->HALF_OPEN", "OBJECT:HALF_OPEN->CLOSED"),
+                    transitions);
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void clientErrorsDoNotOpenCircuitBreaker() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> request.response().setStatusCode(400).end());
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig());
+
+            for (int i = 0; i < 8; i++) {
+                try {
+                    client.getList("sample", String.class);
+                    fail("CloudLinkClientException must be thrown.");
+                } catch (CloudLinkClientException e) {
+                    assertEquals(400, e.getStatus());
+                }
+            }
+            assertEquals(CircuitBreakerState.CLOSED, client.getCircuitBreakerState(EndpointFamily.LIST));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void outcomeOfCallAdmittedBeforeOpeningIsNoProbe() throws Exception {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.path().endsWith("/slow")) {
+                    Vertx.currentContext().owner().setTimer(800, id -> request.response().setStatusCode(200)
+                            .end("{\"uid\":\"slow\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}"));
+                } else if (request.path().endsWith("/probe")) {
+                    Vertx.currentContext().owner().setTimer(1500, id -> request.response().setStatusCode(503).end());
+                } else {
+                    request.response().setStatusCode(503).end();
+                }
+            });
+
+            List<String> transitions = new CopyOnWriteArrayList<>();
+            CloudLinkClientConfig config = buildConfig();
+            config.getCircuitBreakerConfig().setListener((endpointFamily, from, to) -> transitions.add(from + "->" + to));
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            CompletableFuture<String> slow = client.getObjectAsync("slow", String.class).toCompletableFuture();
+            for (int i = 0; i < 4; i++) {
+                try {
+                    client.getObject("failing", String.class);
+                    fail("CloudLinkClientException must be thrown.");
+                } catch (CloudLinkClientException e) {
+                    assertEquals(503, e.getStatus());
+                }
+            }
+            assertEquals(CircuitBreakerState.OPEN, client.getCircuitBreakerState(EndpointFamily.OBJECT));
+
+            TimeUnit.MILLISECONDS.sleep(300);
+            CompletableFuture<String> probe = client.getObjectAsync("probe", String.class).toCompletableFuture();
+            TimeUnit.MILLISECONDS.sleep(100);
+            assertEquals(CircuitBreakerState.HALF_OPEN, client.getCircuitBreakerState(EndpointFamily.OBJECT));
+            try {
+                client.getObject("failing", String.class);
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(CloudLinkClientException.CIRCUIT_OPEN, e.getStatus());
+            }
+
+            // the slow call was admitted while the circuit breaker was closed, so its success does not close it
+            assertEquals("value", slow.get(10, TimeUnit.SECONDS));
+            assertEquals(CircuitBreakerState.HALF_OPEN, client.getCircuitBreakerState(EndpointFamily.OBJECT));
+
+            try {
+                probe.get(10, TimeUnit.SECONDS);
+                fail("CloudLinkClientException must be thrown.");
+            } catch (ExecutionException e) {
+                assertEquals(503, ((CloudLinkClientException) e.getCause()).getStatus());
+            }
+            assertEquals(CircuitBreakerState.OPEN, client.getCircuitBreakerState(EndpointFamily.OBJECT));
+            assertEquals(Arrays.asList("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN"), transitions);
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void streamListIsGuardedByCircuitBreaker() {
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                requests.incrementAndGet();
+                request.response().setStatusCode(503).end();
+            });
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig());
+
+            for (int i = 0; i < 4; i++) {
+                try {
+                    client.streamList("sample", String.class).close();
+                    fail("CloudLinkClientException must be thrown.");
+                } catch (CloudLinkClientException e) {
+                    assertEquals(503, e.getStatus());
+                }
+            }
+            assertEquals(CircuitBreakerState.OPEN, client.getCircuitBreakerState(EndpointFamily.LIST));
+
+            try {
+                client.streamList("sample", String.class).close();
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(CloudLinkClientException.CIRCUIT_OPEN, e.getStatus());
+            }
+            assertEquals(4, requests.get());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    private CloudLinkClientConfig buildConfig() {
+        CircuitBreakerConfig circuitBreakerConfig = new CircuitBreakerConfig();
+        circuitBreakerConfig.setSlidingWindowSize(4);
+        circuitBreakerConfig.setMinimumNumberOfCalls(4);
+        circuitBreakerConfig.setWaitDurationInOpenState(200);
+        circuitBreakerConfig.setPermittedCallsInHalfOpenState(1);
+
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+        config.setCircuitBreakerConfig(circuitBreakerConfig);
+        return config;
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+}
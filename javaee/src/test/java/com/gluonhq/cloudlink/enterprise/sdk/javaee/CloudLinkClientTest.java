@@ -123,6 +123,38 @@ public class CloudLinkClientTest {
         }
     }
 
+    @Test
+    public void testAuthenticationWithSharedClient() {
+        String serverKey1 = UUID.randomUUID().toString();
+        String serverKey2 = UUID.randomUUID().toString();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                String authorization = request.getHeader("authorization");
+                request.response().setStatusCode(200)
+                        .end("{\"identifier\":\"" + authorization.substring("Gluon ".length()) + "\"}");
+            });
+
+            CloudLinkClientConfig config1 = new CloudLinkClientConfig("http://localhost:45010", serverKey1);
+            config1.setMaxConnectionsPerRoute(1);
+            CloudLinkClientConfig config2 = new CloudLinkClientConfig("http://localhost:45010", serverKey2);
+            config2.setMaxConnectionsPerRoute(1);
+
+            try (CloudLinkClient client1 = new CloudLinkClient(config1);
+                 CloudLinkClient client2 = new CloudLinkClient(config2)) {
+                for (int i = 0; i < 3; i++) {
+                    Assert.assertEquals(serverKey1, client1.sendPushNotification(buildPushNotification()).getIdentifier());
+                    Assert.assertEquals(serverKey2, client2.sendPushNotification(buildPushNotification()).getIdentifier());
+                }
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
     private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
         HttpServerResponse httpServerResponse = new HttpServerResponse();
 
@@ -0,0 +1,179 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+public class CompressionTest {
+
+    private static final String LARGE_VALUE = String.join("", Collections.nCopies(200, "compressible "));
+
+    @Test
+    public void largeRequestBodiesAreCompressed() {
+        HttpServer httpServer = null;
+        try {
+            Map<String, String> received = new ConcurrentHashMap<>();
+            httpServer = startHttpServer(request -> request.bodyHandler(body -> {
+                String encoding = request.getHeader("Content-Encoding");
+                String payload = "gzip".equals(encoding) ? gunzip(body.getBytes()) : body.toString(StandardCharsets.UTF_8);
+                received.put(request.path(), (encoding == null ? "identity" : encoding) + " " + payload);
+                request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{}\"}");
+            }));
+
+            try (CloudLinkClient client = new CloudLinkClient(buildConfig())) {
+                client.addObject("large", LARGE_VALUE);
+                client.updateObject("small", "small");
+            }
+
+            assertEquals("gzip {\"v\":\"" + LARGE_VALUE + "\"}", received.get("/3/data/enterprise/object/large/add"));
+            assertEquals("identity {\"v\":\"small\"}", received.get("/3/data/enterprise/object/small/update"));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void compressedResponsesAreDecompressed() {
+        HttpServer httpServer = null;
+        try {
+            String list = Stream.of("first", "second")
+                    .map(value -> "{\"uid\":\"" + value + "\",\"payload\":\"\\\"" + value + "\\\"\"}")
+                    .collect(Collectors.joining(",", "[", "]"));
+            httpServer = startHttpServer(request -> {
+                if ("gzip".equals(request.getHeader("Accept-Encoding"))) {
+                    request.response().setStatusCode(200)
+                            .putHeader("Content-Encoding", "gzip")
+                            .end(Buffer.buffer(gzip(list)));
+                } else {
+                    request.response().setStatusCode(406).end();
+                }
+            });
+
+            try (CloudLinkClient client = new CloudLinkClient(buildConfig())) {
+                assertEquals(Arrays.asList("first", "second"), client.getList("sample", String.class));
+                try (Stream<String> stream = client.streamList("sample", String.class)) {
+                    assertEquals("first,second", stream.collect(Collectors.joining(",")));
+                }
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    private CloudLinkClientConfig buildConfig() {
+        CompressionConfig compressionConfig = new CompressionConfig();
+        compressionConfig.setMinRequestSize(1024);
+
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+        config.setCompressionConfig(compressionConfig);
+        return config;
+    }
+
+    private static byte[] gzip(String value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String gunzip(byte[] value) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = gzip.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+}
@@ -31,6 +31,7 @@
  */
 package com.gluonhq.cloudlink.enterprise.sdk.javaee;
 
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.ObjectData;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
@@ -42,13 +43,29 @@ import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.config.PropertyNamingStrategy;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -131,6 +148,213 @@ public class DataTest {
         }
     }
 
+    @Test
+    public void getObjectWithJsonbConfig() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                JsonObject payload = Json.createObjectBuilder().add("Foo", "bar").add("Zee", 1).build();
+                request.response().setStatusCode(200)
+                        .end(Json.createObjectBuilder().add("uid", "sample").add("payload", payload.toString()).build().toString());
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setJsonbConfig(new JsonbConfig().withPropertyNamingStrategy(PropertyNamingStrategy.UPPER_CAMEL_CASE));
+            try (CloudLinkClient client = new CloudLinkClient(config)) {
+                Sample sample = client.getObject("sample", Sample.class);
+                assertEquals("bar", sample.getFoo());
+                assertEquals(1, sample.getZee());
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getObjectWithCache() {
+        AtomicInteger getRequests = new AtomicInteger();
+        AtomicReference<String> storedPayload = new AtomicReference<>();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> request.bodyHandler(body -> {
+                if (request.method() == HttpMethod.GET) {
+                    getRequests.incrementAndGet();
+                } else if (request.path().endsWith("/remove")) {
+                    storedPayload.set(null);
+                } else {
+                    storedPayload.set(body.toString());
+                }
+
+                String payload = storedPayload.get();
+                request.response().setStatusCode(200).end(payload == null ? "{}"
+                        : Json.createObjectBuilder().add("uid", "sample").add("payload", payload).build().toString());
+            }));
+
+            ObjectCacheConfig objectCacheConfig = new ObjectCacheConfig();
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setObjectCacheConfig(objectCacheConfig);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            Sample sample = new Sample();
+            sample.setFoo("bar");
+            sample.setZee(1);
+            client.addObject("sample", sample);
+            assertEquals("bar", client.getObject("sample", Sample.class).getFoo());
+
+            sample.setFoo("baz");
+            client.updateObject("sample", sample);
+            assertEquals("baz", client.getObject("sample", Sample.class).getFoo());
+            assertEquals(0, getRequests.get());
+
+            client.removeObject("sample");
+            assertNull(client.getObject("sample", Sample.class));
+            assertNull(client.getObject("sample", Sample.class));
+            assertEquals(1, getRequests.get());
+
+            ObjectCacheStats stats = client.getObjectCacheStats();
+            assertEquals(3, stats.getHitCount());
+            assertEquals(1, stats.getMissCount());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getObjectInFlightDoesNotOverwriteUpdate() throws Exception {
+        AtomicReference<String> storedPayload = new AtomicReference<>("{\"foo\":\"old\",\"zee\":1}");
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startSlowReadServer(storedPayload);
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setObjectCacheConfig(new ObjectCacheConfig());
+            try (CloudLinkClient client = new CloudLinkClient(config)) {
+                CompletableFuture<Sample> inFlight = client.getObjectAsync("sample", Sample.class).toCompletableFuture();
+                Thread.sleep(100);
+
+                Sample sample = new Sample();
+                sample.setFoo("new");
+                client.updateObject("sample", sample);
+
+                assertEquals("old", inFlight.get(10, TimeUnit.SECONDS).getFoo());
+                assertEquals("new", client.getObject("sample", Sample.class).getFoo());
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getObjectAfterUpdateDoesNotJoinRequestInFlight() throws Exception {
+        AtomicReference<String> storedPayload = new AtomicReference<>("{\"foo\":\"old\",\"zee\":1}");
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startSlowReadServer(storedPayload);
+
+            try (CloudLinkClient client = new CloudLinkClient(new CloudLinkClientConfig("http://localhost:45010", ""))) {
+                CompletableFuture<Sample> inFlight = client.getObjectAsync("sample", Sample.class).toCompletableFuture();
+                Thread.sleep(100);
+
+                Sample sample = new Sample();
+                sample.setFoo("new");
+                client.updateObject("sample", sample);
+
+                assertEquals("new", client.getObject("sample", Sample.class).getFoo());
+                assertEquals("old", inFlight.get(10, TimeUnit.SECONDS).getFoo());
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    /**
+     * Starts a server that answers retrievals after 500 milliseconds with the payload that was stored when the
+     * retrieval was received, and that stores the payload of updates immediately.
+     */
+    private HttpServer startSlowReadServer(AtomicReference<String> storedPayload) {
+        return startHttpServer(request -> request.bodyHandler(body -> {
+            if (request.method() == HttpMethod.GET) {
+                String payload = storedPayload.get();
+                Vertx.currentContext().owner().setTimer(500, id -> request.response().setStatusCode(200)
+                        .end(Json.createObjectBuilder().add("uid", "sample").add("payload", payload).build().toString()));
+            } else {
+                storedPayload.set(body.toString());
+                request.response().setStatusCode(200)
+                        .end(Json.createObjectBuilder().add("uid", "sample").add("payload", body.toString()).build().toString());
+            }
+        }));
+    }
+
+    @Test
+    public void getObjectCoalescesConcurrentRequests() throws Exception {
+        AtomicInteger getRequests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            httpServer = startHttpServer(request -> {
+                getRequests.incrementAndGet();
+                Vertx.currentContext().owner().setTimer(500, id -> request.response().setStatusCode(200)
+                        .end("{\"uid\":\"sample\",\"payload\":\"{\\\"foo\\\":\\\"bar\\\",\\\"zee\\\":1}\"}"));
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            List<Future<Sample>> samples = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                samples.add(executorService.submit(() -> client.getObject("sample", Sample.class)));
+            }
+            for (Future<Sample> sample : samples) {
+                assertEquals("bar", sample.get(10, TimeUnit.SECONDS).getFoo());
+            }
+            assertEquals(1, getRequests.get());
+        } finally {
+            executorService.shutdown();
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void objectInFlightIsDecodedAfterClose() throws Exception {
+        HttpServer httpServer = null;
+        CloudLinkClient other = null;
+        try {
+            httpServer = startHttpServer(request -> Vertx.currentContext().owner().setTimer(500, id -> {
+                JsonObject payload = Json.createObjectBuilder().add("foo", "bar").add("zee", 1).build();
+                request.response().setStatusCode(200)
+                        .end(Json.createObjectBuilder().add("uid", "sample").add("payload", payload.toString()).build().toString());
+            }));
+
+            // the second client keeps the shared JAX-RS client open while the first one is closed
+            other = new CloudLinkClient(new CloudLinkClientConfig("http://localhost:45010", ""));
+            CloudLinkClient client = new CloudLinkClient(new CloudLinkClientConfig("http://localhost:45010", ""));
+            CompletableFuture<Sample> sample = client.getObjectAsync("sample", Sample.class).toCompletableFuture();
+            client.close();
+            assertEquals("bar", sample.get(10, TimeUnit.SECONDS).getFoo());
+        } finally {
+            if (other != null) {
+                other.close();
+            }
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
     @Test
     public void addObject() {
         String identifier = UUID.randomUUID().toString();
@@ -286,6 +510,142 @@ public class DataTest {
         }
     }
 
+    @Test
+    public void getListAfterAddToListDoesNotJoinRequestInFlight() throws Exception {
+        List<String> storedPayloads = new CopyOnWriteArrayList<>(Collections.singletonList("{\"foo\":\"old\",\"zee\":1}"));
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> request.bodyHandler(body -> {
+                if (request.method() == HttpMethod.GET) {
+                    JsonArrayBuilder builder = Json.createArrayBuilder();
+                    storedPayloads.forEach(payload -> builder.add(Json.createObjectBuilder().add("payload", payload)));
+                    String list = builder.build().toString();
+                    Vertx.currentContext().owner().setTimer(500, id -> request.response().setStatusCode(200).end(list));
+                } else {
+                    storedPayloads.add(body.toString());
+                    request.response().setStatusCode(200)
+                            .end(Json.createObjectBuilder().add("uid", "new").add("payload", body.toString()).build().toString());
+                }
+            }));
+
+            try (CloudLinkClient client = new CloudLinkClient(new CloudLinkClientConfig("http://localhost:45010", ""))) {
+                CompletableFuture<List<Sample>> inFlight = client.getListAsync("samples", Sample.class).toCompletableFuture();
+                Thread.sleep(100);
+
+                Sample sample = new Sample();
+                sample.setFoo("new");
+                client.addToList("samples", "new", sample);
+
+                assertEquals(Arrays.asList("old", "new"), client.getList("samples", Sample.class).stream()
+                        .map(Sample::getFoo).collect(Collectors.toList()));
+                assertEquals(1, inFlight.get(10, TimeUnit.SECONDS).size());
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void streamList() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                JsonArrayBuilder builder = Json.createArrayBuilder();
+                IntStream.of(1, 2, 3).forEach(i -> builder.add(Json.createObjectBuilder()
+                        .add("uid", "uid_" + i)
+                        .add("meta", Json.createObjectBuilder().add("tags", Json.createArrayBuilder().add("a")))
+                        .add("payload", Json.createObjectBuilder().add("foo", "bar_" + i).add("zee", i).build().toString())
+                ));
+                request.response().setStatusCode(200).end(builder.build().toString());
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setMaxConnectionsPerRoute(1);
+            try (CloudLinkClient client = new CloudLinkClient(config)) {
+                try (Stream<String> uids = client.streamList("list", ObjectData::getUid)) {
+                    assertEquals(Arrays.asList("uid_1", "uid_2", "uid_3"), uids.collect(Collectors.toList()));
+                }
+
+                List<Sample> samples = new ArrayList<>();
+                client.forEachInList("list", Sample.class, samples::add);
+                assertEquals(3, samples.size());
+                IntStream.of(0, 1, 2).forEach(i -> {
+                    assertEquals("bar_" + (i + 1), samples.get(i).getFoo());
+                    assertEquals(i + 1, samples.get(i).getZee());
+                });
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getObjectAsync() throws InterruptedException {
+        String identifier = UUID.randomUUID().toString();
+
+        HttpServer httpServer = null;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            httpServer = startHttpServer(request -> {
+                String payload = Json.createObjectBuilder()
+                        .add("foo", "bar")
+                        .add("zee", "1")
+                        .build().toString();
+                request.response().setStatusCode(200)
+                        .end(Json.createObjectBuilder()
+                                .add("uid", identifier)
+                                .add("payload", payload)
+                                .build().toString());
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setLogLevel(Level.FINE);
+            config.setExecutor(executor);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            Sample sample = client.getObjectAsync(identifier, Sample.class).toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertNotNull(sample);
+            assertEquals("bar", sample.getFoo());
+            assertEquals(1, sample.getZee());
+        } catch (ExecutionException | TimeoutException e) {
+            fail(e.getMessage());
+        } finally {
+            executor.shutdown();
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getListAsyncWithErrorResponse() throws InterruptedException, TimeoutException {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> request.response().setStatusCode(503).end("Unavailable"));
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setLogLevel(Level.FINE);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            client.getListAsync(UUID.randomUUID().toString(), Sample.class).toCompletableFuture().get(10, TimeUnit.SECONDS);
+            fail("Expected CloudLinkClientException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CloudLinkClientException);
+            CloudLinkClientException exception = (CloudLinkClientException) e.getCause();
+            assertEquals(503, exception.getStatus());
+            assertEquals("Unavailable", exception.getBody());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
     private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
         HttpServerResponse httpServerResponse = new HttpServerResponse();
 
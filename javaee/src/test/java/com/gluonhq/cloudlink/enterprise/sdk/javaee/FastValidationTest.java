@@ -0,0 +1,183 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotificationTarget;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.validation.ParameterConstraints;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.validation.PushNotificationConstraints;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class FastValidationTest {
+
+    private Validator validator;
+
+    @Before
+    public void before() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Test
+    public void pushNotificationChecksMatchBeanValidation() {
+        for (PushNotification notification : notifications()) {
+            Assert.assertEquals(notification.toString(), validator.validate(notification).isEmpty(),
+                    PushNotificationConstraints.isValid(notification));
+        }
+    }
+
+    @Test
+    public void parameterChecksMatchBeanValidation() {
+        CloudLinkClient client = new CloudLinkClient();
+        for (Method method : CloudLinkClient.class.getDeclaredMethods()) {
+            if (!Modifier.isPublic(method.getModifiers())) {
+                continue;
+            }
+
+            for (Object[] parameters : parameters(method.getParameterTypes(), 0)) {
+                Assert.assertEquals(method + " " + Arrays.toString(parameters),
+                        validator.forExecutables().validateParameters(client, method, parameters).isEmpty(),
+                        ParameterConstraints.isValid(method, parameters));
+            }
+        }
+    }
+
+    @Test
+    public void fastModeReportsConstraintViolations() {
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+        config.setValidationMode(ValidationMode.FAST);
+        CloudLinkClient client = new CloudLinkClient(config);
+
+        PushNotification notification = new PushNotification();
+        notification.setExpirationType(PushNotification.ExpirationType.HOURS);
+        notification.setExpirationAmount(25);
+
+        BulkPushResult result = client.sendPushNotifications(Collections.singletonList(notification));
+
+        Assert.assertEquals(1, result.getFailureCount());
+        ConstraintViolationException failure = (ConstraintViolationException) result.getItems().get(0).getFailure();
+        Assert.assertEquals("expirationAmount",
+                failure.getConstraintViolations().iterator().next().getPropertyPath().toString());
+    }
+
+    private List<Object[]> parameters(Class<?>[] types, int index) {
+        List<Object[]> combinations = new ArrayList<>();
+        if (index == types.length) {
+            combinations.add(new Object[types.length]);
+            return combinations;
+        }
+
+        for (Object[] rest : parameters(types, index + 1)) {
+            for (Object value : values(types[index])) {
+                Object[] combination = rest.clone();
+                combination[index] = value;
+                combinations.add(combination);
+            }
+        }
+        return combinations;
+    }
+
+    private List<Object> values(Class<?> type) {
+        if (type == String.class) {
+            return Arrays.asList(null, "", " ", "id");
+        } else if (type == PushNotification.class) {
+            List<Object> values = new ArrayList<>(notifications());
+            values.add(null);
+            return values;
+        } else if (type == EndpointFamily.class) {
+            return Arrays.asList(null, EndpointFamily.PUSH);
+        } else if (type.isPrimitive()) {
+            return Collections.singletonList(type == boolean.class ? Boolean.TRUE : 0);
+        } else if (type == Class.class) {
+            return Arrays.asList(null, String.class);
+        } else if (type == Object.class) {
+            return Arrays.asList(null, "sample");
+        } else if (type.isInterface()) {
+            return Arrays.asList(null, Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                    (proxy, method, args) -> null));
+        }
+        return Collections.singletonList(null);
+    }
+
+    private List<PushNotification> notifications() {
+        List<PushNotification> notifications = new ArrayList<>();
+        notifications.add(new PushNotification());
+        notifications.add(notification(n -> n.setTitle(null)));
+        notifications.add(notification(n -> n.setBody(null)));
+        notifications.add(notification(n -> n.setCustomIdentifier(null)));
+        notifications.add(notification(n -> n.setPriority(null)));
+        notifications.add(notification(n -> n.setDeliveryDate(-1)));
+        notifications.add(notification(n -> n.setExpirationType(null)));
+        notifications.add(notification(n -> n.setExpirationAmount(-1)));
+        notifications.add(notification(n -> n.setExpirationAmount(5)));
+        notifications.add(notification(n -> {
+            n.setExpirationType(PushNotification.ExpirationType.MINUTES);
+            n.setExpirationAmount(60);
+        }));
+        notifications.add(notification(n -> n.setTarget(null)));
+        notifications.add(notification(n -> n.getTarget().setType(null)));
+        notifications.add(notification(n -> n.getTarget().setTopic(null)));
+        notifications.add(notification(n -> n.getTarget().setType(PushNotificationTarget.Type.TOPIC)));
+        notifications.add(notification(n -> {
+            n.getTarget().setType(PushNotificationTarget.Type.TOPIC);
+            n.getTarget().setTopic("topic");
+        }));
+        notifications.add(notification(n -> {
+            n.getTarget().setType(PushNotificationTarget.Type.SINGLE_DEVICE);
+            n.getTarget().setDeviceToken("  ");
+        }));
+        notifications.add(notification(n -> {
+            n.getTarget().setType(PushNotificationTarget.Type.SINGLE_DEVICE);
+            n.getTarget().setDeviceToken("token");
+        }));
+        return notifications;
+    }
+
+    private PushNotification notification(Consumer<PushNotification> customizer) {
+        PushNotification notification = new PushNotification();
+        customizer.accept(notification);
+        return notification;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class ListenerTest {
+
+    @Test
+    public void listenersAreNotifiedOfTheRequestLifecycle() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.path().contains("/list/")) {
+                    request.response().setStatusCode(404).end();
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            RecordingListener listener = new RecordingListener();
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.addListener(listener);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            assertEquals("value", client.getObject("sample", String.class));
+            assertEquals(4, listener.events.size());
+            assertEquals("requestStarted getObject OBJECT null sample", listener.events.get(0));
+            assertEquals("requestSent 0", listener.events.get(1));
+            assertEquals("responseReceived 200", listener.events.get(2));
+            assertEquals("decodeFinished true", listener.events.get(3));
+
+            listener.events.clear();
+            try {
+                client.addToList("missing", "sample", "value");
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(404, e.getStatus());
+            }
+            assertEquals(4, listener.events.size());
+            assertEquals("requestStarted addToList LIST missing sample", listener.events.get(0));
+            assertTrue(listener.events.get(1), listener.events.get(1).matches("requestSent [1-9][0-9]*"));
+            assertEquals("responseReceived 404", listener.events.get(2));
+            assertEquals("requestFailed CloudLinkClientException", listener.events.get(3));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void failingListenersDoNotFailRequests() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request ->
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}"));
+
+            RecordingListener listener = new RecordingListener();
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.addListener(new CloudLinkClientListener() {
+                @Override
+                public void requestStarted(CloudLinkRequestContext request) {
+                    throw new IllegalStateException();
+                }
+
+                @Override
+                public void decodeFinished(CloudLinkRequestContext request, long decodeTime) {
+                    throw new IllegalStateException();
+                }
+            });
+            config.addListener(listener);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            assertEquals("value", client.getObject("sample", String.class));
+            assertEquals(4, listener.events.size());
+            assertEquals("decodeFinished true", listener.events.get(3));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void listenersAreNotifiedOfStreamedAndAsyncRequests() throws Exception {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.path().contains("/list/")) {
+                    request.response().setStatusCode(200).end("[{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}]");
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            RecordingListener listener = new RecordingListener();
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.addListener(listener);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            try (Stream<String> stream = client.streamList("sample", String.class)) {
+                assertEquals(1, stream.count());
+            }
+            assertEquals(listener.events.toString(), 4, listener.events.size());
+            assertEquals("requestStarted streamList LIST sample null", listener.events.get(0));
+            assertEquals("decodeFinished true", listener.events.get(3));
+
+            listener.events.clear();
+            assertEquals("value", client.getObjectAsync("sample", String.class).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertEquals(4, listener.events.size());
+            assertEquals("requestStarted getObject OBJECT null sample", listener.events.get(0));
+            assertEquals("decodeFinished true", listener.events.get(3));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+
+    private static class RecordingListener implements CloudLinkClientListener {
+
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void requestStarted(CloudLinkRequestContext request) {
+            request.setAttribute("started", Boolean.TRUE);
+            events.add("requestStarted " + request.getOperation() + " " + request.getEndpointFamily() + " "
+                    + request.getListId() + " " + request.getObjectId());
+        }
+
+        @Override
+        public void requestSent(CloudLinkRequestContext request, long bytes) {
+            events.add("requestSent " + bytes);
+        }
+
+        @Override
+        public void responseReceived(CloudLinkRequestContext request, int status, long bytes, long latency) {
+            assertTrue(latency > 0);
+            events.add("responseReceived " + status);
+        }
+
+        @Override
+        public void decodeFinished(CloudLinkRequestContext request, long decodeTime) {
+            assertTrue(decodeTime >= 0);
+            events.add("decodeFinished " + request.getAttribute("started"));
+        }
+
+        @Override
+        public void requestFailed(CloudLinkRequestContext request, Throwable failure) {
+            events.add("requestFailed " + failure.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.CloudLinkClientMetrics;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.javaee.LatencyHistogram;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class MXBeanTest {
+
+    @Test
+    public void statisticsAreRecordedPerOperation() throws Exception {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.path().endsWith("/remove")) {
+                    request.response().setStatusCode(503).end();
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            CloudLinkClient client = new CloudLinkClient(new CloudLinkClientConfig("http://localhost:45010", ""));
+            assertEquals("value", client.getObject("sample", String.class));
+            assertEquals("value", client.getObjectAsync("sample", String.class).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            try {
+                client.removeObject("sample");
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(503, e.getStatus());
+            }
+
+            CloudLinkClientMXBean mxBean = client.getMXBean();
+            assertEquals(3, mxBean.getRequestCount());
+            assertEquals(1, mxBean.getErrorCount());
+            assertEquals(0, mxBean.getInFlightRequests());
+
+            Map<String, OperationStatistics> statistics = mxBean.getOperationStatistics();
+            assertEquals(2, statistics.size());
+            OperationStatistics getObject = statistics.get("getObject");
+            assertEquals(2, getObject.getRequestCount());
+            assertEquals(0, getObject.getErrorCount());
+            assertTrue(getObject.getLatencyP50() > 0);
+            assertTrue(getObject.getLatencyP999() <= getObject.getMaxLatency());
+            OperationStatistics removeObject = statistics.get("removeObject");
+            assertEquals(1, removeObject.getErrorCount());
+            assertEquals(Long.valueOf(1), removeObject.getErrorCountsByStatus().get("503"));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void mxBeanIsRegisteredInPlatformMBeanServer() throws Exception {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> request.response().setStatusCode(200)
+                    .end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}"));
+
+            CloudLinkClient client = new CloudLinkClient(new CloudLinkClientConfig("http://localhost:45010", ""));
+            assertEquals("value", client.getObject("sample", String.class));
+
+            CloudLinkClientMetrics metrics = (CloudLinkClientMetrics) client.getMXBean();
+            metrics.register("localhost:45010");
+            ObjectName objectName = metrics.getObjectName();
+            assertNotNull(objectName);
+
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, mBeanServer.getAttribute(objectName, "RequestCount"));
+            TabularData operations = (TabularData) mBeanServer.getAttribute(objectName, "OperationStatistics");
+            CompositeData getObject = (CompositeData) operations.get(new Object[] {"getObject"}).get("value");
+            assertEquals(1L, getObject.get("requestCount"));
+
+            metrics.unregister();
+            assertFalse(mBeanServer.isRegistered(objectName));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void latencyHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.record(i);
+        }
+
+        long[] values = histogram.getValuesAtPercentiles(50, 99, 99.9, 100);
+        assertEquals(5000, values[0], 5000 / 16);
+        assertEquals(9900, values[1], 9900 / 16);
+        assertEquals(9990, values[2], 9990 / 16);
+        assertEquals(10000, values[3]);
+        assertEquals(10000, histogram.getMaxValue());
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+}
@@ -41,7 +41,13 @@ import io.vertx.core.http.HttpServerRequest;
 import org.junit.Assert;
 import org.junit.Test;
 
+import javax.validation.ConstraintViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -127,6 +133,105 @@ public class PushTest {
         }
     }
 
+    @Test
+    public void formValuesAreUrlEncoded() {
+        String title = "Caf\u00e9 & cr\u00e8me = 100% \ud83d\ude00";
+        String body = "a+b c?d/e\u20ac\n";
+
+        HttpServer httpServer = null;
+        try {
+            Map<String, String> form = new ConcurrentHashMap<>();
+            httpServer = startHttpServer(request -> {
+                request.setExpectMultipart(true);
+                request.endHandler(event -> {
+                    request.formAttributes().forEach(entry -> form.put(entry.getKey(), entry.getValue()));
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}");
+                });
+            });
+
+            CloudLinkClient client = new CloudLinkClient(new CloudLinkClientConfig("http://localhost:45010", ""));
+
+            PushNotification pushNotification = new PushNotification();
+            pushNotification.setTitle(title);
+            pushNotification.setBody(body);
+            pushNotification.setExpirationAmount(12);
+            pushNotification.setInvisible(true);
+            pushNotification.getTarget().setType(PushNotificationTarget.Type.TOPIC);
+            pushNotification.getTarget().setTopic("caf\u00e9");
+            client.sendPushNotification(pushNotification);
+
+            Assert.assertEquals(title, form.get("title"));
+            Assert.assertEquals(body, form.get("body"));
+            Assert.assertEquals("12", form.get("expirationAmount"));
+            Assert.assertEquals("TOPIC", form.get("targetType"));
+            Assert.assertEquals("caf\u00e9", form.get("targetTopic"));
+            Assert.assertEquals("true", form.get("invisible"));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void sendPushNotifications() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                request.setExpectMultipart(true);
+                request.endHandler(event -> {
+                    if ("Fail".equals(request.getFormAttribute("title"))) {
+                        request.response().setStatusCode(500).end();
+                    } else {
+                        request.response()
+                                .setStatusCode(200)
+                                .end("{\"identifier\":\"" + request.getFormAttribute("customIdentifier") + "\"}");
+                    }
+                });
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setBulkPushParallelism(4);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            List<PushNotification> notifications = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                PushNotification pushNotification = new PushNotification();
+                pushNotification.setCustomIdentifier("id-" + i);
+                pushNotification.setTitle(i == 5 ? "Fail" : "Title");
+                pushNotification.setBody("Body");
+                pushNotification.getTarget().setType(PushNotificationTarget.Type.ALL_DEVICES);
+                notifications.add(pushNotification);
+            }
+            notifications.get(7).setTitle(null);
+            notifications.set(9, null);
+
+            BulkPushResult result = client.sendPushNotifications(notifications);
+
+            Assert.assertEquals(20, result.getItems().size());
+            Assert.assertEquals(3, result.getFailureCount());
+            for (int i = 0; i < 20; i++) {
+                BulkPushResult.Item item = result.getItems().get(i);
+                Assert.assertEquals(i, item.getIndex());
+                Assert.assertSame(notifications.get(i), item.getNotification());
+                if (i == 5) {
+                    Assert.assertEquals(500, ((CloudLinkClientException) item.getFailure()).getStatus());
+                } else if (i == 7) {
+                    Assert.assertTrue(item.getFailure() instanceof ConstraintViolationException);
+                } else if (i == 9) {
+                    Assert.assertTrue(item.getFailure() instanceof NullPointerException);
+                } else {
+                    Assert.assertTrue(item.isSuccess());
+                    Assert.assertEquals("id-" + i, item.getResult().getIdentifier());
+                }
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
     private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
         HttpServerResponse httpServerResponse = new HttpServerResponse();
 
@@ -0,0 +1,236 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotificationTarget;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RateLimiterTest {
+
+    @Test
+    public void failFastRejectsWhenBurstIsExhausted() {
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                requests.incrementAndGet();
+                request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}");
+            });
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig("fail-fast", 1, 2, RateLimiterConfig.AcquireMode.FAIL_FAST));
+
+            client.sendPushNotification(buildNotification());
+            client.sendPushNotification(buildNotification());
+            try {
+                client.sendPushNotification(buildNotification());
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(429, e.getStatus());
+                assertTrue(e.getRetryAfter() > 0);
+            }
+            assertEquals(2, requests.get());
+
+            RateLimiterStats stats = client.getPushRateLimiterStats();
+            assertEquals(0, stats.getAvailablePermits());
+            assertEquals(2, stats.getAcquiredCount());
+            assertEquals(1, stats.getRejectedCount());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void blockingWaitsForPermits() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                requests.incrementAndGet();
+                request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}");
+            });
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig("blocking", 20, 1, RateLimiterConfig.AcquireMode.BLOCK));
+
+            long start = System.nanoTime();
+            client.sendPushNotification(buildNotification());
+            client.sendPushNotification(buildNotification());
+            client.sendPushNotificationAsync(buildNotification()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 90);
+            assertEquals(3, requests.get());
+
+            RateLimiterStats stats = client.getPushRateLimiterStats();
+            assertEquals(3, stats.getAcquiredCount());
+            assertEquals(0, stats.getRejectedCount());
+            assertTrue(stats.getTotalWaitTime() > 0);
+            assertTrue(stats.getMaxWaitTime() <= 50);
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void rateLimiterIsSharedByServerKey() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request ->
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}"));
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig("shared", 1, 1, RateLimiterConfig.AcquireMode.FAIL_FAST));
+            CloudLinkClient otherClient = new CloudLinkClient(buildConfig("shared", 1, 1, RateLimiterConfig.AcquireMode.FAIL_FAST));
+            CloudLinkClient unrelatedClient = new CloudLinkClient(buildConfig("unrelated", 1, 1, RateLimiterConfig.AcquireMode.FAIL_FAST));
+
+            client.sendPushNotification(buildNotification());
+            try {
+                otherClient.sendPushNotification(buildNotification());
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(429, e.getStatus());
+            }
+            unrelatedClient.sendPushNotification(buildNotification());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void conflictingConfigIsRejected() {
+        new CloudLinkClient(buildConfig("conflicting", 1, 1, RateLimiterConfig.AcquireMode.FAIL_FAST));
+        new CloudLinkClient(buildConfig("conflicting", 1, 1, RateLimiterConfig.AcquireMode.FAIL_FAST));
+        try {
+            new CloudLinkClient(buildConfig("conflicting", 2, 1, RateLimiterConfig.AcquireMode.FAIL_FAST));
+            fail("IllegalStateException must be thrown.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("1.0 permits per second"));
+        }
+        try {
+            new CloudLinkClient(buildConfig("conflicting", 1, 1, RateLimiterConfig.AcquireMode.BLOCK));
+            fail("IllegalStateException must be thrown.");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("FAIL_FAST"));
+        }
+    }
+
+    @Test
+    public void conflictingConfigLeavesClientUnchanged() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request ->
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}"));
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig("unchanged", 1, 1, RateLimiterConfig.AcquireMode.FAIL_FAST));
+
+            // the hostname of the rejected configuration is not reachable
+            CloudLinkClientConfig conflictingConfig = new CloudLinkClientConfig("http://localhost:1", "rate-limiter-test-unchanged");
+            conflictingConfig.setPushRateLimiterConfig(buildConfig("unchanged", 2, 1, RateLimiterConfig.AcquireMode.FAIL_FAST)
+                    .getPushRateLimiterConfig());
+            try {
+                client.setCloudLinkClientConfig(conflictingConfig);
+                fail("IllegalStateException must be thrown.");
+            } catch (IllegalStateException e) {
+                assertTrue(e.getMessage().contains("1.0 permits per second"));
+            }
+
+            assertEquals("identifier", client.sendPushNotification(buildNotification()).getIdentifier());
+            assertEquals(1, client.getPushRateLimiterStats().getAcquiredCount());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    private PushNotification buildNotification() {
+        PushNotification notification = new PushNotification();
+        notification.setTitle("Title");
+        notification.setBody("Body");
+        notification.getTarget().setType(PushNotificationTarget.Type.ALL_DEVICES);
+        return notification;
+    }
+
+    private CloudLinkClientConfig buildConfig(String serverKey, double permitsPerSecond, int burstSize,
+            RateLimiterConfig.AcquireMode acquireMode) {
+        RateLimiterConfig rateLimiterConfig = new RateLimiterConfig();
+        rateLimiterConfig.setPermitsPerSecond(permitsPerSecond);
+        rateLimiterConfig.setBurstSize(burstSize);
+        rateLimiterConfig.setAcquireMode(acquireMode);
+
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "rate-limiter-test-" + serverKey);
+        config.setPushRateLimiterConfig(rateLimiterConfig);
+        return config;
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+}
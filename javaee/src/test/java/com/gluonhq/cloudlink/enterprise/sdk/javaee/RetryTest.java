@@ -0,0 +1,212 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotificationTarget;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class RetryTest {
+
+    @Test
+    public void getObjectIsRetried() {
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (requests.incrementAndGet() < 3) {
+                    request.response().setStatusCode(503).putHeader("Retry-After", "0").end();
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig());
+
+            assertEquals("value", client.getObject("sample", String.class));
+            assertEquals(3, requests.get());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getObjectAsyncIsRetried() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (requests.incrementAndGet() < 3) {
+                    request.response().setStatusCode(500).end();
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig());
+
+            assertEquals("value", client.getObjectAsync("sample", String.class).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertEquals(3, requests.get());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void retriesAreLimitedToMaxAttempts() {
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                requests.incrementAndGet();
+                request.response().setStatusCode(429).putHeader("Retry-After", "0").end();
+            });
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig());
+
+            try {
+                client.removeObject("sample");
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(429, e.getStatus());
+                assertEquals(0, e.getRetryAfter());
+            }
+            assertEquals(3, requests.get());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void pushNotificationIsOnlyRetriedWhenEnabled() {
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (requests.incrementAndGet() < 4) {
+                    request.response().setStatusCode(503).end();
+                } else {
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}");
+                }
+            });
+
+            CloudLinkClient client = new CloudLinkClient(buildConfig());
+
+            PushNotification notification = new PushNotification();
+            notification.setTitle("Title");
+            notification.setBody("Body");
+            notification.getTarget().setType(PushNotificationTarget.Type.ALL_DEVICES);
+            try {
+                client.sendPushNotification(notification);
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(503, e.getStatus());
+            }
+            assertEquals(1, requests.get());
+
+            notification.setCustomIdentifier("campaign-1");
+            try {
+                client.sendPushNotification(notification);
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(503, e.getStatus());
+            }
+            assertEquals(2, requests.get());
+
+            CloudLinkClientConfig config = buildConfig();
+            config.getRetryConfig().setRetryPushWithCustomIdentifier(true);
+            client = new CloudLinkClient(config);
+            assertEquals("identifier", client.sendPushNotification(notification).getIdentifier());
+            assertEquals(4, requests.get());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    private CloudLinkClientConfig buildConfig() {
+        RetryConfig retryConfig = new RetryConfig();
+        retryConfig.setBaseDelay(10);
+
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+        config.setRetryConfig(retryConfig);
+        return config;
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+}
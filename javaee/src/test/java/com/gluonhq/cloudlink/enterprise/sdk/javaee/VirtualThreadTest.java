@@ -0,0 +1,157 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.javaee;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotificationTarget;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class VirtualThreadTest {
+
+    @Test
+    public void asyncRequestsAreSentOnVirtualThreads() throws Exception {
+        Assume.assumeTrue(isVirtualThreadSupported());
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.path().contains("/push/")) {
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}");
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            ThreadRecordingListener listener = new ThreadRecordingListener();
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setExecutionMode(ExecutionMode.VIRTUAL_THREADS);
+            config.addListener(listener);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            assertEquals("value", client.getObjectAsync("sample", String.class).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertEquals(1, listener.threads.size());
+            assertTrue(listener.threads.get(0), listener.threads.get(0).startsWith("VirtualThread["));
+
+            List<PushNotification> notifications = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                PushNotification notification = new PushNotification();
+                notification.setTitle("Title " + i);
+                notification.setBody("Body");
+                notification.getTarget().setType(PushNotificationTarget.Type.ALL_DEVICES);
+                notifications.add(notification);
+            }
+            BulkPushResult result = client.sendPushNotifications(notifications);
+            assertEquals(10, result.getSuccessCount());
+            assertEquals(11, listener.threads.size());
+            for (String thread : listener.threads) {
+                assertTrue(thread, thread.startsWith("VirtualThread["));
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void virtualThreadsRequireJava21() {
+        Assume.assumeFalse(isVirtualThreadSupported());
+
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+        config.setExecutionMode(ExecutionMode.VIRTUAL_THREADS);
+        try {
+            new CloudLinkClient(config);
+            fail("UnsupportedOperationException must be thrown.");
+        } catch (UnsupportedOperationException e) {
+            assertEquals("Virtual threads require Java 21 or later", e.getMessage());
+        }
+    }
+
+    private static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+
+    private static class ThreadRecordingListener implements CloudLinkClientListener {
+
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void responseReceived(CloudLinkRequestContext request, int status, long bytes, long latency) {
+            threads.add(Thread.currentThread().toString());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.loadtest;
+
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClient;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.CloudLinkClientConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.ExecutionMode;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.javaee.domain.PushNotificationTarget;
+
+public class JavaEeClientDriver implements ClientDriver {
+
+    private final CloudLinkClient client;
+
+    public JavaEeClientDriver(LoadTestConfig config, String url) {
+        CloudLinkClientConfig clientConfig = new CloudLinkClientConfig(url, config.getServerKey());
+        clientConfig.setMaxConnectionsPerRoute(config.getConnections());
+        if (config.getExecutor().equals("virtual")) {
+            clientConfig.setExecutionMode(ExecutionMode.VIRTUAL_THREADS);
+        }
+        client = new CloudLinkClient(clientConfig);
+    }
+
+    @Override
+    public void push() {
+        PushNotification notification = new PushNotification();
+        notification.setTitle("Load test");
+        notification.setBody("A push notification sent by the load test.");
+        notification.getTarget().setType(PushNotificationTarget.Type.ALL_DEVICES);
+        client.sendPushNotification(notification);
+    }
+
+    @Override
+    public void getObject(String objectId) {
+        client.getObject(objectId, Document.class);
+    }
+
+    @Override
+    public void addObject(String objectId, Document document) {
+        client.addObject(objectId, document);
+    }
+
+    @Override
+    public void getList(String listId) {
+        client.getList(listId, Document.class);
+    }
+
+    @Override
+    public void addToList(String listId, String objectId, Document document) {
+        client.addToList(listId, objectId, document);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends a mix of operations through a {@link ClientDriver} from a number of threads, and records the latency of each
+ * operation in an HdrHistogram.
+ *
+ * <p>When a target rate is set, every thread follows a fixed schedule and the latency of a request is measured from
+ * the time at which the schedule intended to send it, rather than from the time at which it was actually sent. A
+ * stall in the client or server therefore shows up in the latency of all requests that should have been sent during
+ * the stall, instead of only in the one request that was in flight, which corrects for coordinated omission.</p>
+ */
+public class LoadGenerator {
+
+    static final String LIST_ID = "load-test-list";
+
+    private static final OperationType[] OPERATION_TYPES = OperationType.values();
+
+    private final LoadTestConfig config;
+    private final ClientDriver driver;
+    private final Document document;
+    private final OperationType[] schedule;
+    private final Map<OperationType, Recorder> responseTimes = new EnumMap<>(OperationType.class);
+    private final Map<OperationType, Recorder> serviceTimes = new EnumMap<>(OperationType.class);
+    private final Map<OperationType, LongAdder> errors = new EnumMap<>(OperationType.class);
+    private volatile boolean stopped;
+
+    public LoadGenerator(LoadTestConfig config, ClientDriver driver) {
+        this.config = config;
+        this.driver = driver;
+
+        char[] content = new char[config.getPayloadSize()];
+        Arrays.fill(content, 'x');
+        this.document = new Document("load-test", new String(content));
+        this.schedule = schedule(config.getMix());
+
+        for (OperationType type : OPERATION_TYPES) {
+            responseTimes.put(type, new Recorder(3));
+            serviceTimes.put(type, new Recorder(3));
+            errors.put(type, new LongAdder());
+        }
+    }
+
+    /**
+     * Expands the weights of the mix into an array to pick operations from, so that picking is a single array lookup.
+     */
+    private static OperationType[] schedule(Map<OperationType, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (total <= 0) {
+            throw new IllegalArgumentException("The operation mix must have a positive total weight.");
+        }
+
+        OperationType[] schedule = new OperationType[total];
+        int index = 0;
+        for (Map.Entry<OperationType, Integer> weight : mix.entrySet()) {
+            for (int i = 0; i < weight.getValue(); i++) {
+                schedule[index++] = weight.getKey();
+            }
+        }
+        return schedule;
+    }
+
+    /**
+     * Stores the objects and the list that the test reads.
+     */
+    public void prepare() {
+        for (int i = 0; i < config.getObjects(); i++) {
+            driver.addObject(objectId(i), document);
+        }
+        for (int i = 0; i < config.getListSize(); i++) {
+            driver.addToList(LIST_ID, "item-" + i, document);
+        }
+    }
+
+    public RunResult run() throws InterruptedException {
+        ExecutorService executor = newExecutor();
+        try {
+            return run(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ExecutorService newExecutor() {
+        switch (config.getExecutor()) {
+            case "platform":
+                return Executors.newFixedThreadPool(config.getThreads());
+            case "virtual":
+                try {
+                    // the harness is compiled for Java 8
+                    return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                } catch (ReflectiveOperationException e) {
+                    throw new UnsupportedOperationException("Virtual threads require Java 21 or later", e);
+                }
+            default:
+                throw new IllegalArgumentException("Unknown executor: " + config.getExecutor());
+        }
+    }
+
+    RunResult run(ExecutorService executor) throws InterruptedException {
+        int threads = config.getThreads();
+        long interval = config.getRate() > 0 ? (long) (threads * 1_000_000_000L / config.getRate()) : 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            // stagger the threads, so that their requests are spread evenly over each interval
+            long offset = interval * i / threads;
+            executor.execute(() -> work(start + offset, interval));
+        }
+
+        sleepUntil(start + TimeUnit.SECONDS.toNanos(config.getWarmup()));
+        for (OperationType type : OPERATION_TYPES) {
+            responseTimes.get(type).getIntervalHistogram();
+            serviceTimes.get(type).getIntervalHistogram();
+            errors.get(type).reset();
+        }
+
+        long measureStart = System.nanoTime();
+        sleepUntil(measureStart + TimeUnit.SECONDS.toNanos(config.getDuration()));
+        stopped = true;
+        double seconds = (System.nanoTime() - measureStart) / 1e9;
+
+        RunResult result = new RunResult();
+        result.setClient(config.getClient());
+        result.setExecutor(config.getExecutor());
+        result.setThreads(threads);
+        result.setTargetRate(config.getRate());
+        result.setDuration(config.getDuration());
+        result.setCorrected(interval > 0);
+
+        Histogram totalResponseTimes = new Histogram(3);
+        Histogram totalServiceTimes = new Histogram(3);
+        long totalErrors = 0;
+        for (OperationType type : OPERATION_TYPES) {
+            if (!config.getMix().containsKey(type)) {
+                continue;
+            }
+
+            Histogram responseTime = responseTimes.get(type).getIntervalHistogram();
+            Histogram serviceTime = serviceTimes.get(type).getIntervalHistogram();
+            long errorCount = errors.get(type).sum();
+            result.getOperations().put(type.getOperationName(), operationResult(responseTime, serviceTime, errorCount, seconds));
+
+            totalResponseTimes.add(responseTime);
+            totalServiceTimes.add(serviceTime);
+            totalErrors += errorCount;
+        }
+        result.setTotal(operationResult(totalResponseTimes, totalServiceTimes, totalErrors, seconds));
+        return result;
+    }
+
+    private void work(long start, long interval) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intended = start;
+        while (!stopped) {
+            if (interval > 0) {
+                sleepUntil(intended);
+                if (stopped) {
+                    return;
+                }
+            }
+
+            OperationType type = schedule[random.nextInt(schedule.length)];
+            long sent = System.nanoTime();
+            try {
+                execute(type, random);
+            } catch (RuntimeException e) {
+                errors.get(type).increment();
+            }
+            long received = System.nanoTime();
+
+            // latencies are recorded in microseconds
+            serviceTimes.get(type).recordValue((received - sent) / 1000);
+            responseTimes.get(type).recordValue((received - (interval > 0 ? intended : sent)) / 1000);
+            intended += interval;
+        }
+    }
+
+    private void execute(OperationType type, ThreadLocalRandom random) {
+        switch (type) {
+            case PUSH:
+                driver.push();
+                break;
+            case GET_OBJECT:
+                driver.getObject(objectId(random.nextInt(config.getObjects())));
+                break;
+            case ADD_OBJECT:
+                driver.addObject(objectId(random.nextInt(config.getObjects())), document);
+                break;
+            case GET_LIST:
+                driver.getList(LIST_ID);
+                break;
+            case ADD_TO_LIST:
+                driver.addToList(LIST_ID, "item-" + random.nextInt(config.getListSize()), document);
+                break;
+            default:
+                throw new IllegalStateException("Unknown operation: " + type);
+        }
+    }
+
+    private static String objectId(int index) {
+        return "load-test-object-" + index;
+    }
+
+    private static OperationResult operationResult(Histogram responseTime, Histogram serviceTime, long errors,
+            double seconds) {
+        OperationResult result = new OperationResult();
+        result.setCount(responseTime.getTotalCount());
+        result.setErrors(errors);
+        result.setOpsPerSecond(responseTime.getTotalCount() / seconds);
+        result.setP50(millis(responseTime.getValueAtPercentile(50)));
+        result.setP90(millis(responseTime.getValueAtPercentile(90)));
+        result.setP99(millis(responseTime.getValueAtPercentile(99)));
+        result.setP999(millis(responseTime.getValueAtPercentile(99.9)));
+        result.setMax(millis(responseTime.getMaxValue()));
+        result.setServiceTimeP99(millis(serviceTime.getValueAtPercentile(99)));
+        return result;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
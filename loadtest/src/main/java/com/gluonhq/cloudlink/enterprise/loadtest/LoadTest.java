@@ -0,0 +1,148 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.loadtest;
+
+import com.gluonhq.cloudlink.enterprise.emulator.CloudLinkEmulator;
+import com.gluonhq.cloudlink.enterprise.emulator.EmulatorConfig;
+import com.gluonhq.cloudlink.enterprise.emulator.LatencyDistribution;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a load test against an emulator or a server, or compares the results of two runs.
+ *
+ * <pre>
+ * LoadTest --client=spring --threads=32 --rate=2000 --duration=60 --output=spring.json
+ * LoadTest compare javaee.json spring.json [--threshold=0.1]
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("compare")) {
+            System.exit(compare(args) ? 0 : 1);
+        }
+
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        RunResult result;
+        if (config.getUrl() == null) {
+            EmulatorConfig emulatorConfig = new EmulatorConfig();
+            emulatorConfig.setServerKey(config.getServerKey());
+            emulatorConfig.setPushNotificationHistorySize(0);
+            double[] latency = config.getEmulatorLatency();
+            if (latency != null) {
+                emulatorConfig.setLatency(LatencyDistribution.logNormal(latency[0], latency[1]));
+            }
+            try (CloudLinkEmulator emulator = new CloudLinkEmulator(emulatorConfig).start()) {
+                result = run(config, emulator.getUrl());
+            }
+        } else {
+            result = run(config, config.getUrl());
+        }
+
+        print(result, System.out);
+        if (config.getOutput() != null) {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(config.getOutput()), StandardCharsets.UTF_8)) {
+                GSON.toJson(result, writer);
+            }
+        }
+        System.exit(0);
+    }
+
+    static RunResult run(LoadTestConfig config, String url) throws InterruptedException {
+        try (ClientDriver driver = ClientDriver.create(config, url)) {
+            LoadGenerator generator = new LoadGenerator(config, driver);
+            generator.prepare();
+            return generator.run();
+        }
+    }
+
+    private static boolean compare(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Usage: compare <baseline.json> <candidate.json> [--threshold=0.1]");
+        }
+
+        double threshold = 0.1;
+        for (int i = 3; i < args.length; i++) {
+            if (args[i].startsWith("--threshold=")) {
+                threshold = Double.parseDouble(args[i].substring("--threshold=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        RunComparison comparison = new RunComparison(read(args[1]), read(args[2]), threshold);
+        comparison.print(System.out);
+        List<String> regressions = comparison.regressions();
+        for (String regression : regressions) {
+            System.out.println("REGRESSION " + regression);
+        }
+        return regressions.isEmpty();
+    }
+
+    private static RunResult read(String file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, RunResult.class);
+        }
+    }
+
+    static void print(RunResult result, PrintStream out) {
+        out.printf("client=%s executor=%s threads=%d rate=%s duration=%ds latency=%s%n", result.getClient(),
+                result.getExecutor(), result.getThreads(),
+                result.getTargetRate() > 0 ? String.format("%.0f/s", result.getTargetRate()) : "unthrottled",
+                result.getDuration(), result.isCorrected() ? "corrected for coordinated omission" : "service time");
+        out.printf("%-12s %10s %8s %12s %10s %10s %10s %10s %10s%n", "operation", "count", "errors", "ops/s",
+                "p50 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99 ms");
+        for (Map.Entry<String, OperationResult> operation : result.getOperations().entrySet()) {
+            print(operation.getKey(), operation.getValue(), out);
+        }
+        print("total", result.getTotal(), out);
+    }
+
+    private static void print(String name, OperationResult result, PrintStream out) {
+        out.printf("%-12s %10d %8d %12.1f %10.3f %10.3f %10.3f %10.3f %10.3f%n", name, result.getCount(),
+                result.getErrors(), result.getOpsPerSecond(), result.getP50(), result.getP99(), result.getP999(),
+                result.getMax(), result.getServiceTimeP99());
+    }
+}
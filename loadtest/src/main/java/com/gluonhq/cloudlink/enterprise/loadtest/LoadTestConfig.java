@@ -0,0 +1,234 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The options of a load test, parsed from command line arguments of the form <code>--name=value</code>.
+ */
+public class LoadTestConfig {
+
+    private String client = "javaee";
+    private int threads = 16;
+    private String executor = "platform";
+    private double rate = 1000;
+    private int warmup = 10;
+    private int duration = 30;
+    private Map<OperationType, Integer> mix = parseMix("push=10,getObject=50,addObject=10,getList=20,addToList=10");
+    private int payloadSize = 1024;
+    private int objects = 1000;
+    private int listSize = 100;
+    private int connections = 64;
+    private String url;
+    private String serverKey = "load-test";
+    private double[] emulatorLatency;
+    private String output;
+
+    public static LoadTestConfig parse(String... args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected an option of the form --name=value but was: " + arg);
+            }
+
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "client":
+                    config.client = value;
+                    break;
+                case "threads":
+                    config.threads = Integer.parseInt(value);
+                    break;
+                case "executor":
+                    config.executor = value;
+                    break;
+                case "rate":
+                    config.rate = Double.parseDouble(value);
+                    break;
+                case "warmup":
+                    config.warmup = Integer.parseInt(value);
+                    break;
+                case "duration":
+                    config.duration = Integer.parseInt(value);
+                    break;
+                case "mix":
+                    config.mix = parseMix(value);
+                    break;
+                case "payload-size":
+                    config.payloadSize = Integer.parseInt(value);
+                    break;
+                case "objects":
+                    config.objects = Integer.parseInt(value);
+                    break;
+                case "list-size":
+                    config.listSize = Integer.parseInt(value);
+                    break;
+                case "connections":
+                    config.connections = Integer.parseInt(value);
+                    break;
+                case "url":
+                    config.url = value;
+                    break;
+                case "server-key":
+                    config.serverKey = value;
+                    break;
+                case "emulator-latency":
+                    String[] latency = value.split(",");
+                    config.emulatorLatency = new double[] {Double.parseDouble(latency[0]), Double.parseDouble(latency[1])};
+                    break;
+                case "output":
+                    config.output = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + name);
+            }
+        }
+        return config;
+    }
+
+    static Map<OperationType, Integer> parseMix(String value) {
+        Map<OperationType, Integer> mix = new EnumMap<>(OperationType.class);
+        for (String entry : value.split(",")) {
+            String[] weight = entry.split("=");
+            mix.put(OperationType.forName(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * The client implementation to drive: <code>javaee</code> or <code>spring</code>.
+     */
+    public String getClient() {
+        return client;
+    }
+
+    /**
+     * The number of threads that send requests.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * The threads that send requests: <code>platform</code> for a fixed pool of platform threads, or
+     * <code>virtual</code> for a virtual thread per sending thread, which requires Java 21 or later.
+     */
+    public String getExecutor() {
+        return executor;
+    }
+
+    /**
+     * The total number of operations per second to send, or <code>0</code> to send as fast as possible. Latencies
+     * are only corrected for coordinated omission when a rate is set.
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * The number of seconds to run before measuring.
+     */
+    public int getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * The number of seconds to measure.
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * The relative weight of each operation.
+     */
+    public Map<OperationType, Integer> getMix() {
+        return mix;
+    }
+
+    /**
+     * The number of characters in the content of the stored documents.
+     */
+    public int getPayloadSize() {
+        return payloadSize;
+    }
+
+    /**
+     * The number of distinct objects that are read and written.
+     */
+    public int getObjects() {
+        return objects;
+    }
+
+    /**
+     * The number of objects in the list that is read, before the test adds to it.
+     */
+    public int getListSize() {
+        return listSize;
+    }
+
+    /**
+     * The maximum number of connections of the client.
+     */
+    public int getConnections() {
+        return connections;
+    }
+
+    /**
+     * The url of the server to test against, or <code>null</code> to start an emulator.
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    public String getServerKey() {
+        return serverKey;
+    }
+
+    /**
+     * The median and 99th percentile latency in milliseconds of the emulator, or <code>null</code> for none.
+     */
+    public double[] getEmulatorLatency() {
+        return emulatorLatency;
+    }
+
+    /**
+     * The file to write the results to, or <code>null</code>.
+     */
+    public String getOutput() {
+        return output;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the results of two runs and reports the operations of which the throughput dropped or the tail latency
+ * grew by more than a threshold.
+ */
+public class RunComparison {
+
+    private final RunResult baseline;
+    private final RunResult candidate;
+    private final double threshold;
+
+    /**
+     * @param threshold the relative change that counts as a regression, for instance <code>0.1</code> for 10%
+     */
+    public RunComparison(RunResult baseline, RunResult candidate, double threshold) {
+        this.baseline = baseline;
+        this.candidate = candidate;
+        this.threshold = threshold;
+    }
+
+    public List<String> regressions() {
+        List<String> regressions = new ArrayList<>();
+        regressions(regressions, "total", baseline.getTotal(), candidate.getTotal());
+        for (Map.Entry<String, OperationResult> operation : baseline.getOperations().entrySet()) {
+            OperationResult other = candidate.getOperations().get(operation.getKey());
+            if (other != null) {
+                regressions(regressions, operation.getKey(), operation.getValue(), other);
+            }
+        }
+        return regressions;
+    }
+
+    private void regressions(List<String> regressions, String name, OperationResult base, OperationResult other) {
+        if (change(base.getOpsPerSecond(), other.getOpsPerSecond()) < -threshold) {
+            regressions.add(String.format("%s: throughput dropped from %.1f to %.1f ops/s", name,
+                    base.getOpsPerSecond(), other.getOpsPerSecond()));
+        }
+        if (change(base.getP99(), other.getP99()) > threshold) {
+            regressions.add(String.format("%s: p99 grew from %.3f to %.3f ms", name, base.getP99(), other.getP99()));
+        }
+        if (change(base.getP999(), other.getP999()) > threshold) {
+            regressions.add(String.format("%s: p99.9 grew from %.3f to %.3f ms", name, base.getP999(), other.getP999()));
+        }
+    }
+
+    public void print(PrintStream out) {
+        out.printf("base: client=%s executor=%s threads=%d%n", baseline.getClient(), baseline.getExecutor(),
+                baseline.getThreads());
+        out.printf("new:  client=%s executor=%s threads=%d%n", candidate.getClient(), candidate.getExecutor(),
+                candidate.getThreads());
+        out.printf("%-12s %12s %12s %8s %10s %10s %8s %10s %10s %8s%n", "operation", "ops/s base", "ops/s new", "change",
+                "p99 base", "p99 new", "change", "p99.9 base", "p99.9 new", "change");
+        print(out, "total", baseline.getTotal(), candidate.getTotal());
+        for (Map.Entry<String, OperationResult> operation : baseline.getOperations().entrySet()) {
+            OperationResult other = candidate.getOperations().get(operation.getKey());
+            if (other != null) {
+                print(out, operation.getKey(), operation.getValue(), other);
+            }
+        }
+    }
+
+    private static void print(PrintStream out, String name, OperationResult base, OperationResult other) {
+        out.printf("%-12s %12.1f %12.1f %+7.1f%% %10.3f %10.3f %+7.1f%% %10.3f %10.3f %+7.1f%%%n", name,
+                base.getOpsPerSecond(), other.getOpsPerSecond(), 100 * change(base.getOpsPerSecond(), other.getOpsPerSecond()),
+                base.getP99(), other.getP99(), 100 * change(base.getP99(), other.getP99()),
+                base.getP999(), other.getP999(), 100 * change(base.getP999(), other.getP999()));
+    }
+
+    private static double change(double base, double other) {
+        return base == 0 ? 0 : (other - base) / base;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.loadtest;
+
+import com.gluonhq.cloudlink.enterprise.emulator.CloudLinkEmulator;
+import com.gluonhq.cloudlink.enterprise.emulator.EmulatorConfig;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class LoadTestTest {
+
+    @Test
+    public void javaEeClientCanBeDriven() throws InterruptedException {
+        drive("javaee");
+    }
+
+    @Test
+    public void springClientCanBeDriven() throws InterruptedException {
+        drive("spring");
+    }
+
+    private void drive(String client) throws InterruptedException {
+        EmulatorConfig emulatorConfig = new EmulatorConfig();
+        emulatorConfig.setServerKey("load-test");
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator(emulatorConfig).start()) {
+            LoadTestConfig config = LoadTestConfig.parse("--client=" + client, "--threads=4", "--rate=200",
+                    "--warmup=1", "--duration=2", "--objects=10", "--list-size=10", "--payload-size=64");
+            RunResult result = LoadTest.run(config, emulator.getUrl());
+
+            assertTrue(result.isCorrected());
+            assertEquals("platform", result.getExecutor());
+            assertEquals(Arrays.asList("push", "getObject", "addObject", "getList", "addToList"),
+                    Arrays.asList(result.getOperations().keySet().toArray()));
+            assertEquals(0, result.getTotal().getErrors());
+            assertTrue(result.getTotal().getCount() > 100);
+            assertTrue(result.getTotal().getP99() >= result.getTotal().getP50());
+            assertTrue(result.getTotal().getP999() >= result.getTotal().getP99());
+            assertNotNull(emulator.getObject("load-test-object-0"));
+        }
+    }
+
+    @Test
+    public void virtualThreadsCanSendRequests() throws InterruptedException {
+        Assume.assumeTrue(isVirtualThreadSupported());
+
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator(new EmulatorConfig()).start()) {
+            LoadTestConfig config = LoadTestConfig.parse("--executor=virtual", "--threads=200", "--rate=1000",
+                    "--warmup=0", "--duration=1", "--mix=getObject=1", "--objects=1", "--list-size=0");
+            RunResult result = LoadTest.run(config, emulator.getUrl());
+
+            assertEquals("virtual", result.getExecutor());
+            assertEquals(200, result.getThreads());
+            assertEquals(0, result.getTotal().getErrors());
+            assertTrue(result.getTotal().getCount() > 0);
+        }
+    }
+
+    @Test
+    public void uncorrectedWithoutTargetRate() throws InterruptedException {
+        try (CloudLinkEmulator emulator = new CloudLinkEmulator(new EmulatorConfig()).start()) {
+            LoadTestConfig config = LoadTestConfig.parse("--threads=2", "--rate=0", "--warmup=0", "--duration=1",
+                    "--mix=getObject=1", "--objects=1", "--list-size=0");
+            RunResult result = LoadTest.run(config, emulator.getUrl());
+
+            assertFalse(result.isCorrected());
+            assertEquals(Collections.singleton("getObject"), result.getOperations().keySet());
+            assertTrue(result.getTotal().getCount() > 0);
+        }
+    }
+
+    @Test
+    public void comparisonReportsRegressions() {
+        RunResult baseline = result(1000, 10, 20);
+
+        assertTrue(new RunComparison(baseline, result(950, 10.5, 21), 0.1).regressions().isEmpty());
+        assertEquals(2, new RunComparison(baseline, result(800, 10, 20), 0.1).regressions().size());
+        assertEquals(2, new RunComparison(baseline, result(1000, 12, 20), 0.1).regressions().size());
+        assertEquals(2, new RunComparison(baseline, result(1000, 10, 30), 0.1).regressions().size());
+    }
+
+    private static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static RunResult result(double opsPerSecond, double p99, double p999) {
+        RunResult result = new RunResult();
+        result.setTotal(operation(opsPerSecond, p99, p999));
+        result.getOperations().put("getObject", operation(opsPerSecond, p99, p999));
+        return result;
+    }
+
+    private static OperationResult operation(double opsPerSecond, double p99, double p999) {
+        OperationResult operation = new OperationResult();
+        operation.setOpsPerSecond(opsPerSecond);
+        operation.setP99(p99);
+        operation.setP999(p999);
+        return operation;
+    }
+}
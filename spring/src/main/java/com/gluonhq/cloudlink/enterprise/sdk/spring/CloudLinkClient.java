@@ -33,44 +33,115 @@ package com.gluonhq.cloudlink.enterprise.sdk.spring;
 
 import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.ObjectData;
 import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransport;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.CircuitBreakers;
 import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.CloudLinkAuthRequestInterceptor;
 import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.CloudLinkErrorDecoder;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.CloudLinkTransports;
 import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.FeignClient;
-import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.StringObject;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.GzipRequestInterceptor;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.HttpClientFactory;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.ListenerRequestContext;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.ListeningClient;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.ListeningDecoder;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.MeteredClient;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.ObjectCache;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.Operation;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PushNotificationFormEncoder;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.RateLimiter;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.RetryExecutor;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.SingleFlight;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.TransportClient;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.VirtualThreads;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.validation.SharedValidator;
+import feign.Client;
 import feign.Feign;
 import feign.Logger;
-import feign.form.FormEncoder;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
 import feign.gson.GsonDecoder;
 import feign.jaxrs.JAXRSContract;
 import feign.okhttp.OkHttpClient;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
+import static com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PayloadConverter.fromJson;
+import static com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PayloadConverter.gson;
+import static com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PayloadConverter.toJson;
+
 /**
  * A Java client that acts as a wrapper for the Gluon CloudLink Enterprise REST SDK. Internally it makes use of the
- * <a href="https://github.com/OpenFeign/feign">Feign Client</a>.
+ * <a href="https://github.com/OpenFeign/feign">Feign Client</a>, or of the {@link CloudLinkTransport} that is set on
+ * its configuration or created by a registered provider.
+ *
+ * <p>Concurrent retrievals of the same object or list through the same CloudLinkClient are coalesced into a single
+ * request to Gluon CloudLink, of which the response is shared by all callers. A retrieval that starts after a write
+ * to the same object or list through the same CloudLinkClient completed does not share a request that was sent
+ * before that write.</p>
+ *
+ * <p>When a {@link CircuitBreakerConfig} is configured, the push, object and list endpoints are each guarded by a
+ * circuit breaker that makes requests fail fast while Gluon CloudLink is failing or responding slowly. Push
+ * notifications can be rate limited on the client with a {@link RateLimiterConfig}.</p>
  */
 @Validated
-public class CloudLinkClient {
+public class CloudLinkClient implements AutoCloseable {
 
     private static final Logger LOG = new Logger.ErrorLogger();
 
-    private static final Gson gson = new Gson();
-
     private final CloudLinkClientConfig config;
 
+    private final CloudLinkTransport ownedTransport;
+
     private final FeignClient feignClient;
 
+    private final ObjectCache objectCache;
+
+    private final RetryExecutor retryExecutor;
+
+    private final CircuitBreakers circuitBreakers;
+
+    private final RateLimiter pushRateLimiter;
+
+    private final CloudLinkClientListener[] listeners;
+
+    private final Executor bulkExecutor;
+
+    // created by the first bulk request that needs one when no executor is configured, guarded by this
+    private ExecutorService ownBulkExecutor;
+
+    private boolean closed;
+
+    private final SingleFlight<String, ObjectData> objectRequests = new SingleFlight<>();
+
+    private final SingleFlight<String, List<ObjectData>> listRequests = new SingleFlight<>();
+
     /**
      * Construct a new CloudLinkClient instance with the specified configuration.
      *
@@ -78,7 +149,23 @@ public class CloudLinkClient {
      */
     public CloudLinkClient(CloudLinkClientConfig cloudLinkConfig) {
         this.config = Objects.requireNonNull(cloudLinkConfig);
-        feignClient = buildFeignClient();
+        // resolved first, so that a configuration that conflicts with the limiter of its server key is rejected before
+        // a transport or http client is created
+        pushRateLimiter = config.getPushRateLimiterConfig() == null ? null
+                : RateLimiter.forServerKey(config.getServerKey(), config.getPushRateLimiterConfig());
+        listeners = config.getListeners().toArray(new CloudLinkClientListener[0]);
+        ownedTransport = config.getTransport() == null ? CloudLinkTransports.create(config) : null;
+        CloudLinkTransport transport = config.getTransport() == null ? ownedTransport : config.getTransport();
+        feignClient = transport == null ? buildFeignClient() : new TransportClient(config, transport, buildRetryer());
+        retryExecutor = new RetryExecutor(config.getRetryConfig(), failure -> failure instanceof RetryableException);
+        circuitBreakers = new CircuitBreakers(config.getCircuitBreakerConfig(), failure -> failure instanceof RetryableException);
+        objectCache = config.getObjectCacheConfig() == null ? null : new ObjectCache(config.getObjectCacheConfig());
+        bulkExecutor = config.getExecutor() == null && config.getExecutionMode() == ExecutionMode.VIRTUAL_THREADS
+                ? VirtualThreads.executor() : config.getExecutor();
+    }
+
+    private Retryer buildRetryer() {
+        return config.getRetryConfig() == null ? new Retryer.Default() : Retryer.NEVER_RETRY;
     }
 
     private FeignClient buildFeignClient() {
@@ -89,18 +176,145 @@ public class CloudLinkClient {
             cloudLinkUrl = "https://" + cloudLinkUrl;
         }
 
+        // keep feign's request options in line with the http client, otherwise a new client is derived per request
+        okhttp3.OkHttpClient httpClient = HttpClientFactory.create(config);
+        if (config.getCompressionConfig() != null) {
+            httpClient = httpClient.newBuilder().addInterceptor(new GzipRequestInterceptor(config.getCompressionConfig())).build();
+        }
+        Client client = new OkHttpClient(httpClient);
+        if (config.getMeterRegistry() != null) {
+            client = MeteredClient.instrument(client, httpClient, config.getMeterRegistry());
+        }
+        Decoder decoder = new GsonDecoder();
+        if (listeners.length > 0) {
+            client = new ListeningClient(client);
+            decoder = new ListeningDecoder(decoder);
+        }
+
         return Feign.builder()
                 .logger(LOG)
                 .logLevel(getLogLevel(config.getLogLevel()))
                 .contract(new JAXRSContract())
-                .client(new OkHttpClient())
-                .encoder(new FormEncoder())
-                .decoder(new GsonDecoder())
+                .client(client)
+                .options(new Request.Options(httpClient.connectTimeoutMillis(), httpClient.readTimeoutMillis()))
+                .encoder(new PushNotificationFormEncoder(new Encoder.Default()))
+                .decoder(decoder)
                 .errorDecoder(new CloudLinkErrorDecoder(config))
+                .retryer(buildRetryer())
                 .requestInterceptor(new CloudLinkAuthRequestInterceptor(config.getServerKey()))
                 .target(FeignClient.class, cloudLinkUrl + "/3");
     }
 
+    private boolean isIdempotent(PushNotification notification) {
+        RetryConfig retryConfig = config.getRetryConfig();
+        return retryConfig != null && retryConfig.isRetryPushWithCustomIdentifier()
+                && notification.getCustomIdentifier() != null && !notification.getCustomIdentifier().isEmpty();
+    }
+
+    private <R> R execute(Operation operation, String listId, String objectId, Supplier<R> request) {
+        return execute(operation, listId, objectId, true, request);
+    }
+
+    private <R> R execute(Operation operation, String listId, String objectId, boolean idempotent, Supplier<R> request) {
+        RateLimiter rateLimiter = operation.getEndpointFamily() == EndpointFamily.PUSH ? pushRateLimiter : null;
+        return retryExecutor.execute(idempotent, () -> {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            return circuitBreakers.execute(operation.getEndpointFamily(),
+                    () -> executeOnce(operation, listId, objectId, request));
+        });
+    }
+
+    private <R> R executeOnce(Operation operation, String listId, String objectId, Supplier<R> request) {
+        ListenerRequestContext context = ListenerRequestContext.start(listeners, operation, listId, objectId);
+        if (context == null) {
+            return request.get();
+        }
+
+        context.bind();
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            context.requestFailed(e);
+            throw e;
+        } finally {
+            context.unbind();
+        }
+    }
+
+    private ObjectData fetchObject(String objectId) {
+        if (objectCache == null) {
+            return objectRequests.execute(objectId, () -> execute(Operation.GET_OBJECT, null, objectId, () -> feignClient.getObject(objectId)));
+        }
+
+        ObjectData cached = objectCache.get(objectId);
+        return cached != null ? cached : objectRequests.execute(objectId, () -> {
+            long generation = objectCache.generation();
+            return objectCache.putRetrieved(objectId, execute(Operation.GET_OBJECT, null, objectId, () -> feignClient.getObject(objectId)), generation);
+        });
+    }
+
+    // a retrieval that is still in flight may have been answered before the write, so it is no longer shared
+    private ObjectData cacheObject(String objectId, ObjectData objData) {
+        if (objectCache != null) {
+            objectCache.put(objectId, objData);
+        }
+        objectRequests.forget(objectId);
+        return objData;
+    }
+
+    // a retrieval of the list that is still in flight may have been answered before the write
+    private <R> R forgetList(String listId, R result) {
+        listRequests.forget(listId);
+        return result;
+    }
+
+    /**
+     * Returns the statistics of the near-cache of this CloudLinkClient.
+     *
+     * @return a snapshot of the cache statistics, or <code>null</code> when no near-cache is configured
+     * @see CloudLinkClientConfig#setObjectCacheConfig(ObjectCacheConfig)
+     */
+    public ObjectCacheStats getObjectCacheStats() {
+        return objectCache == null ? null : objectCache.stats();
+    }
+
+    /**
+     * Removes all objects from the near-cache of this CloudLinkClient. This method has no effect when no near-cache
+     * is configured.
+     */
+    public void invalidateObjectCache() {
+        if (objectCache != null) {
+            objectCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the statistics of the push notification rate limiter that is used by this CloudLinkClient.
+     *
+     * @return a snapshot of the rate limiter statistics, or <code>null</code> when no rate limiter is configured
+     * @see CloudLinkClientConfig#setPushRateLimiterConfig(RateLimiterConfig)
+     */
+    public RateLimiterStats getPushRateLimiterStats() {
+        return pushRateLimiter == null ? null : pushRateLimiter.stats();
+    }
+
+    /**
+     * Returns the current state of the circuit breaker that guards the specified endpoint family.
+     *
+     * @param endpointFamily the endpoint family to return the circuit breaker state for
+     * @return the state of the circuit breaker, which is always {@link CircuitBreakerState#CLOSED} when no circuit
+     * breaker is configured
+     * @throws NullPointerException when <code>endpointFamily</code> is <code>null</code>
+     * @see CloudLinkClientConfig#setCircuitBreakerConfig(CircuitBreakerConfig)
+     */
+    public CircuitBreakerState getCircuitBreakerState(@NotNull EndpointFamily endpointFamily) {
+        Objects.requireNonNull(endpointFamily, "endpointFamily may not be null");
+
+        return circuitBreakers.getState(endpointFamily);
+    }
+
     private Logger.Level getLogLevel(Level level) {
         if (level.intValue() <= Level.FINE.intValue()) {
             return Logger.Level.FULL;
@@ -113,25 +327,6 @@ public class CloudLinkClient {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> T fromJson(ObjectData objData, Class<T> objectType) {
-        if (String.class.equals(objectType)) {
-            return (T) gson.fromJson(objData.getPayload(), StringObject.class).getV();
-        } else {
-            return gson.fromJson(objData.getPayload(), objectType);
-        }
-    }
-
-    private static <T> String toJson(T target) {
-        if (String.class.equals(target.getClass())) {
-            JsonObject jsonObject = new JsonObject();
-            jsonObject.addProperty("v", (String) target);
-            return jsonObject.toString();
-        } else {
-            return gson.toJson(target);
-        }
-    }
-
     /**
      * Send a push notification.
      *
@@ -145,20 +340,121 @@ public class CloudLinkClient {
     public PushNotification sendPushNotification(@NotNull @Valid PushNotification notification) {
         Objects.requireNonNull(notification, "notification may not be null");
 
-        return feignClient.sendPushNotification(
-                notification.getCustomIdentifier(),
-                notification.getTitle(),
-                notification.getBody(),
-                notification.getDeliveryDate(),
-                notification.getPriority(),
-                notification.getExpirationType(),
-                notification.getExpirationAmount(),
-                notification.getTarget().getType(),
-                notification.getTarget().getTopic(),
-                notification.getTarget().getDeviceToken(),
-                notification.isInvisible());
+        return execute(Operation.PUSH, null, null, isIdempotent(notification), () -> feignClient.sendPushNotification(notification));
     };
 
+    /**
+     * Send a collection of push notifications. The push notifications are sent concurrently, with at most
+     * {@link CloudLinkClientConfig#getBulkPushParallelism()} requests in flight at the same time. A push notification
+     * that fails to be sent does not prevent the others from being sent: the outcome of each push notification is
+     * reported in the returned result, in the order of the provided collection. A push notification that fails to
+     * validate is reported with a {@link javax.validation.ConstraintViolationException} and is not sent.
+     *
+     * <p>When no executor is configured, the push notifications are sent from a thread pool of this CloudLinkClient,
+     * which is shared by all its bulk requests and shut down when the CloudLinkClient is closed. Unlike the Java EE
+     * client, there is no asynchronous variant of this method: the calling thread sends push notifications as well
+     * and is blocked until all of them were sent.</p>
+     *
+     * @param notifications the push notifications to send
+     * @return the outcome for each of the provided push notifications
+     * @throws NullPointerException when <code>notifications</code> is <code>null</code>
+     */
+    public BulkPushResult sendPushNotifications(@NotNull Collection<PushNotification> notifications) {
+        Objects.requireNonNull(notifications, "notifications may not be null");
+
+        List<PushNotification> inputs = new ArrayList<>(notifications);
+        BulkPushResult.Item[] items = new BulkPushResult.Item[inputs.size()];
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < inputs.size()) {
+                PushNotification notification = inputs.get(index);
+                try {
+                    validate(notification);
+                    items[index] = new BulkPushResult.Item(index, notification, sendPushNotification(notification), null);
+                } catch (RuntimeException e) {
+                    items[index] = new BulkPushResult.Item(index, notification, null, e);
+                }
+            }
+        };
+
+        // the calling thread acts as one of the workers
+        int helpers = Math.min(Math.max(config.getBulkPushParallelism(), 1), inputs.size()) - 1;
+        Executor executor = helpers > 0 && bulkExecutor == null ? ownBulkExecutor() : bulkExecutor;
+        CountDownLatch helpersDone = new CountDownLatch(Math.max(helpers, 0));
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        worker.run();
+                    } finally {
+                        helpersDone.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                helpersDone.countDown();
+            }
+        }
+        worker.run();
+        awaitUninterruptibly(helpersDone);
+
+        return new BulkPushResult(Arrays.asList(items));
+    }
+
+    // bounded by the bulk push parallelism; concurrent bulk requests queue their helpers, while their calling threads
+    // keep sending. Idle threads end after a minute, and all threads are daemon threads, so that an unclosed
+    // CloudLinkClient does not prevent the JVM from exiting
+    private synchronized Executor ownBulkExecutor() {
+        if (ownBulkExecutor == null) {
+            int threads = Math.max(config.getBulkPushParallelism() - 1, 1);
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "cloudlink-bulk-push-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            if (closed) {
+                // rejects all helpers, so that the calling thread sends every push notification itself
+                executor.shutdown();
+            }
+            ownBulkExecutor = executor;
+        }
+        return ownBulkExecutor;
+    }
+
+    /**
+     * Validates a push notification of a bulk request, which calls {@link #sendPushNotification(PushNotification)}
+     * directly instead of through the validating proxy.
+     */
+    private static void validate(PushNotification notification) {
+        Objects.requireNonNull(notification, "notification may not be null");
+
+        Validator validator = SharedValidator.get();
+        if (validator != null) {
+            Set<ConstraintViolation<PushNotification>> violations = validator.validate(notification);
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
+        }
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * Retrieve an object with the specified identifier. If no object with such an identifier exists,
      * <code>null</code> will be returned.
@@ -174,7 +470,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        ObjectData objData = feignClient.getObject(objectId);
+        ObjectData objData = fetchObject(objectId);
         if (objData.getUid() == null) {
             return null;
         } else {
@@ -197,7 +493,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(objectType, "objectType may not be null");
 
-        ObjectData objData = feignClient.getObject(objectId);
+        ObjectData objData = fetchObject(objectId);
         if (objData.getUid() == null) {
             return null;
         } else {
@@ -222,7 +518,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(target, "target may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        ObjectData objData = feignClient.addObject(objectId, toJson(target));
+        ObjectData objData = cacheObject(objectId, execute(Operation.ADD_OBJECT, null, objectId, () -> feignClient.addObject(objectId, toJson(target))));
         return objectMapper.apply(objData);
     }
 
@@ -242,7 +538,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(target, "target may not be null");
 
-        ObjectData objData = feignClient.addObject(objectId, toJson(target));
+        ObjectData objData = cacheObject(objectId, execute(Operation.ADD_OBJECT, null, objectId, () -> feignClient.addObject(objectId, toJson(target))));
         return fromJson(objData, (Class<T>) target.getClass());
     }
 
@@ -263,7 +559,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(target, "target may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        ObjectData objData = feignClient.updateObject(objectId, toJson(target));
+        ObjectData objData = cacheObject(objectId, execute(Operation.UPDATE_OBJECT, null, objectId, () -> feignClient.updateObject(objectId, toJson(target))));
         if (objData.getUid() == null) {
             return null;
         } else {
@@ -287,7 +583,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(target, "target may not be null");
 
-        ObjectData objData = feignClient.updateObject(objectId, toJson(target));
+        ObjectData objData = cacheObject(objectId, execute(Operation.UPDATE_OBJECT, null, objectId, () -> feignClient.updateObject(objectId, toJson(target))));
         if (objData.getUid() == null) {
             return null;
         } else {
@@ -305,7 +601,14 @@ public class CloudLinkClient {
     public void removeObject(@NotNull @Size(min = 1) String objectId) {
         Objects.requireNonNull(objectId, "objectId may not be null");
 
-        feignClient.removeObject(objectId);
+        execute(Operation.REMOVE_OBJECT, null, objectId, () -> {
+            feignClient.removeObject(objectId);
+            return null;
+        });
+        if (objectCache != null) {
+            objectCache.invalidate(objectId);
+        }
+        objectRequests.forget(objectId);
     }
 
     /**
@@ -323,7 +626,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(listId, "listId may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        List<ObjectData> objDataList = feignClient.getList(listId);
+        List<ObjectData> objDataList = listRequests.execute(listId, () -> execute(Operation.GET_LIST, listId, null, () -> feignClient.getList(listId)));
         return objDataList.stream().map(objectMapper).collect(Collectors.toList());
     }
 
@@ -342,7 +645,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(listId, "listId may not be null");
         Objects.requireNonNull(objectType, "objectType may not be null");
 
-        List<ObjectData> objDataList = feignClient.getList(listId);
+        List<ObjectData> objDataList = listRequests.execute(listId, () -> execute(Operation.GET_LIST, listId, null, () -> feignClient.getList(listId)));
         return objDataList.stream().map(objData -> fromJson(objData, objectType)).collect(Collectors.toList());
     }
 
@@ -364,7 +667,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(target, "target may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        ObjectData objData = feignClient.addToList(listId, objectId, gson.toJson(target));
+        ObjectData objData = forgetList(listId, execute(Operation.ADD_TO_LIST, listId, objectId, () -> feignClient.addToList(listId, objectId, gson().toJson(target))));
         return objectMapper.apply(objData);
     }
 
@@ -385,7 +688,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(target, "target may not be null");
 
-        ObjectData objData = feignClient.addToList(listId, objectId, gson.toJson(target));
+        ObjectData objData = forgetList(listId, execute(Operation.ADD_TO_LIST, listId, objectId, () -> feignClient.addToList(listId, objectId, gson().toJson(target))));
         return fromJson(objData, (Class<T>) target.getClass());
     }
 
@@ -408,7 +711,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(target, "target may not be null");
         Objects.requireNonNull(objectMapper, "objectMapper may not be null");
 
-        ObjectData objData = feignClient.updateInList(listId, objectId, gson.toJson(target));
+        ObjectData objData = forgetList(listId, execute(Operation.UPDATE_IN_LIST, listId, objectId, () -> feignClient.updateInList(listId, objectId, gson().toJson(target))));
         if (objData.getUid() == null) {
             return null;
         } else {
@@ -434,7 +737,7 @@ public class CloudLinkClient {
         Objects.requireNonNull(objectId, "objectId may not be null");
         Objects.requireNonNull(target, "target may not be null");
 
-        ObjectData objData = feignClient.updateInList(listId, objectId, gson.toJson(target));
+        ObjectData objData = forgetList(listId, execute(Operation.UPDATE_IN_LIST, listId, objectId, () -> feignClient.updateInList(listId, objectId, gson().toJson(target))));
         if (objData.getUid() == null) {
             return null;
         } else {
@@ -454,7 +757,32 @@ public class CloudLinkClient {
         Objects.requireNonNull(listId, "listId may not be null");
         Objects.requireNonNull(objectId, "objectId may not be null");
 
-        feignClient.removeFromList(listId, objectId);
+        execute(Operation.REMOVE_FROM_LIST, listId, objectId, () -> {
+            feignClient.removeFromList(listId, objectId);
+            return null;
+        });
+        listRequests.forget(listId);
+    }
+
+    /**
+     * Closes the transport that was created by a registered provider or for the built-in transport of this
+     * CloudLinkClient, and shuts down the thread pool of its bulk requests after the running bulk requests completed.
+     * A transport or executor that is set on the configuration is not closed. When the CloudLinkClient is a bean of the
+     * application context, it is closed with the application context.
+     */
+    @Override
+    public void close() {
+        ExecutorService executor;
+        synchronized (this) {
+            closed = true;
+            executor = ownBulkExecutor;
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+        if (ownedTransport != null) {
+            ownedTransport.close();
+        }
     }
 
 }
@@ -31,6 +31,14 @@
  */
 package com.gluonhq.cloudlink.enterprise.sdk.spring;
 
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransport;
+import okhttp3.OkHttpClient;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 
 /**
@@ -41,6 +49,25 @@ public class CloudLinkClientConfig {
     private String hostname;
     private String serverKey;
     private Level logLevel = Level.OFF;
+    private int maxIdleConnections = 5;
+    private long keepAliveDuration = 300000;
+    private int connectTimeout = 10000;
+    private int readTimeout = 60000;
+    private int writeTimeout = 10000;
+    private int maxRequestsPerHost = 5;
+    private OkHttpClient httpClient;
+    private HttpTransport httpTransport;
+    private CloudLinkTransport transport;
+    private Executor executor;
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM_THREADS;
+    private int bulkPushParallelism = 16;
+    private ObjectCacheConfig objectCacheConfig;
+    private RetryConfig retryConfig;
+    private CircuitBreakerConfig circuitBreakerConfig;
+    private RateLimiterConfig pushRateLimiterConfig;
+    private CompressionConfig compressionConfig;
+    private final List<CloudLinkClientListener> listeners = new CopyOnWriteArrayList<>();
+    private Object meterRegistry;
 
     /**
      * Create a new configuration using the default host name, cloud.gluonhq.com, to connect to Gluon CloudLink.
@@ -119,4 +146,421 @@ public class CloudLinkClientConfig {
     public void setLogLevel(Level logLevel) {
         this.logLevel = logLevel;
     }
+
+    /**
+     * Returns the maximum number of idle connections that are kept in the connection pool.
+     *
+     * @return the maximum number of idle connections in the connection pool
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Sets the maximum number of idle connections that are kept in the connection pool. The default value is
+     * <code>5</code>.
+     *
+     * @param maxIdleConnections the maximum number of idle connections in the connection pool
+     */
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    /**
+     * Returns the time in milliseconds that an idle connection is kept alive in the connection pool.
+     *
+     * @return the keep-alive duration of idle connections in milliseconds
+     */
+    public long getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+
+    /**
+     * Sets the time in milliseconds that an idle connection is kept alive in the connection pool. The default
+     * value is <code>300000</code>, i.e. five minutes.
+     *
+     * @param keepAliveDuration the keep-alive duration of idle connections in milliseconds
+     */
+    public void setKeepAliveDuration(long keepAliveDuration) {
+        this.keepAliveDuration = keepAliveDuration;
+    }
+
+    /**
+     * Returns the timeout in milliseconds for establishing a connection to Gluon CloudLink.
+     *
+     * @return the connect timeout in milliseconds
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Sets the timeout in milliseconds for establishing a connection to Gluon CloudLink. A value of <code>0</code>
+     * means no timeout. The default value is <code>10000</code>.
+     *
+     * @param connectTimeout the connect timeout in milliseconds
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Returns the timeout in milliseconds for reading a response from Gluon CloudLink.
+     *
+     * @return the read timeout in milliseconds
+     */
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Sets the timeout in milliseconds for reading a response from Gluon CloudLink. A value of <code>0</code>
+     * means no timeout. The default value is <code>60000</code>, the read timeout of Feign.
+     *
+     * @param readTimeout the read timeout in milliseconds
+     */
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Returns the timeout in milliseconds for writing a request to Gluon CloudLink.
+     *
+     * @return the write timeout in milliseconds
+     */
+    public int getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    /**
+     * Sets the timeout in milliseconds for writing a request to Gluon CloudLink. A value of <code>0</code>
+     * means no timeout. The default value is <code>10000</code>.
+     *
+     * @param writeTimeout the write timeout in milliseconds
+     */
+    public void setWriteTimeout(int writeTimeout) {
+        this.writeTimeout = writeTimeout;
+    }
+
+    /**
+     * Returns the maximum number of asynchronous requests that are executed concurrently against Gluon CloudLink.
+     *
+     * @return the maximum number of concurrent asynchronous requests
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests, as sent by the {@link ReactiveCloudLinkClient}, that are
+     * executed concurrently against Gluon CloudLink. Additional requests are queued until a running request
+     * completes. The default value is <code>5</code>.
+     *
+     * @param maxRequestsPerHost the maximum number of concurrent asynchronous requests
+     */
+    public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    /**
+     * Returns the OkHttp client that is used for sending requests to Gluon CloudLink, or <code>null</code> if a
+     * client is created from the settings of this configuration.
+     *
+     * @return the OkHttp client to use or <code>null</code>
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Sets an existing OkHttp client to use for sending requests to Gluon CloudLink, so that its connection pool
+     * and dispatcher are shared with the rest of the application. When set, the connection pool, timeout and
+     * dispatcher settings of this configuration are ignored in favour of those of the provided client.
+     *
+     * @param httpClient the OkHttp client to use, or <code>null</code> to create one from this configuration
+     */
+    public void setHttpClient(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Returns the way in which requests are sent to Gluon CloudLink.
+     *
+     * @return the http transport, or <code>null</code> when none is selected
+     */
+    public HttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
+    /**
+     * Sets the way in which requests are sent to Gluon CloudLink. This setting is ignored when a transport is set
+     * with {@link #setTransport(CloudLinkTransport)}, but takes precedence over a registered
+     * {@link com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransportProvider}. When no http transport is
+     * selected, which is the default, the transport of a registered provider is used, or else
+     * {@link HttpTransport#FEIGN}.
+     *
+     * @param httpTransport the http transport, or <code>null</code> to use the transport of a registered provider or
+     * else Feign
+     */
+    public void setHttpTransport(HttpTransport httpTransport) {
+        this.httpTransport = httpTransport;
+    }
+
+    /**
+     * Returns the transport with which requests are sent to Gluon CloudLink.
+     *
+     * @return the transport or <code>null</code> when the transport is created by a registered provider or is the
+     * built-in transport
+     */
+    public CloudLinkTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets the transport with which requests are sent to Gluon CloudLink, instead of the transport of a registered
+     * {@link com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransportProvider} or the built-in transport
+     * that is selected with {@link #setHttpTransport(HttpTransport)}. The transport is not closed when the
+     * CloudLinkClient is closed, so that it can be shared by several CloudLinkClient instances.
+     *
+     * @param transport the transport or <code>null</code> to use the transport of a registered provider or the
+     * built-in transport
+     */
+    public void setTransport(CloudLinkTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Returns the executor that is used for sending push notifications concurrently in a bulk request.
+     *
+     * @return the executor for bulk requests or <code>null</code>
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor that is used for sending push notifications concurrently in
+     * {@link CloudLinkClient#sendPushNotifications(java.util.Collection)}. When no executor is set, each CloudLinkClient
+     * creates a thread pool of daemon threads on its first bulk request, which is bounded by the bulk push parallelism
+     * and shut down when the CloudLinkClient is closed, or virtual threads are used with
+     * {@link ExecutionMode#VIRTUAL_THREADS}. An executor that is set is not shut down by the CloudLinkClient.
+     *
+     * @param executor the executor for bulk requests, or <code>null</code> to use a thread pool of the CloudLinkClient
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns on which threads the client runs the work it does not run on the calling thread.
+     *
+     * @return the execution mode
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Sets on which threads the client runs the work it does not run on the calling thread. With
+     * {@link ExecutionMode#VIRTUAL_THREADS}, bulk push notifications and the calls of the
+     * {@link ReactiveCloudLinkClient} run on virtual threads, which requires Java 21 or later. The default value is
+     * {@link ExecutionMode#PLATFORM_THREADS}.
+     *
+     * @param executionMode the execution mode
+     * @throws NullPointerException when <code>executionMode</code> is <code>null</code>
+     */
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = Objects.requireNonNull(executionMode, "executionMode may not be null");
+    }
+
+    /**
+     * Returns the maximum number of push notifications that are sent concurrently by
+     * {@link CloudLinkClient#sendPushNotifications(java.util.Collection)}.
+     *
+     * @return the maximum number of push notifications that are sent concurrently in a bulk request
+     */
+    public int getBulkPushParallelism() {
+        return bulkPushParallelism;
+    }
+
+    /**
+     * Sets the maximum number of push notifications that are sent concurrently by
+     * {@link CloudLinkClient#sendPushNotifications(java.util.Collection)}. The default value is <code>16</code>.
+     *
+     * @param bulkPushParallelism the maximum number of push notifications that are sent concurrently in a bulk request
+     */
+    public void setBulkPushParallelism(int bulkPushParallelism) {
+        this.bulkPushParallelism = bulkPushParallelism;
+    }
+
+    /**
+     * Returns the configuration of the near-cache for objects.
+     *
+     * @return the near-cache configuration or <code>null</code> when the near-cache is disabled
+     */
+    public ObjectCacheConfig getObjectCacheConfig() {
+        return objectCacheConfig;
+    }
+
+    /**
+     * Enables the near-cache of the {@link CloudLinkClient} for objects with the specified configuration. Objects
+     * retrieved with <code>getObject</code> are then kept in memory, and are updated or evicted when they are added,
+     * updated or removed through the same CloudLinkClient. Changes made to the objects by other clients are not
+     * visible until the cached object expires. The near-cache is disabled by default.
+     *
+     * @param objectCacheConfig the near-cache configuration, or <code>null</code> to disable the near-cache
+     */
+    public void setObjectCacheConfig(ObjectCacheConfig objectCacheConfig) {
+        this.objectCacheConfig = objectCacheConfig;
+    }
+
+    /**
+     * Returns the configuration for retrying requests that failed with a transient error.
+     *
+     * @return the retry configuration or <code>null</code> when the default retry behaviour of Feign is used
+     */
+    public RetryConfig getRetryConfig() {
+        return retryConfig;
+    }
+
+    /**
+     * Enables retrying requests of the {@link CloudLinkClient} that failed with a transient error, with the specified
+     * configuration. When set, the retries of the underlying Feign client are disabled, so that retries are
+     * coordinated by the CloudLinkClient alone. By default, only requests that failed with an I/O error are retried
+     * by Feign.
+     *
+     * @param retryConfig the retry configuration, or <code>null</code> to use the default retry behaviour of Feign
+     */
+    public void setRetryConfig(RetryConfig retryConfig) {
+        this.retryConfig = retryConfig;
+    }
+
+    /**
+     * Returns the configuration for the circuit breakers that guard the Gluon CloudLink endpoints.
+     *
+     * @return the circuit breaker configuration or <code>null</code> when no circuit breakers are used
+     */
+    public CircuitBreakerConfig getCircuitBreakerConfig() {
+        return circuitBreakerConfig;
+    }
+
+    /**
+     * Enables a circuit breaker for each {@link EndpointFamily}, with the specified configuration. No circuit breakers
+     * are used by default.
+     *
+     * @param circuitBreakerConfig the circuit breaker configuration, or <code>null</code> to disable circuit breakers
+     */
+    public void setCircuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+        this.circuitBreakerConfig = circuitBreakerConfig;
+    }
+
+    /**
+     * Returns the configuration for the client-side rate limiter for push notifications.
+     *
+     * @return the rate limiter configuration or <code>null</code> when push notifications are not rate limited
+     */
+    public RateLimiterConfig getPushRateLimiterConfig() {
+        return pushRateLimiterConfig;
+    }
+
+    /**
+     * Enables a client-side rate limiter for push notifications, with the specified configuration. Push
+     * notifications are not rate limited by default. The rate limiter is shared by all clients with the same server
+     * key, so its configuration cannot be changed once a client with this server key was created.
+     *
+     * @param pushRateLimiterConfig the rate limiter configuration, or <code>null</code> to disable rate limiting
+     */
+    public void setPushRateLimiterConfig(RateLimiterConfig pushRateLimiterConfig) {
+        this.pushRateLimiterConfig = pushRateLimiterConfig;
+    }
+
+    /**
+     * Returns the configuration of the gzip compression of request and response bodies.
+     *
+     * @return the compression configuration or <code>null</code> when bodies are not compressed
+     */
+    public CompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+
+    /**
+     * Enables the gzip compression of request and response bodies with the specified configuration. Compression is
+     * disabled by default.
+     *
+     * @param compressionConfig the compression configuration, or <code>null</code> to disable compression
+     */
+    public void setCompressionConfig(CompressionConfig compressionConfig) {
+        this.compressionConfig = compressionConfig;
+    }
+
+    /**
+     * Returns the Micrometer registry in which the metrics of the CloudLinkClient are recorded.
+     *
+     * @return the <code>io.micrometer.core.instrument.MeterRegistry</code> or <code>null</code> when no metrics are
+     * recorded
+     */
+    public Object getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * Sets the Micrometer registry in which the metrics of the CloudLinkClient are recorded: a
+     * <code>cloudlink.client.requests</code> timer tagged with the operation, outcome and http status, the
+     * <code>cloudlink.client.request.size</code> and <code>cloudlink.client.response.size</code> distribution
+     * summaries tagged with the operation, and the <code>cloudlink.client.connections.idle</code> and
+     * <code>cloudlink.client.connections.active</code> gauges for the connection pool. When the CloudLinkClient is
+     * created by the auto-configuration, the <code>MeterRegistry</code> bean of the application context is used.
+     *
+     * <p>Micrometer is an optional dependency, so the registry is typed as <code>Object</code>: this configuration
+     * can then be used, and introspected as a bean, when Micrometer is not on the classpath.</p>
+     *
+     * @param meterRegistry the <code>io.micrometer.core.instrument.MeterRegistry</code>, or <code>null</code> to not
+     * record metrics
+     * @throws IllegalArgumentException when <code>meterRegistry</code> is not a Micrometer <code>MeterRegistry</code>
+     */
+    public void setMeterRegistry(Object meterRegistry) {
+        if (meterRegistry != null && !isMeterRegistry(meterRegistry.getClass())) {
+            throw new IllegalArgumentException(meterRegistry.getClass().getName() + " is not a Micrometer MeterRegistry");
+        }
+        this.meterRegistry = meterRegistry;
+    }
+
+    // compares by name, which does not load the Micrometer class
+    private static boolean isMeterRegistry(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            if ("io.micrometer.core.instrument.MeterRegistry".equals(c.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the listeners that are notified of the lifecycle of every request.
+     *
+     * @return an unmodifiable view of the registered listeners
+     */
+    public List<CloudLinkClientListener> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * Adds a listener that is notified of the lifecycle of every request. Listeners must be added before the
+     * CloudLinkClient is created with this configuration.
+     *
+     * @param listener the listener to add
+     * @throws NullPointerException when <code>listener</code> is <code>null</code>
+     */
+    public void addListener(CloudLinkClientListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener may not be null"));
+    }
+
+    /**
+     * Removes a listener that was added with {@link #addListener(CloudLinkClientListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(CloudLinkClientListener listener) {
+        listeners.remove(listener);
+    }
 }
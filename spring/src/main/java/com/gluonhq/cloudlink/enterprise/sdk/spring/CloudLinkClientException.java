@@ -36,8 +36,17 @@ package com.gluonhq.cloudlink.enterprise.sdk.spring;
  */
 public class CloudLinkClientException extends RuntimeException {
 
+    /**
+     * The status of the exception that is thrown when a request is not sent because the circuit breaker for its
+     * endpoint family is open.
+     *
+     * @see CircuitBreakerConfig
+     */
+    public static final int CIRCUIT_OPEN = -1;
+
     private int status;
     private String body;
+    private long retryAfter = -1;
 
     /**
      * Creates a new CloudLinkClientException with the specified status and message.
@@ -66,6 +75,23 @@ public class CloudLinkClientException extends RuntimeException {
         this.body = body;
     }
 
+    /**
+     * Creates a new CloudLinkClientException with the specified status, message, body and retry delay.
+     *
+     * @param status the http status code of the response
+     * @param message the http reason phrase of the response
+     * @param body the http body of the response
+     * @param retryAfter the delay in milliseconds as specified by the <code>Retry-After</code> header of the
+     * response, or <code>-1</code> if the response did not specify a delay
+     */
+    public CloudLinkClientException(int status, String message, String body, long retryAfter) {
+        super(message);
+
+        this.status = status;
+        this.body = body;
+        this.retryAfter = retryAfter;
+    }
+
     /**
      * Returns the http status code that was defined in the http response.
      *
@@ -83,4 +109,14 @@ public class CloudLinkClientException extends RuntimeException {
     public String getBody() {
         return body;
     }
+
+    /**
+     * Returns the delay in milliseconds after which the request may be retried, as specified by the
+     * <code>Retry-After</code> header of the http response.
+     *
+     * @return the retry delay in milliseconds, or <code>-1</code> if the response did not specify a delay
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+/**
+ * A listener that is notified of the lifecycle of every request that a {@link CloudLinkClient} sends to Gluon
+ * CloudLink, for instance to trace requests or to separate the time spent on the network from the time spent decoding
+ * JSON. Listeners are registered with {@link CloudLinkClientConfig#addListener(CloudLinkClientListener)}.
+ *
+ * <p>For a single request, the callbacks are called in the order in which they are declared, and either
+ * {@link #decodeFinished} or {@link #requestFailed} is called last. Callbacks are called on the thread that performs
+ * the corresponding step of the request and should return quickly. Exceptions that are thrown by a callback are
+ * ignored.</p>
+ */
+public interface CloudLinkClientListener {
+
+    /**
+     * Called before a request is sent.
+     *
+     * @param request the request
+     */
+    default void requestStarted(CloudLinkRequestContext request) {
+    }
+
+    /**
+     * Called when the body of a request has been written.
+     *
+     * @param request the request
+     * @param bytes the number of bytes in the request body
+     */
+    default void requestSent(CloudLinkRequestContext request, long bytes) {
+    }
+
+    /**
+     * Called when the response to a request has been received, before its body is decoded.
+     *
+     * @param request the request
+     * @param status the http status code of the response
+     * @param bytes the length of the response body, or <code>-1</code> when it is not known in advance
+     * @param latency the time in nanoseconds between starting the request and receiving the response
+     */
+    default void responseReceived(CloudLinkRequestContext request, int status, long bytes, long latency) {
+    }
+
+    /**
+     * Called when the body of a successful response has been decoded.
+     *
+     * @param request the request
+     * @param decodeTime the time in nanoseconds that was spent decoding the response body
+     */
+    default void decodeFinished(CloudLinkRequestContext request, long decodeTime) {
+    }
+
+    /**
+     * Called when a request failed, either because no response was received or because the response had an error
+     * status code or could not be decoded.
+     *
+     * @param request the request
+     * @param failure the cause of the failure
+     */
+    default void requestFailed(CloudLinkRequestContext request, Throwable failure) {
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Describes a single request of a {@link CloudLinkClient} to Gluon CloudLink, as passed to the callbacks of a
+ * {@link CloudLinkClientListener}. The same instance is passed to all callbacks for the same request, so that a
+ * listener can keep state for the request in its attributes, like a tracing span. When a request is retried, every
+ * attempt is a new request.
+ */
+public class CloudLinkRequestContext {
+
+    private final String operation;
+    private final EndpointFamily endpointFamily;
+    private final String listId;
+    private final String objectId;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>(4);
+
+    /**
+     * Creates a new request context.
+     *
+     * @param operation the name of the operation
+     * @param endpointFamily the endpoint family of the operation
+     * @param listId the identifier of the list, or <code>null</code> when the operation does not target a list
+     * @param objectId the identifier of the object, or <code>null</code> when the operation does not target an object
+     */
+    public CloudLinkRequestContext(String operation, EndpointFamily endpointFamily, String listId, String objectId) {
+        this.operation = operation;
+        this.endpointFamily = endpointFamily;
+        this.listId = listId;
+        this.objectId = objectId;
+    }
+
+    /**
+     * Returns the name of the operation, like <code>push</code>, <code>getObject</code> or <code>addToList</code>.
+     *
+     * @return the name of the operation
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the endpoint family of the operation.
+     *
+     * @return the endpoint family
+     */
+    public EndpointFamily getEndpointFamily() {
+        return endpointFamily;
+    }
+
+    /**
+     * Returns the identifier of the list that is targeted by the request.
+     *
+     * @return the identifier of the list, or <code>null</code> when the operation does not target a list
+     */
+    public String getListId() {
+        return listId;
+    }
+
+    /**
+     * Returns the identifier of the object that is targeted by the request.
+     *
+     * @return the identifier of the object, or <code>null</code> when the operation does not target an object
+     */
+    public String getObjectId() {
+        return objectId;
+    }
+
+    /**
+     * Returns the value of the attribute with the specified name.
+     *
+     * @param name the name of the attribute
+     * @return the value of the attribute, or <code>null</code> when no such attribute was set
+     */
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * Sets the value of the attribute with the specified name.
+     *
+     * @param name the name of the attribute
+     * @param value the value of the attribute, or <code>null</code> to remove the attribute
+     */
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CloudLinkRequestContext{" +
+                "operation='" + operation + '\'' +
+                ", listId='" + listId + '\'' +
+                ", objectId='" + objectId + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+/**
+ * A configuration class for the gzip compression of the request and response bodies of a {@link CloudLinkClient}.
+ * When set on the {@link CloudLinkClientConfig}, the JSON bodies of objects that are added or updated are compressed
+ * once they reach a minimum size, and Gluon CloudLink is asked to compress its responses. Bodies are compressed and
+ * decompressed while they are written and read, without holding a copy of the uncompressed body.
+ */
+public class CompressionConfig {
+
+    private int minRequestSize = 1024;
+    private boolean compressResponses = true;
+
+    /**
+     * Returns the minimum size of a request body in characters from which it is compressed.
+     *
+     * @return the minimum size of a compressed request body in characters
+     */
+    public int getMinRequestSize() {
+        return minRequestSize;
+    }
+
+    /**
+     * Sets the minimum size of a request body in characters from which it is compressed. Smaller bodies are sent
+     * as they are, as compressing them costs more time than it saves. A negative value disables the compression of
+     * request bodies. The default value is <code>1024</code>.
+     *
+     * @param minRequestSize the minimum size of a compressed request body in characters
+     */
+    public void setMinRequestSize(int minRequestSize) {
+        this.minRequestSize = minRequestSize;
+    }
+
+    /**
+     * Returns whether Gluon CloudLink is asked to compress the bodies of its responses.
+     *
+     * @return <code>true</code> when compressed responses are accepted
+     */
+    public boolean isCompressResponses() {
+        return compressResponses;
+    }
+
+    /**
+     * Sets whether Gluon CloudLink is asked to compress the bodies of its responses, with an
+     * <code>Accept-Encoding: gzip</code> header. The default value is <code>true</code>.
+     *
+     * @param compressResponses <code>true</code> to accept compressed responses
+     */
+    public void setCompressResponses(boolean compressResponses) {
+        this.compressResponses = compressResponses;
+    }
+}
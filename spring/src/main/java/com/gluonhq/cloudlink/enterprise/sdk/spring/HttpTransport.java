@@ -0,0 +1,63 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+/**
+ * The ways in which the {@link CloudLinkClient} sends its requests to Gluon CloudLink, when no transport is set on its
+ * configuration. When no built-in transport is selected either, the transport of a registered
+ * {@link com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransportProvider} is used, or else {@link #FEIGN}.
+ *
+ * @see CloudLinkClientConfig#setHttpTransport(HttpTransport)
+ */
+public enum HttpTransport {
+
+    /**
+     * Requests are described by an annotated interface and sent by Feign over OkHttp. Requests and responses are
+     * logged according to the log level of the configuration.
+     */
+    FEIGN,
+
+    /**
+     * Requests are built and sent directly with OkHttp, and responses are decoded while they are read from the
+     * connection. This avoids the reflective proxy and the encoding and decoding layers of Feign, which make up a
+     * large part of the time spent on small requests. Only the bodies of error responses are logged.
+     */
+    OKHTTP,
+
+    /**
+     * Requests are built and sent directly with the HTTP client of the JDK, which negotiates HTTP/2 with the Gluon
+     * CloudLink host and multiplexes all concurrent requests over a single connection instead of a connection per
+     * request. Responses are decoded while they are read from the connection. This requires Java 11 or later. The
+     * OkHttp client, the connection pool and the dispatcher settings of the configuration are not used.
+     */
+    JDK_HTTP_CLIENT
+}
@@ -0,0 +1,102 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+/**
+ * A configuration class for the near-cache of a {@link CloudLinkClient}. When set on the
+ * {@link CloudLinkClientConfig}, objects that are retrieved with <code>getObject</code> are kept in memory, so that
+ * subsequent retrievals of the same object do not require a request to Gluon CloudLink. Objects that are added,
+ * updated or removed through the same CloudLinkClient instance update the cache accordingly.
+ */
+public class ObjectCacheConfig {
+
+    private int maxEntries = 1000;
+    private long timeToLive = 60000;
+    private long negativeTimeToLive = 5000;
+
+    /**
+     * Returns the maximum number of objects that are kept in the cache.
+     *
+     * @return the maximum number of cached objects
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of objects that are kept in the cache. When the cache is full, the least recently used
+     * object is evicted. The default value is <code>1000</code>.
+     *
+     * @param maxEntries the maximum number of cached objects
+     */
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the time in milliseconds that a retrieved object is kept in the cache.
+     *
+     * @return the time to live of cached objects in milliseconds
+     */
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time in milliseconds that a retrieved object is kept in the cache. The default value is
+     * <code>60000</code>.
+     *
+     * @param timeToLive the time to live of cached objects in milliseconds
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Returns the time in milliseconds that the absence of an object is kept in the cache.
+     *
+     * @return the time to live of cached "not found" results in milliseconds
+     */
+    public long getNegativeTimeToLive() {
+        return negativeTimeToLive;
+    }
+
+    /**
+     * Sets the time in milliseconds that the absence of an object is kept in the cache. A value of <code>0</code>
+     * disables caching of objects that do not exist. The default value is <code>5000</code>.
+     *
+     * @param negativeTimeToLive the time to live of cached "not found" results in milliseconds
+     */
+    public void setNegativeTimeToLive(long negativeTimeToLive) {
+        this.negativeTimeToLive = negativeTimeToLive;
+    }
+}
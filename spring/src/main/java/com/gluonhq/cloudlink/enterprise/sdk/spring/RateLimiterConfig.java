@@ -0,0 +1,123 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+/**
+ * A configuration class for the client-side rate limiter for push notifications of a {@link CloudLinkClient}. The
+ * rate limiter is a token bucket that is refilled at a fixed rate and that holds up to a maximum number of permits,
+ * which allows short bursts of push notifications. Sending a push notification takes one permit.
+ *
+ * <p>Gluon CloudLink throttles push notifications per server key. Therefore, all CloudLinkClient instances in the
+ * same JVM that use the same server key share a single rate limiter, which is created with the configuration of the
+ * first of these instances. Creating or configuring a CloudLinkClient with the same server key and a rate limiter
+ * configuration with different values fails with an <code>IllegalStateException</code>. As the shared rate limiter is
+ * never replaced, the push rate of a server key cannot be changed at runtime.</p>
+ */
+public class RateLimiterConfig {
+
+    /**
+     * The behaviour of the rate limiter when no permit is available.
+     */
+    public enum AcquireMode {
+
+        /**
+         * Waits until a permit becomes available.
+         */
+        BLOCK,
+
+        /**
+         * Fails immediately with a {@link CloudLinkClientException} with status <code>429</code>, of which the
+         * retry delay is set to the time after which a permit becomes available.
+         */
+        FAIL_FAST
+    }
+
+    private double permitsPerSecond = 50;
+    private int burstSize = 50;
+    private AcquireMode acquireMode = AcquireMode.BLOCK;
+
+    /**
+     * Returns the rate at which permits become available.
+     *
+     * @return the number of permits per second
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Sets the rate at which permits become available. The default value is <code>50</code>.
+     *
+     * @param permitsPerSecond the number of permits per second, which must be greater than <code>0</code>
+     */
+    public void setPermitsPerSecond(double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Returns the maximum number of permits that can be acquired at once without waiting.
+     *
+     * @return the burst size
+     */
+    public int getBurstSize() {
+        return burstSize;
+    }
+
+    /**
+     * Sets the maximum number of permits that can be acquired at once without waiting. The default value is
+     * <code>50</code>.
+     *
+     * @param burstSize the burst size, which must be greater than <code>0</code>
+     */
+    public void setBurstSize(int burstSize) {
+        this.burstSize = burstSize;
+    }
+
+    /**
+     * Returns the behaviour of the rate limiter when no permit is available.
+     *
+     * @return the acquire mode
+     */
+    public AcquireMode getAcquireMode() {
+        return acquireMode;
+    }
+
+    /**
+     * Sets the behaviour of the rate limiter when no permit is available. The default value is
+     * {@link AcquireMode#BLOCK}.
+     *
+     * @param acquireMode the acquire mode
+     */
+    public void setAcquireMode(AcquireMode acquireMode) {
+        this.acquireMode = acquireMode;
+    }
+}
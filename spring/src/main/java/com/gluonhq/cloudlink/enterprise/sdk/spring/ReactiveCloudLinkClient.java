@@ -0,0 +1,631 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.ObjectData;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkRequest;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.CircuitBreaker;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.CircuitBreakers;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.CloudLinkRequestFactory;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.GzipDecoder;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.HttpClientFactory;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.OkHttpTransport;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.Operation;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.RateLimiter;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.RetryExecutor;
+import com.google.gson.stream.JsonReader;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+import static com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PayloadConverter.fromJson;
+import static com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PayloadConverter.gson;
+import static com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PayloadConverter.toJson;
+
+/**
+ * A reactive Java client that acts as a wrapper for the Gluon CloudLink Enterprise REST SDK. Every operation returns
+ * a <a href="https://projectreactor.io/">Reactor</a> {@link Mono} or {@link Flux} that executes the request when it
+ * is subscribed to. Requests are executed asynchronously by <a href="http://square.github.io/okhttp/">OkHttp</a>,
+ * so a subscribing thread never blocks while waiting for a response from Gluon CloudLink.
+ *
+ * <p>The objects of a list are read from the response on a scheduler of the ReactiveCloudLinkClient, with at most
+ * {@link CloudLinkClientConfig#getMaxRequestsPerHost()} threads. A ReactiveCloudLinkClient should be closed when it
+ * is no longer needed, which happens with the application context when it is a bean.</p>
+ *
+ * <p>Requests are retried with the {@link RetryConfig}, guarded by circuit breakers with the
+ * {@link CircuitBreakerConfig} and, for push notifications, rate limited with the {@link RateLimiterConfig} of the
+ * configuration, like the requests of a {@link CloudLinkClient}: waiting for a retry or a permit delays the returned
+ * mono instead of blocking a thread. The circuit breakers belong to the ReactiveCloudLinkClient, while the push rate
+ * limiter is shared with all clients that use the same server key. The outcome of retrieving a list is recorded by
+ * its circuit breaker once the response headers arrived, and a list is not retrieved again once objects were
+ * emitted.</p>
+ *
+ * <p>Other features of the CloudLinkClient are not supported by the ReactiveCloudLinkClient:</p>
+ * <ul>
+ *     <li>the {@link CloudLinkClientListener}s of the configuration are not notified;</li>
+ *     <li>no metrics are recorded in the Micrometer registry of the configuration;</li>
+ *     <li>objects are not kept in the near-cache of an {@link ObjectCacheConfig};</li>
+ *     <li>concurrent retrievals of the same object or list are not coalesced into a single request;</li>
+ *     <li>requests are always sent by OkHttp, not by the
+ *     {@link com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransport} of the configuration or of a
+ *     registered provider;</li>
+ *     <li>there is no operation for sending push notifications in bulk.</li>
+ * </ul>
+ */
+@Validated
+public class ReactiveCloudLinkClient implements AutoCloseable {
+
+    private final CloudLinkClientConfig config;
+
+    private final OkHttpClient httpClient;
+
+    private final CloudLinkRequestFactory requestFactory;
+
+    private final Scheduler listScheduler;
+
+    private final RetryExecutor retryExecutor;
+
+    private final CircuitBreakers circuitBreakers;
+
+    private final RateLimiter pushRateLimiter;
+
+    /**
+     * Construct a new ReactiveCloudLinkClient instance with the specified configuration.
+     *
+     * @param cloudLinkConfig the configuration to use for configuring the ReactiveCloudLinkClient
+     */
+    public ReactiveCloudLinkClient(CloudLinkClientConfig cloudLinkConfig) {
+        this.config = Objects.requireNonNull(cloudLinkConfig);
+        // resolved first, so that a configuration that conflicts with the limiter of its server key is rejected before
+        // an http client is created
+        this.pushRateLimiter = config.getPushRateLimiterConfig() == null ? null
+                : RateLimiter.forServerKey(config.getServerKey(), config.getPushRateLimiterConfig());
+        this.httpClient = HttpClientFactory.create(config);
+        this.requestFactory = new CloudLinkRequestFactory(config);
+        this.listScheduler = Schedulers.newParallel("cloudlink-list", Math.max(config.getMaxRequestsPerHost(), 1), true);
+        this.retryExecutor = new RetryExecutor(config.getRetryConfig(), failure -> failure instanceof IOException);
+        this.circuitBreakers = new CircuitBreakers(config.getCircuitBreakerConfig(), failure -> failure instanceof IOException);
+    }
+
+    /**
+     * Returns the statistics of the push notification rate limiter that is used by this ReactiveCloudLinkClient.
+     *
+     * @return a snapshot of the rate limiter statistics, or <code>null</code> when no rate limiter is configured
+     * @see CloudLinkClientConfig#setPushRateLimiterConfig(RateLimiterConfig)
+     */
+    public RateLimiterStats getPushRateLimiterStats() {
+        return pushRateLimiter == null ? null : pushRateLimiter.stats();
+    }
+
+    /**
+     * Returns the current state of the circuit breaker that guards the specified endpoint family.
+     *
+     * @param endpointFamily the endpoint family to return the circuit breaker state for
+     * @return the state of the circuit breaker, which is always {@link CircuitBreakerState#CLOSED} when no circuit
+     * breaker is configured
+     * @throws NullPointerException when <code>endpointFamily</code> is <code>null</code>
+     * @see CloudLinkClientConfig#setCircuitBreakerConfig(CircuitBreakerConfig)
+     */
+    public CircuitBreakerState getCircuitBreakerState(@NotNull EndpointFamily endpointFamily) {
+        Objects.requireNonNull(endpointFamily, "endpointFamily may not be null");
+
+        return circuitBreakers.getState(endpointFamily);
+    }
+
+    /**
+     * Send a push notification.
+     *
+     * @param notification the push notification to send
+     * @return a mono that emits the push notification that was sent, with the identifier and creation date set
+     * @throws javax.validation.ConstraintViolationException when the provided push notification object fails to
+     * validate
+     * @throws NullPointerException when <code>notification</code> is <code>null</code>
+     */
+    public Mono<PushNotification> sendPushNotification(@NotNull @Valid PushNotification notification) {
+        Objects.requireNonNull(notification, "notification may not be null");
+
+        return exchange(Operation.PUSH, isIdempotent(notification), requestFactory.sendPushNotification(notification),
+                body -> gson().fromJson(body, PushNotification.class));
+    }
+
+    /**
+     * Retrieve an object with the specified identifier. If no object with such an identifier exists, the returned
+     * mono completes without emitting a value.
+     *
+     * @param objectId the identifier of the object to retrieve
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the returned object
+     * @return a mono that emits the object attached to the specified identifier
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Mono<T> getObject(@NotNull @Size(min = 1) String objectId, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        return exchange(Operation.GET_OBJECT, requestFactory.getObject(objectId), body -> readOptionalObject(body, objectMapper));
+    }
+
+    /**
+     * Retrieve an object with the specified identifier. If no object with such an identifier exists, the returned
+     * mono completes without emitting a value.
+     *
+     * @param objectId the identifier of the object to retrieve
+     * @param objectType the type of the returned object
+     * @param <T> the type of the returned object
+     * @return a mono that emits the object attached to the specified identifier
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Mono<T> getObject(@NotNull @Size(min = 1) String objectId, @NotNull Class<T> objectType) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(objectType, "objectType may not be null");
+
+        return getObject(objectId, objData -> fromJson(objData, objectType));
+    }
+
+    /**
+     * Adds the object with the specified identifier. If an object already exists with the specified identifier,
+     * the existing object will be overwritten with the new value.
+     *
+     * @param objectId the identifier of the object to add
+     * @param target the object to add
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the added object
+     * @return a mono that emits the newly added object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Mono<T> addObject(@NotNull @Size(min = 1) String objectId, @NotNull T target, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        return exchange(Operation.ADD_OBJECT, requestFactory.addObject(objectId, toJson(target)), body -> readObject(body, objectMapper));
+    }
+
+    /**
+     * Adds the object with the specified identifier. If an object already exists with the specified identifier,
+     * the existing object will be overwritten with the new value.
+     *
+     * @param objectId the identifier of the object to add
+     * @param target the object to add
+     * @param <T> the type of the added object
+     * @return a mono that emits the newly added object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> addObject(@NotNull @Size(min = 1) String objectId, @NotNull T target) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+
+        return addObject(objectId, target, objData -> fromJson(objData, (Class<T>) target.getClass()));
+    }
+
+    /**
+     * Updates the object with the specified identifier. If no object exists with the specified identifier,
+     * nothing will happen and the returned mono completes without emitting a value.
+     *
+     * @param objectId the identifier of the object to update
+     * @param target the object to update
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the updated object
+     * @return a mono that emits the updated object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Mono<T> updateObject(@NotNull @Size(min = 1) String objectId, @NotNull T target, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        return exchange(Operation.UPDATE_OBJECT, requestFactory.updateObject(objectId, toJson(target)), body -> readOptionalObject(body, objectMapper));
+    }
+
+    /**
+     * Updates the object with the specified identifier. If no object exists with the specified identifier,
+     * nothing will happen and the returned mono completes without emitting a value.
+     *
+     * @param objectId the identifier of the object to update
+     * @param target the object to update
+     * @param <T> the type of the updated object
+     * @return a mono that emits the updated object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> updateObject(@NotNull @Size(min = 1) String objectId, @NotNull T target) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+
+        return updateObject(objectId, target, objData -> fromJson(objData, (Class<T>) target.getClass()));
+    }
+
+    /**
+     * Removes the object with the specified identifier.
+     *
+     * @param objectId the identifier of the object to remove
+     * @return a mono that completes when the object has been removed
+     * @throws NullPointerException when <code>objectId</code> is <code>null</code>
+     */
+    public Mono<Void> removeObject(@NotNull @Size(min = 1) String objectId) {
+        Objects.requireNonNull(objectId, "objectId may not be null");
+
+        return exchange(Operation.REMOVE_OBJECT, requestFactory.removeObject(objectId), body -> null);
+    }
+
+    /**
+     * Retrieve a list with the specified identifier. The returned flux emits the objects that were added to the
+     * list, one by one as they are decoded from the response. An object is only read from the response when it is
+     * requested by the subscriber, so a slow subscriber holds on to the HTTP connection instead of the whole list.
+     *
+     * @param listId the identifier of the list to retrieve
+     * @param objectMapper a mapper to convert instances of ObjectData into the defined object type
+     * @param <T> the type of the objects in the list
+     * @return a flux that emits the objects in the list attached to the specified identifier
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Flux<T> getList(@NotNull @Size(min = 1) String listId, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        Request request = OkHttpTransport.request(requestFactory.getList(listId));
+        Mono<Response> response = execute(Operation.GET_LIST, true, Mono.create(sink -> {
+            Call call = httpClient.newCall(request);
+            sink.onCancel(call::cancel);
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    sink.error(e);
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) {
+                    if (response.code() == 200) {
+                        sink.success(response);
+                        return;
+                    }
+
+                    try (ResponseBody body = response.body()) {
+                        sink.error(handleErrorResponse(response, body));
+                    } catch (IOException | RuntimeException e) {
+                        sink.error(e);
+                    }
+                }
+            });
+        }));
+
+        // reading the body blocks, so the objects are read on demand on the list scheduler
+        return response.flatMapMany(listResponse -> Flux.<T, JsonReader>generate(
+                () -> openArray(listResponse),
+                (reader, sink) -> {
+                    try {
+                        if (reader.hasNext()) {
+                            sink.next(objectMapper.apply(gson().fromJson(reader, ObjectData.class)));
+                        }
+                        // completes together with the last object, which may be all the subscriber requested
+                        if (!reader.hasNext()) {
+                            reader.endArray();
+                            sink.complete();
+                        }
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                    return reader;
+                },
+                ReactiveCloudLinkClient::closeQuietly)
+                .subscribeOn(listScheduler, true));
+    }
+
+    /**
+     * Retrieve a list with the specified identifier. The returned flux emits the objects that were added to the
+     * list, one by one as they are decoded from the response.
+     *
+     * @param listId the identifier of the list to retrieve
+     * @param objectType the type of the objects in the list
+     * @param <T> the type of the objects in the list
+     * @return a flux that emits the objects in the list attached to the specified identifier
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Flux<T> getList(@NotNull @Size(min = 1) String listId, @NotNull Class<T> objectType) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectType, "objectType may not be null");
+
+        return getList(listId, objData -> fromJson(objData, objectType));
+    }
+
+    /**
+     * Adds an object to the list with the specified identifiers.
+     *
+     * @param listId the identifier of the list to add the object to
+     * @param objectId the identifier of the object to add
+     * @param target the object to add
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the added object
+     * @return a mono that emits the newly added object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Mono<T> addToList(@NotNull @Size(min = 1) String listId, @NotNull @Size(min = 1) String objectId, @NotNull T target, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        return exchange(Operation.ADD_TO_LIST, requestFactory.addToList(listId, objectId, gson().toJson(target)), body -> readObject(body, objectMapper));
+    }
+
+    /**
+     * Adds an object to the list with the specified identifiers.
+     *
+     * @param listId the identifier of the list to add the object to
+     * @param objectId the identifier of the object to add
+     * @param target the object to add
+     * @param <T> the type of the added object
+     * @return a mono that emits the newly added object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> addToList(@NotNull @Size(min = 1) String listId, @NotNull @Size(min = 1) String objectId, @NotNull T target) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+
+        return addToList(listId, objectId, target, objData -> fromJson(objData, (Class<T>) target.getClass()));
+    }
+
+    /**
+     * Updates an existing object in the list with the specified identifiers. When the object with the specified
+     * identifier does not exist in the list, nothing will happen and the returned mono completes without emitting
+     * a value.
+     *
+     * @param listId the identifier of the list to update the object in
+     * @param objectId the identifier of the object to update
+     * @param target the object to update
+     * @param objectMapper a mapper to convert an instance of ObjectData into the defined object type
+     * @param <T> the type of the updated object
+     * @return a mono that emits the updated object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public <T> Mono<T> updateInList(@NotNull @Size(min = 1) String listId, @NotNull @Size(min = 1) String objectId, @NotNull T target, @NotNull Function<ObjectData, T> objectMapper) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+        Objects.requireNonNull(objectMapper, "objectMapper may not be null");
+
+        return exchange(Operation.UPDATE_IN_LIST, requestFactory.updateInList(listId, objectId, gson().toJson(target)), body -> readOptionalObject(body, objectMapper));
+    }
+
+    /**
+     * Updates an existing object in the list with the specified identifiers. When the object with the specified
+     * identifier does not exist in the list, nothing will happen and the returned mono completes without emitting
+     * a value.
+     *
+     * @param listId the identifier of the list to update the object in
+     * @param objectId the identifier of the object to update
+     * @param target the object to update
+     * @param <T> the type of the updated object
+     * @return a mono that emits the updated object
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> updateInList(@NotNull @Size(min = 1) String listId, @NotNull @Size(min = 1) String objectId, @NotNull T target) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+        Objects.requireNonNull(target, "target may not be null");
+
+        return updateInList(listId, objectId, target, objData -> fromJson(objData, (Class<T>) target.getClass()));
+    }
+
+    /**
+     * Removes the object from the list with the specified identifiers.
+     *
+     * @param listId the identifier of the list to remove the object from
+     * @param objectId the identifier of the object to remove
+     * @return a mono that completes when the object has been removed from the list
+     * @throws NullPointerException when any of the parameters is <code>null</code>
+     */
+    public Mono<Void> removeFromList(@NotNull @Size(min = 1) String listId, @NotNull @Size(min = 1) String objectId) {
+        Objects.requireNonNull(listId, "listId may not be null");
+        Objects.requireNonNull(objectId, "objectId may not be null");
+
+        return exchange(Operation.REMOVE_FROM_LIST, requestFactory.removeFromList(listId, objectId), body -> null);
+    }
+
+    private boolean isIdempotent(PushNotification notification) {
+        RetryConfig retryConfig = config.getRetryConfig();
+        return retryConfig != null && retryConfig.isRetryPushWithCustomIdentifier()
+                && notification.getCustomIdentifier() != null && !notification.getCustomIdentifier().isEmpty();
+    }
+
+    /**
+     * Retries the call, rate limits push notifications and guards the call with the circuit breaker of its endpoint
+     * family, in the same order as the CloudLinkClient does. Every subscription to the call sends a new request.
+     */
+    private <T> Mono<T> execute(Operation operation, boolean idempotent, Mono<T> call) {
+        Mono<T> guarded = guard(circuitBreakers.get(operation.getEndpointFamily()), call);
+        RateLimiter rateLimiter = operation.getEndpointFamily() == EndpointFamily.PUSH ? pushRateLimiter : null;
+        Mono<T> attempt = rateLimiter == null ? guarded : Mono.defer(() -> {
+            long wait = rateLimiter.reserve();
+            return wait > 0 ? Mono.delay(Duration.ofNanos(wait)).then(guarded) : guarded;
+        });
+        return Mono.defer(() -> retry(attempt, idempotent, 1, System.nanoTime()));
+    }
+
+    private static <T> Mono<T> guard(CircuitBreaker circuitBreaker, Mono<T> call) {
+        if (circuitBreaker == null) {
+            return call;
+        }
+
+        return Mono.defer(() -> {
+            long admitted = circuitBreaker.acquirePermission();
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(value -> circuitBreaker.onResult(admitted, null, System.nanoTime() - start))
+                    .doOnError(failure -> circuitBreaker.onResult(admitted, failure, System.nanoTime() - start))
+                    .doOnCancel(() -> circuitBreaker.onCancel(admitted));
+        });
+    }
+
+    private <T> Mono<T> retry(Mono<T> attempt, boolean idempotent, int attemptNumber, long start) {
+        return attempt.onErrorResume(failure -> {
+            long delay = retryExecutor.delayBeforeRetry(idempotent, attemptNumber, failure, start);
+            if (delay < 0) {
+                return Mono.error(failure);
+            }
+            return Mono.delay(Duration.ofMillis(delay)).then(retry(attempt, idempotent, attemptNumber + 1, start));
+        });
+    }
+
+    private <T> Mono<T> exchange(Operation operation, CloudLinkRequest cloudLinkRequest, ResponseReader<T> responseReader) {
+        return exchange(operation, true, cloudLinkRequest, responseReader);
+    }
+
+    private <T> Mono<T> exchange(Operation operation, boolean idempotent, CloudLinkRequest cloudLinkRequest,
+            ResponseReader<T> responseReader) {
+        Request request = OkHttpTransport.request(cloudLinkRequest);
+        return execute(operation, idempotent, Mono.create(sink -> {
+            Call call = httpClient.newCall(request);
+            sink.onCancel(call::cancel);
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    sink.error(e);
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) {
+                    try (ResponseBody body = response.body()) {
+                        if (response.code() == 200) {
+                            sink.success(responseReader.read(reader(response, body)));
+                        } else {
+                            sink.error(handleErrorResponse(response, body));
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        sink.error(e);
+                    }
+                }
+            });
+        }));
+    }
+
+    private static JsonReader openArray(Response response) throws IOException {
+        ResponseBody body = response.body();
+        try {
+            JsonReader reader = new JsonReader(reader(response, body));
+            reader.beginArray();
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            body.close();
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(JsonReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // the connection is not reused when the body could not be closed cleanly
+        }
+    }
+
+    private static <T> T readObject(Reader body, Function<ObjectData, T> objectMapper) throws IOException {
+        ObjectData objData = gson().fromJson(body, ObjectData.class);
+        return objectMapper.apply(objData);
+    }
+
+    private static <T> T readOptionalObject(Reader body, Function<ObjectData, T> objectMapper) throws IOException {
+        ObjectData objData = gson().fromJson(body, ObjectData.class);
+        if (objData.getUid() == null) {
+            return null;
+        } else {
+            return objectMapper.apply(objData);
+        }
+    }
+
+    private CloudLinkClientException handleErrorResponse(Response response, ResponseBody body) throws IOException {
+        long retryAfter = RetryExecutor.parseRetryAfter(response.header("Retry-After"));
+        if (config.getLogLevel().intValue() <= Level.FINE.intValue()) {
+            return new CloudLinkClientException(response.code(), response.message(), readString(reader(response, body)), retryAfter);
+        } else {
+            return new CloudLinkClientException(response.code(), response.message(), null, retryAfter);
+        }
+    }
+
+    /**
+     * Returns a reader of the body of the specified response, which decompresses it when it is gzip encoded: OkHttp
+     * only does so itself when it added the <code>Accept-Encoding</code> header.
+     */
+    private static Reader reader(Response response, ResponseBody body) throws IOException {
+        InputStream stream = GzipDecoder.decode(body.byteStream(), response.header("Content-Encoding"));
+        return new InputStreamReader(stream, StandardCharsets.UTF_8);
+    }
+
+    private static String readString(Reader reader) throws IOException {
+        StringBuilder string = new StringBuilder();
+        char[] buffer = new char[1024];
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            string.append(buffer, 0, read);
+        }
+        return string.toString();
+    }
+
+    /**
+     * Releases the threads on which the objects of lists are read from their responses.
+     */
+    @Override
+    public void close() {
+        listScheduler.dispose();
+    }
+
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(Reader body) throws IOException;
+    }
+}
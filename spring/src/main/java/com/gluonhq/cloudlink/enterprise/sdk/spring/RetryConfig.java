@@ -0,0 +1,151 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+/**
+ * A configuration class for retrying requests to Gluon CloudLink that failed with a transient error. When set on the
+ * {@link CloudLinkClientConfig}, requests that fail with an I/O error or with one of the HTTP status codes
+ * <code>429</code>, <code>500</code>, <code>502</code>, <code>503</code> or <code>504</code> are retried with an
+ * exponential backoff and full jitter. A delay requested by a <code>Retry-After</code> response header is honored.
+ *
+ * <p>Retrieving, adding, updating and removing objects and lists is always retried. Push notifications are not
+ * retried by default, as a push notification that failed after it was accepted by Gluon CloudLink would be delivered
+ * twice. See {@link #setRetryPushWithCustomIdentifier(boolean)} to retry push notifications that carry a custom
+ * identifier.</p>
+ */
+public class RetryConfig {
+
+    private int maxAttempts = 3;
+    private long baseDelay = 100;
+    private long maxDelay = 5000;
+    private long deadline = 30000;
+    private boolean retryPushWithCustomIdentifier = false;
+
+    /**
+     * Returns the maximum number of attempts for a single request, including the first attempt.
+     *
+     * @return the maximum number of attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Sets the maximum number of attempts for a single request, including the first attempt. The default value is
+     * <code>3</code>.
+     *
+     * @param maxAttempts the maximum number of attempts
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Returns the base delay in milliseconds of the exponential backoff.
+     *
+     * @return the base delay in milliseconds
+     */
+    public long getBaseDelay() {
+        return baseDelay;
+    }
+
+    /**
+     * Sets the base delay in milliseconds of the exponential backoff. The delay before retry <code>n</code> is a
+     * random value between <code>0</code> and <code>baseDelay * 2^(n - 1)</code>, capped by the maximum delay. The
+     * default value is <code>100</code>.
+     *
+     * @param baseDelay the base delay in milliseconds
+     */
+    public void setBaseDelay(long baseDelay) {
+        this.baseDelay = baseDelay;
+    }
+
+    /**
+     * Returns the maximum delay in milliseconds between two attempts.
+     *
+     * @return the maximum delay in milliseconds
+     */
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Sets the maximum delay in milliseconds between two attempts, unless a longer delay is requested by a
+     * <code>Retry-After</code> response header. The default value is <code>5000</code>.
+     *
+     * @param maxDelay the maximum delay in milliseconds
+     */
+    public void setMaxDelay(long maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Returns the time in milliseconds after the first attempt after which no more attempts are made.
+     *
+     * @return the deadline in milliseconds
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Sets the time in milliseconds after the first attempt after which no more attempts are made. A retry that
+     * would start after the deadline is not attempted, and the last failure is propagated instead. A value of
+     * <code>0</code> or less disables the deadline. The default value is <code>30000</code>.
+     *
+     * @param deadline the deadline in milliseconds
+     */
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns whether push notifications with a custom identifier are retried.
+     *
+     * @return <code>true</code> when push notifications with a custom identifier are retried
+     */
+    public boolean isRetryPushWithCustomIdentifier() {
+        return retryPushWithCustomIdentifier;
+    }
+
+    /**
+     * Sets whether push notifications with a non-empty custom identifier are retried. Only enable this when the
+     * custom identifiers are unique per push notification and the receiving application discards push notifications
+     * with a custom identifier it has already received. Push notifications without a custom identifier are never
+     * retried. The default value is <code>false</code>.
+     *
+     * @param retryPushWithCustomIdentifier <code>true</code> to retry push notifications with a custom identifier
+     */
+    public void setRetryPushWithCustomIdentifier(boolean retryPushWithCustomIdentifier) {
+        this.retryPushWithCustomIdentifier = retryPushWithCustomIdentifier;
+    }
+}
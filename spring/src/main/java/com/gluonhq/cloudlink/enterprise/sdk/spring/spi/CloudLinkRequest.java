@@ -0,0 +1,131 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A request to Gluon CloudLink, as it is sent by a {@link CloudLinkTransport}. The headers include the authentication
+ * of the request, and the body is already encoded.
+ */
+public final class CloudLinkRequest {
+
+    private final String method;
+    private final URI uri;
+    private final Map<String, String> headers;
+    private final Body body;
+
+    /**
+     * Creates a new request.
+     *
+     * @param method the HTTP method of the request
+     * @param uri the absolute URI of the request
+     * @param headers the headers of the request, not including the content type and length of the body
+     * @param body the body of the request, or <code>null</code> when the request has no body
+     */
+    public CloudLinkRequest(String method, URI uri, Map<String, String> headers, Body body) {
+        this.method = Objects.requireNonNull(method, "method may not be null");
+        this.uri = Objects.requireNonNull(uri, "uri may not be null");
+        this.headers = Objects.requireNonNull(headers, "headers may not be null");
+        this.body = body;
+    }
+
+    /**
+     * Returns the HTTP method of the request, like <code>GET</code> or <code>POST</code>.
+     *
+     * @return the HTTP method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the absolute URI of the request, of which the path segments are already encoded.
+     *
+     * @return the URI
+     */
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * Returns the headers of the request, not including the content type and length of the body. The returned map
+     * may be shared between requests and must not be modified.
+     *
+     * @return the headers, by header name
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the body of the request.
+     *
+     * @return the body, or <code>null</code> when the request has no body
+     */
+    public Body getBody() {
+        return body;
+    }
+
+    /**
+     * The encoded body of a request.
+     */
+    public interface Body {
+
+        /**
+         * Returns the media type of the body, which is sent as the <code>Content-Type</code> header.
+         *
+         * @return the media type
+         */
+        String getContentType();
+
+        /**
+         * Returns the number of bytes that {@link #writeTo(OutputStream)} writes.
+         *
+         * @return the length of the body, or <code>-1</code> when the length is not known in advance
+         */
+        long getContentLength();
+
+        /**
+         * Writes the body to the specified output stream. The body can be written more than once, for instance when
+         * a transport retries a request on a new connection.
+         *
+         * @param outputStream the output stream to write to, which is not closed
+         * @throws IOException when writing to the output stream fails
+         */
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring.spi;
+
+import java.io.IOException;
+
+/**
+ * Sends the requests of a {@link com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClient} to Gluon CloudLink.
+ * The CloudLinkClient builds every request completely, including the authentication header and the encoded body,
+ * and reads the body of the response while it is streamed from the transport, so that a transport only has to move
+ * the bytes of the request and the response.
+ *
+ * <p>A transport is shared by all threads that use the CloudLinkClient, including the threads of a bulk push, and
+ * must be thread-safe. A transport is either set with {@link com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientConfig#setTransport(CloudLinkTransport)},
+ * or created by a {@link CloudLinkTransportProvider} that is registered with the {@link java.util.ServiceLoader}.</p>
+ */
+public interface CloudLinkTransport extends AutoCloseable {
+
+    /**
+     * Sends the specified request and waits for the response.
+     *
+     * @param request the request to send
+     * @return the response, of which the body is read by the caller
+     * @throws IOException when the request could not be sent or no response was received
+     */
+    CloudLinkResponse execute(CloudLinkRequest request) throws IOException;
+
+    /**
+     * Releases the resources of this transport. A CloudLinkClient only closes the transports that it created itself,
+     * when it is closed. The default implementation does nothing.
+     */
+    @Override
+    default void close() {
+    }
+}
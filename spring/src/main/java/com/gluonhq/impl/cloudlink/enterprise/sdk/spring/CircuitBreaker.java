@@ -0,0 +1,281 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CircuitBreakerConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CircuitBreakerListener;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CircuitBreakerState;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientException;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.EndpointFamily;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class CircuitBreaker {
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+    private static final long REJECTED = -1;
+
+    private final EndpointFamily endpointFamily;
+    private final CircuitBreakerConfig config;
+    private final Predicate<Throwable> transientFailure;
+    private final long slowCallDurationThreshold;
+    private final long waitDurationInOpenState;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final byte[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int failedCount;
+    private int slowCount;
+    private int halfOpenSuccesses;
+    private int halfOpenPermits;
+
+    // incremented by every state transition, so that the outcome of a call that was admitted before is ignored
+    private volatile long generation;
+    private volatile CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private volatile long openedAt;
+
+    /**
+     * @param transientFailure tests whether a failure other than an error response is transient, e.g. an I/O error
+     */
+    public CircuitBreaker(EndpointFamily endpointFamily, CircuitBreakerConfig config,
+            Predicate<Throwable> transientFailure) {
+        this.endpointFamily = endpointFamily;
+        this.config = config;
+        this.transientFailure = transientFailure;
+        this.slowCallDurationThreshold = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationThreshold());
+        this.waitDurationInOpenState = TimeUnit.MILLISECONDS.toNanos(config.getWaitDurationInOpenState());
+        this.window = new byte[Math.max(1, config.getSlidingWindowSize())];
+    }
+
+    public CircuitBreakerState getState() {
+        return state;
+    }
+
+    public <R> R execute(Supplier<R> request) {
+        long admitted = tryAcquirePermission();
+        if (admitted == REJECTED) {
+            throw openException();
+        }
+
+        long start = System.nanoTime();
+        R result;
+        try {
+            result = request.get();
+        } catch (RuntimeException e) {
+            record(admitted, isFailure(e), System.nanoTime() - start);
+            throw e;
+        }
+        record(admitted, false, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Admits a call that completes without blocking, of which the outcome must be passed to
+     * {@link #onResult(long, Throwable, long)} or {@link #onCancel(long)}.
+     *
+     * @return the permission to pass on with the outcome of the call
+     * @throws CloudLinkClientException when the circuit breaker does not admit the call
+     */
+    public long acquirePermission() {
+        long admitted = tryAcquirePermission();
+        if (admitted == REJECTED) {
+            throw openException();
+        }
+        return admitted;
+    }
+
+    /**
+     * Records the outcome of a call that was admitted by {@link #acquirePermission()}.
+     *
+     * @param failure the failure of the call, or <code>null</code> when it succeeded
+     * @param duration the duration of the call in nanoseconds
+     */
+    public void onResult(long admitted, Throwable failure, long duration) {
+        record(admitted, failure != null && isFailure(failure), duration);
+    }
+
+    /**
+     * Returns the permit of a call that was admitted by {@link #acquirePermission()} and cancelled before it
+     * completed, so that a cancelled probe does not keep the circuit breaker half-open.
+     */
+    public void onCancel(long admitted) {
+        lock.lock();
+        try {
+            if (admitted == generation && state == CircuitBreakerState.HALF_OPEN) {
+                halfOpenPermits++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the generation in which the call is admitted, or {@link #REJECTED}. Calls are admitted without locking
+     * while the circuit breaker is closed; the permits of the half-open state are taken under the lock, so that they
+     * never drop below zero and always belong to the generation that granted them.
+     */
+    private long tryAcquirePermission() {
+        // read before the state: a transition in between makes the outcome of the call stale instead of misattributed
+        long current = generation;
+        CircuitBreakerState currentState = state;
+        if (currentState == CircuitBreakerState.CLOSED) {
+            return current;
+        }
+        if (currentState == CircuitBreakerState.OPEN && System.nanoTime() - openedAt < waitDurationInOpenState) {
+            return REJECTED;
+        }
+
+        long admitted = REJECTED;
+        boolean transitioned = false;
+        lock.lock();
+        try {
+            if (state == CircuitBreakerState.OPEN && System.nanoTime() - openedAt >= waitDurationInOpenState) {
+                state = CircuitBreakerState.HALF_OPEN;
+                generation++;
+                halfOpenSuccesses = 0;
+                halfOpenPermits = config.getPermittedCallsInHalfOpenState();
+                transitioned = true;
+            }
+            if (state == CircuitBreakerState.CLOSED) {
+                admitted = generation;
+            } else if (state == CircuitBreakerState.HALF_OPEN && halfOpenPermits > 0) {
+                halfOpenPermits--;
+                admitted = generation;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (transitioned) {
+            notifyListener(CircuitBreakerState.OPEN, CircuitBreakerState.HALF_OPEN);
+        }
+        return admitted;
+    }
+
+    private void record(long admitted, boolean failed, long duration) {
+        byte outcome = (byte) ((failed ? FAILED : 0) | (duration > slowCallDurationThreshold ? SLOW : 0));
+
+        CircuitBreakerState from = null;
+        CircuitBreakerState to = null;
+        lock.lock();
+        try {
+            // the outcome of a call that was admitted in an earlier state, e.g. before the circuit breaker opened, is
+            // neither counted in the window nor taken as the outcome of a probe
+            if (admitted != generation) {
+                return;
+            }
+            if (state == CircuitBreakerState.CLOSED) {
+                if (windowCount == window.length) {
+                    byte evicted = window[windowIndex];
+                    failedCount -= evicted & FAILED;
+                    slowCount -= (evicted & SLOW) >> 1;
+                } else {
+                    windowCount++;
+                }
+                window[windowIndex] = outcome;
+                windowIndex = (windowIndex + 1) % window.length;
+                failedCount += outcome & FAILED;
+                slowCount += (outcome & SLOW) >> 1;
+
+                if (windowCount >= config.getMinimumNumberOfCalls() && exceedsThresholds()) {
+                    from = CircuitBreakerState.CLOSED;
+                    to = CircuitBreakerState.OPEN;
+                    open();
+                }
+            } else if (state == CircuitBreakerState.HALF_OPEN) {
+                if (outcome != 0) {
+                    from = CircuitBreakerState.HALF_OPEN;
+                    to = CircuitBreakerState.OPEN;
+                    open();
+                } else if (++halfOpenSuccesses >= config.getPermittedCallsInHalfOpenState()) {
+                    from = CircuitBreakerState.HALF_OPEN;
+                    to = CircuitBreakerState.CLOSED;
+                    close();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (to != null) {
+            notifyListener(from, to);
+        }
+    }
+
+    private boolean exceedsThresholds() {
+        return failedCount * 100f >= config.getFailureRateThreshold() * windowCount
+                || slowCount * 100f >= config.getSlowCallRateThreshold() * windowCount;
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        halfOpenPermits = 0;
+        generation++;
+        state = CircuitBreakerState.OPEN;
+    }
+
+    private void close() {
+        windowIndex = 0;
+        windowCount = 0;
+        failedCount = 0;
+        slowCount = 0;
+        generation++;
+        state = CircuitBreakerState.CLOSED;
+    }
+
+    private boolean isFailure(Throwable failure) {
+        if (failure instanceof CloudLinkClientException) {
+            return ((CloudLinkClientException) failure).getStatus() >= 500;
+        }
+        return transientFailure.test(failure);
+    }
+
+    private CloudLinkClientException openException() {
+        return new CloudLinkClientException(CloudLinkClientException.CIRCUIT_OPEN,
+                "Circuit breaker for " + endpointFamily + " endpoints is " + state);
+    }
+
+    private void notifyListener(CircuitBreakerState from, CircuitBreakerState to) {
+        CircuitBreakerListener listener = config.getListener();
+        if (listener != null) {
+            try {
+                listener.onStateTransition(endpointFamily, from, to);
+            } catch (RuntimeException e) {
+                // a failing listener must not fail the request that caused the transition
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CircuitBreakerConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CircuitBreakerState;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.EndpointFamily;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class CircuitBreakers {
+
+    private final Map<EndpointFamily, CircuitBreaker> circuitBreakers;
+
+    /**
+     * @param config the circuit breaker configuration, or <code>null</code> to never break the circuit
+     * @param transientFailure tests whether a failure other than an error response is transient, e.g. an I/O error
+     */
+    public CircuitBreakers(CircuitBreakerConfig config, Predicate<Throwable> transientFailure) {
+        if (config == null) {
+            this.circuitBreakers = null;
+        } else {
+            this.circuitBreakers = new EnumMap<>(EndpointFamily.class);
+            for (EndpointFamily endpointFamily : EndpointFamily.values()) {
+                circuitBreakers.put(endpointFamily, new CircuitBreaker(endpointFamily, config, transientFailure));
+            }
+        }
+    }
+
+    public CircuitBreakerState getState(EndpointFamily endpointFamily) {
+        return circuitBreakers == null ? CircuitBreakerState.CLOSED : circuitBreakers.get(endpointFamily).getState();
+    }
+
+    /**
+     * Returns the circuit breaker that guards the specified endpoint family, or <code>null</code> when no circuit
+     * breaker is configured.
+     */
+    public CircuitBreaker get(EndpointFamily endpointFamily) {
+        return circuitBreakers == null ? null : circuitBreakers.get(endpointFamily);
+    }
+
+    public <R> R execute(EndpointFamily endpointFamily, Supplier<R> request) {
+        return circuitBreakers == null ? request.get() : circuitBreakers.get(endpointFamily).execute(request);
+    }
+
+}
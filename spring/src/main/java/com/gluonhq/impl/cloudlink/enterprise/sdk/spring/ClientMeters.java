@@ -0,0 +1,137 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Holds a timer per operation, outcome and status, and the request and response payload sizes per operation. All
+ * meters are looked up from arrays that are indexed by operation and status, so that recording a request does not
+ * allocate once its meters are registered.
+ */
+class ClientMeters {
+
+    static final String REQUESTS = "cloudlink.client.requests";
+    static final String REQUEST_SIZE = "cloudlink.client.request.size";
+    static final String RESPONSE_SIZE = "cloudlink.client.response.size";
+    static final String IDLE_CONNECTIONS = "cloudlink.client.connections.idle";
+    static final String ACTIVE_CONNECTIONS = "cloudlink.client.connections.active";
+
+    static final int IO_ERROR = 0;
+    private static final int MAX_STATUS = 600;
+
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final MeterRegistry registry;
+    private final AtomicReferenceArray<Timer> timers;
+    private final DistributionSummary[] requestSizes;
+    private final DistributionSummary[] responseSizes;
+
+    /**
+     * Registers the meters in the specified registry, including gauges for the idle and active connections in the
+     * connection pool of the specified http client, when it is not <code>null</code>. The registry is typed as
+     * <code>Object</code> by <code>CloudLinkClientConfig</code>, which must not require Micrometer.
+     */
+    ClientMeters(OkHttpClient httpClient, Object meterRegistry) {
+        this.registry = (MeterRegistry) meterRegistry;
+        this.timers = new AtomicReferenceArray<>(OPERATIONS.length * MAX_STATUS);
+        this.requestSizes = new DistributionSummary[OPERATIONS.length];
+        this.responseSizes = new DistributionSummary[OPERATIONS.length];
+        for (Operation operation : OPERATIONS) {
+            requestSizes[operation.ordinal()] = DistributionSummary.builder(REQUEST_SIZE)
+                    .baseUnit("bytes")
+                    .tag("operation", operation.getOperationName())
+                    .register(registry);
+            responseSizes[operation.ordinal()] = DistributionSummary.builder(RESPONSE_SIZE)
+                    .baseUnit("bytes")
+                    .tag("operation", operation.getOperationName())
+                    .register(registry);
+        }
+
+        if (httpClient != null) {
+            ConnectionPool connectionPool = httpClient.connectionPool();
+            Gauge.builder(IDLE_CONNECTIONS, connectionPool, ConnectionPool::idleConnectionCount)
+                    .register(registry);
+            Gauge.builder(ACTIVE_CONNECTIONS, connectionPool, pool -> pool.connectionCount() - pool.idleConnectionCount())
+                    .register(registry);
+        }
+    }
+
+    void recordRequestSize(Operation operation, long size) {
+        requestSizes[operation.ordinal()].record(size);
+    }
+
+    void recordResponseSize(Operation operation, long size) {
+        responseSizes[operation.ordinal()].record(size);
+    }
+
+    /**
+     * Records the duration of a request that completed with the specified status, or with {@link #IO_ERROR}.
+     */
+    void recordRequest(Operation operation, int status, long nanos) {
+        timer(operation, status).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(Operation operation, int status) {
+        int statusIndex = status > 0 && status < MAX_STATUS ? status : IO_ERROR;
+        int index = operation.ordinal() * MAX_STATUS + statusIndex;
+        Timer timer = timers.get(index);
+        if (timer == null) {
+            timer = Timer.builder(REQUESTS)
+                    .tag("operation", operation.getOperationName())
+                    .tag("outcome", outcome(statusIndex))
+                    .tag("status", statusIndex == IO_ERROR ? "IO_ERROR" : Integer.toString(statusIndex))
+                    .register(registry);
+            timers.set(index, timer);
+        }
+        return timer;
+    }
+
+    private static String outcome(int status) {
+        if (status >= 200 && status < 300) {
+            return "SUCCESS";
+        } else if (status >= 400 && status < 500) {
+            return "CLIENT_ERROR";
+        } else if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        return "UNKNOWN";
+    }
+}
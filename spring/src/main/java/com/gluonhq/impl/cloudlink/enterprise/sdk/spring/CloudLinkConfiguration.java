@@ -32,26 +32,37 @@
 package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
 
 import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClient;
-import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientConfig;
-import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
 @Configuration
+@Import(CloudLinkProperties.class)
 @ComponentScan("com.gluonhq.impl.cloudlink.enterprise.sdk.spring")
 @ConditionalOnMissingBean(CloudLinkClient.class)
 public class CloudLinkConfiguration {
 
-    @Value("${gluon.cloudlink.endpoint:https://cloud.gluonhq.com}")
-    private String endpoint;
-
-    @Value("${gluon.cloudlink.serverKey}")
-    private String serverKey;
+    @Autowired
+    private CloudLinkProperties properties;
 
     @Bean
     public CloudLinkClient cloudLinkClient() {
-        return new CloudLinkClient(new CloudLinkClientConfig(endpoint, serverKey));
+        return new CloudLinkClient(properties.createConfig());
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    static class MicrometerConfiguration {
+
+        @Bean
+        public CloudLinkClientConfigurer micrometerCloudLinkClientConfigurer(ObjectProvider<MeterRegistry> meterRegistry) {
+            return config -> config.setMeterRegistry(meterRegistry.getIfUnique());
+        }
     }
 }
@@ -39,6 +39,8 @@ import feign.codec.ErrorDecoder;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 import java.util.logging.Level;
 
 public class CloudLinkErrorDecoder implements ErrorDecoder {
@@ -51,6 +53,7 @@ public class CloudLinkErrorDecoder implements ErrorDecoder {
 
     @Override
     public Exception decode(String methodKey, Response response) {
+        long retryAfter = RetryExecutor.parseRetryAfter(firstHeader(response, "Retry-After"));
         if (config.getLogLevel().intValue() <= Level.FINE.intValue()) {
             try (BufferedReader reader = new BufferedReader(response.body().asReader())) {
                 StringBuilder body = new StringBuilder();
@@ -59,12 +62,21 @@ public class CloudLinkErrorDecoder implements ErrorDecoder {
                     body.append(line);
                 }
 
-                return new CloudLinkClientException(response.status(), response.reason(), body.toString());
+                return new CloudLinkClientException(response.status(), response.reason(), body.toString(), retryAfter);
             } catch (IOException e) {
                 return FeignException.errorStatus(methodKey, response);
             }
         } else {
-            return new CloudLinkClientException(response.status(), response.reason());
+            return new CloudLinkClientException(response.status(), response.reason(), null, retryAfter);
         }
     }
+
+    private String firstHeader(Response response, String name) {
+        for (Map.Entry<String, Collection<String>> header : response.headers().entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty()) {
+                return header.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientListener;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CompressionConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.ExecutionMode;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.HttpTransport;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.ObjectCacheConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.RateLimiterConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransport;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Collections;
+import java.util.List;
+
+public class CloudLinkProperties {
+
+    @Value("${gluon.cloudlink.endpoint:https://cloud.gluonhq.com}")
+    private String endpoint;
+
+    @Value("${gluon.cloudlink.serverKey}")
+    private String serverKey;
+
+    @Value("${gluon.cloudlink.maxIdleConnections:5}")
+    private int maxIdleConnections;
+
+    @Value("${gluon.cloudlink.keepAliveDuration:300000}")
+    private long keepAliveDuration;
+
+    @Value("${gluon.cloudlink.connectTimeout:10000}")
+    private int connectTimeout;
+
+    @Value("${gluon.cloudlink.readTimeout:60000}")
+    private int readTimeout;
+
+    @Value("${gluon.cloudlink.writeTimeout:10000}")
+    private int writeTimeout;
+
+    @Value("${gluon.cloudlink.maxRequestsPerHost:5}")
+    private int maxRequestsPerHost;
+
+    @Value("${gluon.cloudlink.objectCache.enabled:false}")
+    private boolean objectCacheEnabled;
+
+    @Value("${gluon.cloudlink.objectCache.maxEntries:1000}")
+    private int objectCacheMaxEntries;
+
+    @Value("${gluon.cloudlink.objectCache.timeToLive:60000}")
+    private long objectCacheTimeToLive;
+
+    @Value("${gluon.cloudlink.objectCache.negativeTimeToLive:5000}")
+    private long objectCacheNegativeTimeToLive;
+
+    @Value("${gluon.cloudlink.pushRateLimiter.enabled:false}")
+    private boolean pushRateLimiterEnabled;
+
+    @Value("${gluon.cloudlink.pushRateLimiter.permitsPerSecond:50}")
+    private double pushRateLimiterPermitsPerSecond;
+
+    @Value("${gluon.cloudlink.pushRateLimiter.burstSize:50}")
+    private int pushRateLimiterBurstSize;
+
+    @Value("${gluon.cloudlink.pushRateLimiter.acquireMode:BLOCK}")
+    private RateLimiterConfig.AcquireMode pushRateLimiterAcquireMode;
+
+    @Value("${gluon.cloudlink.compression.enabled:false}")
+    private boolean compressionEnabled;
+
+    @Value("${gluon.cloudlink.compression.minRequestSize:1024}")
+    private int compressionMinRequestSize;
+
+    @Value("${gluon.cloudlink.compression.compressResponses:true}")
+    private boolean compressionCompressResponses;
+
+    @Value("${gluon.cloudlink.httpTransport:}")
+    private HttpTransport httpTransport;
+
+    @Value("${gluon.cloudlink.executionMode:PLATFORM_THREADS}")
+    private ExecutionMode executionMode;
+
+    @Autowired
+    @Qualifier("cloudLinkHttpClient")
+    private ObjectProvider<OkHttpClient> httpClient;
+
+    @Autowired
+    private ObjectProvider<CloudLinkTransport> transport;
+
+    @Autowired(required = false)
+    private List<CloudLinkClientConfigurer> configurers = Collections.emptyList();
+
+    @Autowired(required = false)
+    private List<CloudLinkClientListener> listeners = Collections.emptyList();
+
+    public CloudLinkClientConfig createConfig() {
+        CloudLinkClientConfig config = new CloudLinkClientConfig(endpoint, serverKey);
+        config.setMaxIdleConnections(maxIdleConnections);
+        config.setKeepAliveDuration(keepAliveDuration);
+        config.setConnectTimeout(connectTimeout);
+        config.setReadTimeout(readTimeout);
+        config.setWriteTimeout(writeTimeout);
+        config.setMaxRequestsPerHost(maxRequestsPerHost);
+        config.setHttpClient(httpClient.getIfAvailable());
+        config.setHttpTransport(httpTransport);
+        config.setTransport(transport.getIfUnique());
+        config.setExecutionMode(executionMode);
+        if (objectCacheEnabled) {
+            ObjectCacheConfig objectCacheConfig = new ObjectCacheConfig();
+            objectCacheConfig.setMaxEntries(objectCacheMaxEntries);
+            objectCacheConfig.setTimeToLive(objectCacheTimeToLive);
+            objectCacheConfig.setNegativeTimeToLive(objectCacheNegativeTimeToLive);
+            config.setObjectCacheConfig(objectCacheConfig);
+        }
+        if (pushRateLimiterEnabled) {
+            RateLimiterConfig rateLimiterConfig = new RateLimiterConfig();
+            rateLimiterConfig.setPermitsPerSecond(pushRateLimiterPermitsPerSecond);
+            rateLimiterConfig.setBurstSize(pushRateLimiterBurstSize);
+            rateLimiterConfig.setAcquireMode(pushRateLimiterAcquireMode);
+            config.setPushRateLimiterConfig(rateLimiterConfig);
+        }
+        if (compressionEnabled) {
+            CompressionConfig compressionConfig = new CompressionConfig();
+            compressionConfig.setMinRequestSize(compressionMinRequestSize);
+            compressionConfig.setCompressResponses(compressionCompressResponses);
+            config.setCompressionConfig(compressionConfig);
+        }
+        for (CloudLinkClientListener listener : listeners) {
+            config.addListener(listener);
+        }
+        for (CloudLinkClientConfigurer configurer : configurers) {
+            configurer.configure(config);
+        }
+        return config;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CompressionConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkRequest;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds the requests for the Gluon CloudLink endpoints, independently of the transport that sends them. The urls up
+ * to the object and list identifiers and the headers, including the authentication of the server key, are built once,
+ * so that building a request only appends the encoded identifiers. With a {@link CompressionConfig}, JSON bodies from
+ * the minimum size on are compressed with gzip.
+ */
+public class CloudLinkRequestFactory {
+
+    private static final String ACCEPT = "application/json; charset=UTF-8";
+    private static final String JSON = "application/json; charset=UTF-8";
+    private static final String FORM = "application/x-www-form-urlencoded";
+    private static final CloudLinkRequest.Body EMPTY = new ByteArrayBody(FORM, new byte[0]);
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final URI pushUri;
+    private final String objectUrl;
+    private final String listUrl;
+    private final Map<String, String> headers;
+    private final Map<String, String> gzipHeaders;
+    private final int minCompressedSize;
+
+    public CloudLinkRequestFactory(CloudLinkClientConfig config) {
+        String baseUrl = baseUrl(config) + "/3/";
+        this.pushUri = URI.create(baseUrl + "push/enterprise/notification");
+        this.objectUrl = baseUrl + "data/enterprise/object/";
+        this.listUrl = baseUrl + "data/enterprise/list/";
+
+        CompressionConfig compression = config.getCompressionConfig();
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Accept", ACCEPT);
+        headers.put("Authorization", "Gluon " + config.getServerKey());
+        if (compression != null && compression.isCompressResponses()) {
+            headers.put("Accept-Encoding", "gzip");
+        }
+        this.headers = Collections.unmodifiableMap(headers);
+
+        Map<String, String> gzipHeaders = new LinkedHashMap<>(headers);
+        gzipHeaders.put("Content-Encoding", "gzip");
+        this.gzipHeaders = Collections.unmodifiableMap(gzipHeaders);
+        this.minCompressedSize = compression == null ? -1 : compression.getMinRequestSize();
+    }
+
+    /**
+     * Returns the url of the Gluon CloudLink host of the specified configuration, without a trailing slash.
+     */
+    public static String baseUrl(CloudLinkClientConfig config) {
+        String cloudLinkUrl = config.getHostname();
+        if (!cloudLinkUrl.startsWith("http://") && !cloudLinkUrl.startsWith("https://")) {
+            cloudLinkUrl = "https://" + cloudLinkUrl;
+        }
+        return cloudLinkUrl.endsWith("/") ? cloudLinkUrl.substring(0, cloudLinkUrl.length() - 1) : cloudLinkUrl;
+    }
+
+    public CloudLinkRequest sendPushNotification(PushNotification notification) {
+        return post(pushUri, new ByteArrayBody(FORM, PushNotificationFormEncoder.encode(notification)));
+    }
+
+    public CloudLinkRequest getObject(String objectId) {
+        return get(uri(objectUrl, objectId, null, null));
+    }
+
+    public CloudLinkRequest addObject(String objectId, String json) {
+        return post(uri(objectUrl, objectId, "add", null), json(json));
+    }
+
+    public CloudLinkRequest updateObject(String objectId, String json) {
+        return post(uri(objectUrl, objectId, "update", null), json(json));
+    }
+
+    public CloudLinkRequest removeObject(String objectId) {
+        return post(uri(objectUrl, objectId, "remove", null), EMPTY);
+    }
+
+    public CloudLinkRequest getList(String listId) {
+        return get(uri(listUrl, listId, null, null));
+    }
+
+    public CloudLinkRequest addToList(String listId, String objectId, String json) {
+        return post(uri(listUrl, listId, "add", objectId), json(json));
+    }
+
+    public CloudLinkRequest updateInList(String listId, String objectId, String json) {
+        return post(uri(listUrl, listId, "update", objectId), json(json));
+    }
+
+    public CloudLinkRequest removeFromList(String listId, String objectId) {
+        return post(uri(listUrl, listId, "remove", objectId), EMPTY);
+    }
+
+    private CloudLinkRequest get(URI uri) {
+        return new CloudLinkRequest("GET", uri, headers, null);
+    }
+
+    private CloudLinkRequest post(URI uri, CloudLinkRequest.Body body) {
+        return new CloudLinkRequest("POST", uri, body instanceof GzipBody ? gzipHeaders : headers, body);
+    }
+
+    private CloudLinkRequest.Body json(String json) {
+        if (minCompressedSize >= 0 && json.length() >= minCompressedSize) {
+            return new GzipBody(JSON, json);
+        }
+        return new ByteArrayBody(JSON, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static URI uri(String template, String identifier, String action, String secondIdentifier) {
+        StringBuilder uri = new StringBuilder(template.length() + 64).append(template);
+        appendSegment(uri, identifier);
+        if (action != null) {
+            uri.append('/').append(action);
+        }
+        if (secondIdentifier != null) {
+            uri.append('/');
+            appendSegment(uri, secondIdentifier);
+        }
+        return URI.create(uri.toString());
+    }
+
+    /**
+     * Appends the specified path segment, percent-encoding all characters other than the unreserved characters of
+     * RFC 3986 as UTF-8.
+     */
+    private static void appendSegment(StringBuilder uri, String segment) {
+        int i = 0;
+        while (i < segment.length()) {
+            int c = segment.codePointAt(i);
+            int length = Character.charCount(c);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '.' || c == '_' || c == '~') {
+                uri.append((char) c);
+            } else {
+                for (byte b : segment.substring(i, i + length).getBytes(StandardCharsets.UTF_8)) {
+                    uri.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+                }
+            }
+            i += length;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.HttpTransport;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransport;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransportProvider;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Creates the transport of a CloudLinkClient for which no transport is configured: with the built-in transport that
+ * is set on the configuration, or else with the first {@link CloudLinkTransportProvider} that is registered with the
+ * {@link ServiceLoader}, or else with Feign. The registered providers are looked up once.
+ *
+ * <p>The transport for the HTTP client of the JDK is compiled with Java 11 into <code>META-INF/versions/11</code> of
+ * the multi-release jar, and is therefore loaded by name.</p>
+ */
+public final class CloudLinkTransports {
+
+    private static final String JDK_HTTP_TRANSPORT = "com.gluonhq.impl.cloudlink.enterprise.sdk.spring.JdkHttpTransport";
+
+    private CloudLinkTransports() {
+    }
+
+    /**
+     * Returns a new transport, or <code>null</code> when the requests are sent with Feign.
+     */
+    public static CloudLinkTransport create(CloudLinkClientConfig config) {
+        HttpTransport httpTransport = config.getHttpTransport();
+        if (httpTransport == null) {
+            if (Provider.INSTANCE != null) {
+                return Provider.INSTANCE.create(config);
+            }
+            httpTransport = HttpTransport.FEIGN;
+        }
+
+        switch (httpTransport) {
+            case OKHTTP:
+                return new OkHttpTransport(HttpClientFactory.create(config));
+            case JDK_HTTP_CLIENT:
+                return createJdkHttpTransport(config);
+            default:
+                return null;
+        }
+    }
+
+    private static CloudLinkTransport createJdkHttpTransport(CloudLinkClientConfig config) {
+        String javaVersion = System.getProperty("java.specification.version");
+        if (javaVersion.startsWith("1.") || Integer.parseInt(javaVersion) < 11) {
+            throw new IllegalStateException("HttpTransport.JDK_HTTP_CLIENT requires Java 11 or later, but runs on Java "
+                    + javaVersion);
+        }
+
+        try {
+            return (CloudLinkTransport) Class.forName(JDK_HTTP_TRANSPORT, true, CloudLinkTransports.class.getClassLoader())
+                    .getDeclaredConstructor(CloudLinkClientConfig.class)
+                    .newInstance(config);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to create the transport for HttpTransport.JDK_HTTP_CLIENT", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("HttpTransport.JDK_HTTP_CLIENT is not available: the Java 11 classes are "
+                    + "missing from the multi-release jar of the client", e);
+        }
+    }
+
+    private static class Provider {
+
+        private static final CloudLinkTransportProvider INSTANCE;
+
+        static {
+            Iterator<CloudLinkTransportProvider> providers = ServiceLoader.load(CloudLinkTransportProvider.class).iterator();
+            INSTANCE = providers.hasNext() ? providers.next() : null;
+        }
+    }
+}
@@ -33,11 +33,8 @@ package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
 
 import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.ObjectData;
 import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
-import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotificationTarget;
 
 import javax.ws.rs.Consumes;
-import javax.ws.rs.DefaultValue;
-import javax.ws.rs.FormParam;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -54,17 +51,7 @@ public interface FeignClient {
     @Path("push/enterprise/notification")
     @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
     @Produces(MediaType.APPLICATION_JSON + "; " + CHARSET)
-    PushNotification sendPushNotification(@FormParam("customIdentifier") String customIdentifier,
-            @FormParam("title") String title,
-            @FormParam("body") String body,
-            @FormParam("deliveryDate") long deliveryDate,
-            @FormParam("priority") PushNotification.Priority priority,
-            @FormParam("expirationType") PushNotification.ExpirationType expirationType,
-            @FormParam("expirationAmount") int expirationAmount,
-            @FormParam("targetType") PushNotificationTarget.Type targetType,
-            @FormParam("targetTopic") String targetTopic,
-            @FormParam("targetDeviceToken") String targetDeviceToken,
-            @FormParam("invisible") @DefaultValue("false") boolean invisible);
+    PushNotification sendPushNotification(PushNotification notification);
 
 
     @GET
@@ -0,0 +1,201 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A growable byte buffer for writing <code>application/x-www-form-urlencoded</code> bodies. Released buffers are kept
+ * in a small pool that is not tied to any thread, so encoding a form usually does not allocate a buffer, while
+ * container threads and virtual threads do not each hold on to one. A buffer that grew beyond
+ * {@link #MAX_RETAINED_CAPACITY} is not returned to the pool, so a single large form is not retained. Values are
+ * encoded like {@link java.net.URLEncoder} does with UTF-8.
+ */
+final class FormBuffer {
+
+    static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    static final int POOL_SIZE = 16;
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final boolean[] UNRESERVED = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            UNRESERVED[c] = true;
+        }
+        UNRESERVED['-'] = true;
+        UNRESERVED['.'] = true;
+        UNRESERVED['_'] = true;
+        UNRESERVED['*'] = true;
+    }
+
+    private static final BlockingQueue<FormBuffer> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int count;
+
+    private FormBuffer() {
+    }
+
+    /**
+     * Returns an empty buffer from the pool, or a new buffer when the pool is empty. The buffer must be given back
+     * with {@link #release()} once its content has been copied.
+     */
+    static FormBuffer acquire() {
+        FormBuffer buffer = POOL.poll();
+        return buffer != null ? buffer : new FormBuffer();
+    }
+
+    /**
+     * Returns this buffer to the pool, unless the pool is full or the buffer grew too large to be retained. The buffer
+     * may not be used anymore after it was released.
+     */
+    void release() {
+        if (bytes.length <= MAX_RETAINED_CAPACITY) {
+            count = 0;
+            POOL.offer(this);
+        }
+    }
+
+    /**
+     * Appends a field name that is already URL encoded and includes the trailing <code>=</code>, preceded by a
+     * <code>&amp;</code> unless it is the first field.
+     */
+    FormBuffer name(byte[] encodedName) {
+        if (count > 0) {
+            ensureCapacity(1);
+            bytes[count++] = '&';
+        }
+        return raw(encodedName);
+    }
+
+    /**
+     * Appends bytes that are already URL encoded.
+     */
+    FormBuffer raw(byte[] encoded) {
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, bytes, count, encoded.length);
+        count += encoded.length;
+        return this;
+    }
+
+    FormBuffer value(long value) {
+        ensureCapacity(20);
+        if (value < 0) {
+            bytes[count++] = '-';
+        }
+        // accumulate the digits as a negative number, so that Long.MIN_VALUE does not overflow
+        long remaining = value < 0 ? value : -value;
+        int start = count;
+        do {
+            bytes[count++] = (byte) ('0' - (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        for (int i = start, j = count - 1; i < j; i++, j--) {
+            byte digit = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = digit;
+        }
+        return this;
+    }
+
+    FormBuffer value(String value) {
+        int length = value.length();
+        // every char encodes to at most 9 bytes: a surrogate pair encodes to 12 bytes for 2 chars
+        ensureCapacity(length * 9);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (UNRESERVED[c]) {
+                    bytes[count++] = (byte) c;
+                } else if (c == ' ') {
+                    bytes[count++] = '+';
+                } else {
+                    escape(c);
+                }
+            } else if (c < 0x800) {
+                escape(0xC0 | (c >> 6));
+                escape(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                escape(0xF0 | (codePoint >> 18));
+                escape(0x80 | ((codePoint >> 12) & 0x3F));
+                escape(0x80 | ((codePoint >> 6) & 0x3F));
+                escape(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // an unpaired surrogate is replaced, like the UTF-8 encoder does
+                escape('?');
+            } else {
+                escape(0xE0 | (c >> 12));
+                escape(0x80 | ((c >> 6) & 0x3F));
+                escape(0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    int size() {
+        return count;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, count);
+    }
+
+    void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(bytes, 0, count);
+    }
+
+    private void escape(int b) {
+        bytes[count++] = '%';
+        bytes[count++] = HEX[(b >> 4) & 0xF];
+        bytes[count++] = HEX[b & 0xF];
+    }
+
+    private void ensureCapacity(int additional) {
+        if (count + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, count + additional));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientListener;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkRequestContext;
+
+/**
+ * A request context that notifies the listeners of the client that created it. Exceptions that are thrown by
+ * listeners are ignored, so that they cannot fail the request. The context of the attempt in progress is bound to
+ * the calling thread, so that the feign client and decoder, which run on that same thread, can report to it.
+ */
+public class ListenerRequestContext extends CloudLinkRequestContext {
+
+    private static final ThreadLocal<ListenerRequestContext> CURRENT = new ThreadLocal<>();
+
+    private final CloudLinkClientListener[] listeners;
+
+    private ListenerRequestContext(CloudLinkClientListener[] listeners, Operation operation, String listId,
+            String objectId) {
+        super(operation.getOperationName(), operation.getEndpointFamily(), listId, objectId);
+        this.listeners = listeners;
+    }
+
+    /**
+     * Notifies the listeners that a request is started, or returns <code>null</code> when there are no listeners.
+     */
+    public static ListenerRequestContext start(CloudLinkClientListener[] listeners, Operation operation,
+            String listId, String objectId) {
+        if (listeners.length == 0) {
+            return null;
+        }
+
+        ListenerRequestContext context = new ListenerRequestContext(listeners, operation, listId, objectId);
+        for (CloudLinkClientListener listener : listeners) {
+            try {
+                listener.requestStarted(context);
+            } catch (RuntimeException e) {
+                // ignored
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Returns the context that is bound to the calling thread, or <code>null</code> when there is none.
+     */
+    public static ListenerRequestContext current() {
+        return CURRENT.get();
+    }
+
+    public void bind() {
+        CURRENT.set(this);
+    }
+
+    public void unbind() {
+        CURRENT.remove();
+    }
+
+    public void requestSent(long bytes) {
+        for (CloudLinkClientListener listener : listeners) {
+            try {
+                listener.requestSent(this, bytes);
+            } catch (RuntimeException e) {
+                // ignored
+            }
+        }
+    }
+
+    public void responseReceived(int status, long bytes, long latency) {
+        for (CloudLinkClientListener listener : listeners) {
+            try {
+                listener.responseReceived(this, status, bytes, latency);
+            } catch (RuntimeException e) {
+                // ignored
+            }
+        }
+    }
+
+    public void decodeFinished(long decodeTime) {
+        for (CloudLinkClientListener listener : listeners) {
+            try {
+                listener.decodeFinished(this, decodeTime);
+            } catch (RuntimeException e) {
+                // ignored
+            }
+        }
+    }
+
+    public void requestFailed(Throwable failure) {
+        for (CloudLinkClientListener listener : listeners) {
+            try {
+                listener.requestFailed(this, failure);
+            } catch (RuntimeException e) {
+                // ignored
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import okhttp3.OkHttpClient;
+
+import java.io.IOException;
+
+/**
+ * A feign client that records the duration, status and payload sizes of every request in {@link ClientMeters}.
+ */
+public class MeteredClient implements Client {
+
+    private final Client delegate;
+    private final ClientMeters meters;
+
+    MeteredClient(Client delegate, ClientMeters meters) {
+        this.delegate = delegate;
+        this.meters = meters;
+    }
+
+    /**
+     * Wraps the specified feign client, and registers gauges for the idle and active connections in the connection
+     * pool of the specified http client.
+     */
+    public static Client instrument(Client delegate, OkHttpClient httpClient, Object registry) {
+        return new MeteredClient(delegate, new ClientMeters(httpClient, registry));
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Operation operation = operation(request.method(), request.url());
+        byte[] body = request.body();
+        meters.recordRequestSize(operation, body == null ? 0 : body.length);
+
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (IOException | RuntimeException e) {
+            meters.recordRequest(operation, ClientMeters.IO_ERROR, System.nanoTime() - start);
+            throw e;
+        }
+        meters.recordRequest(operation, response.status(), System.nanoTime() - start);
+
+        if (response.body() != null) {
+            Integer length = response.body().length();
+            if (length != null) {
+                meters.recordResponseSize(operation, length);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Derives the operation from the request method and the path of the url, without allocating.
+     */
+    static Operation operation(String method, String url) {
+        boolean get = "GET".equals(method);
+        if (url.indexOf("/push/enterprise/notification") >= 0) {
+            return Operation.PUSH;
+        }
+
+        int start = url.indexOf("/data/enterprise/object/");
+        if (start >= 0) {
+            int action = url.indexOf('/', start + "/data/enterprise/object/".length());
+            if (action < 0) {
+                return get ? Operation.GET_OBJECT : Operation.UNKNOWN;
+            } else if (url.startsWith("/add", action)) {
+                return Operation.ADD_OBJECT;
+            } else if (url.startsWith("/update", action)) {
+                return Operation.UPDATE_OBJECT;
+            } else if (url.startsWith("/remove", action)) {
+                return Operation.REMOVE_OBJECT;
+            }
+            return Operation.UNKNOWN;
+        }
+
+        start = url.indexOf("/data/enterprise/list/");
+        if (start >= 0) {
+            int action = url.indexOf('/', start + "/data/enterprise/list/".length());
+            if (action < 0) {
+                return get ? Operation.GET_LIST : Operation.UNKNOWN;
+            } else if (url.startsWith("/add/", action)) {
+                return Operation.ADD_TO_LIST;
+            } else if (url.startsWith("/update/", action)) {
+                return Operation.UPDATE_IN_LIST;
+            } else if (url.startsWith("/remove/", action)) {
+                return Operation.REMOVE_FROM_LIST;
+            }
+        }
+        return Operation.UNKNOWN;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotificationTarget;
+import feign.RequestTemplate;
+import feign.codec.Encoder;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes a push notification as the <code>application/x-www-form-urlencoded</code> body of a push request, and
+ * delegates all other bodies. The field names and the enum constants are encoded once, and the values are URL encoded
+ * into a pooled buffer, so that only the resulting body is allocated.
+ */
+public class PushNotificationFormEncoder implements Encoder {
+
+    private static final byte[] CUSTOM_IDENTIFIER = encodedName("customIdentifier");
+    private static final byte[] TITLE = encodedName("title");
+    private static final byte[] BODY = encodedName("body");
+    private static final byte[] DELIVERY_DATE = encodedName("deliveryDate");
+    private static final byte[] PRIORITY = encodedName("priority");
+    private static final byte[] EXPIRATION_TYPE = encodedName("expirationType");
+    private static final byte[] EXPIRATION_AMOUNT = encodedName("expirationAmount");
+    private static final byte[] TARGET_TYPE = encodedName("targetType");
+    private static final byte[] TARGET_TOPIC = encodedName("targetTopic");
+    private static final byte[] TARGET_DEVICE_TOKEN = encodedName("targetDeviceToken");
+    private static final byte[] INVISIBLE = encodedName("invisible");
+
+    private static final byte[] TRUE = encoded("true");
+    private static final byte[] FALSE = encoded("false");
+
+    private static final byte[][] PRIORITIES = encoded(PushNotification.Priority.values());
+    private static final byte[][] EXPIRATION_TYPES = encoded(PushNotification.ExpirationType.values());
+    private static final byte[][] TARGET_TYPES = encoded(PushNotificationTarget.Type.values());
+
+    private final Encoder delegate;
+
+    public PushNotificationFormEncoder(Encoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) {
+        if (bodyType == PushNotification.class) {
+            template.body(encode((PushNotification) object), StandardCharsets.UTF_8);
+        } else {
+            delegate.encode(object, bodyType, template);
+        }
+    }
+
+    /**
+     * Returns the form encoded fields of the push notification.
+     */
+    public static byte[] encode(PushNotification notification) {
+        FormBuffer form = FormBuffer.acquire();
+        try {
+            return write(notification, form).toByteArray();
+        } finally {
+            form.release();
+        }
+    }
+
+    private static FormBuffer write(PushNotification notification, FormBuffer form) {
+        PushNotificationTarget target = notification.getTarget();
+        if (notification.getCustomIdentifier() != null) {
+            form.name(CUSTOM_IDENTIFIER).value(notification.getCustomIdentifier());
+        }
+        if (notification.getTitle() != null) {
+            form.name(TITLE).value(notification.getTitle());
+        }
+        if (notification.getBody() != null) {
+            form.name(BODY).value(notification.getBody());
+        }
+        form.name(DELIVERY_DATE).value(notification.getDeliveryDate())
+                .name(PRIORITY).raw(PRIORITIES[notification.getPriority().ordinal()])
+                .name(EXPIRATION_TYPE).raw(EXPIRATION_TYPES[notification.getExpirationType().ordinal()])
+                .name(EXPIRATION_AMOUNT).value(notification.getExpirationAmount())
+                .name(TARGET_TYPE).raw(TARGET_TYPES[target.getType().ordinal()]);
+        if (target.getTopic() != null) {
+            form.name(TARGET_TOPIC).value(target.getTopic());
+        }
+        if (target.getDeviceToken() != null) {
+            form.name(TARGET_DEVICE_TOKEN).value(target.getDeviceToken());
+        }
+        return form.name(INVISIBLE).raw(notification.isInvisible() ? TRUE : FALSE);
+    }
+
+    private static byte[] encodedName(String name) {
+        return encoded(name + "=");
+    }
+
+    private static byte[] encoded(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[][] encoded(Enum<?>[] constants) {
+        byte[][] encoded = new byte[constants.length][];
+        for (Enum<?> constant : constants) {
+            encoded[constant.ordinal()] = encoded(constant.name());
+        }
+        return encoded;
+    }
+}
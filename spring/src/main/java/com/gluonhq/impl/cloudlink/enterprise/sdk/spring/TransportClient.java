@@ -0,0 +1,261 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.impl.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientException;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.ObjectData;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkRequest;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkResponse;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransport;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.codec.DecodeException;
+import okhttp3.OkHttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import static com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PayloadConverter.gson;
+
+/**
+ * Implements the operations of {@link FeignClient} directly on a {@link CloudLinkTransport}, without the reflective
+ * proxy, the contract and the encoder and decoder of Feign. Responses are decoded with Gson while they are read from
+ * the connection.
+ *
+ * <p>Failures are reported as they are by Feign: an I/O error as a {@link RetryableException} that is retried with
+ * the specified retryer, and a response with a status other than 2xx as a {@link CloudLinkClientException}.</p>
+ */
+public class TransportClient implements FeignClient {
+
+    private static final TypeAdapter<ObjectData> OBJECT_DATA = gson().getAdapter(ObjectData.class);
+    private static final TypeAdapter<PushNotification> PUSH_NOTIFICATION = gson().getAdapter(PushNotification.class);
+
+    private final CloudLinkClientConfig config;
+    private final CloudLinkTransport transport;
+    private final CloudLinkRequestFactory requestFactory;
+    private final Retryer retryer;
+    private final ClientMeters meters;
+
+    public TransportClient(CloudLinkClientConfig config, CloudLinkTransport transport, Retryer retryer) {
+        this.config = config;
+        this.transport = transport;
+        this.requestFactory = new CloudLinkRequestFactory(config);
+        this.retryer = retryer;
+        this.meters = config.getMeterRegistry() == null ? null : meters(config, transport);
+    }
+
+    private static ClientMeters meters(CloudLinkClientConfig config, CloudLinkTransport transport) {
+        // only the connection pool of the built-in OkHttp transport can be observed
+        OkHttpClient httpClient = transport instanceof OkHttpTransport ? ((OkHttpTransport) transport).getHttpClient() : null;
+        return new ClientMeters(httpClient, config.getMeterRegistry());
+    }
+
+    @Override
+    public PushNotification sendPushNotification(PushNotification notification) {
+        return execute(Operation.PUSH, requestFactory.sendPushNotification(notification), PUSH_NOTIFICATION::read);
+    }
+
+    @Override
+    public ObjectData getObject(String objectIdentifier) {
+        return execute(Operation.GET_OBJECT, requestFactory.getObject(objectIdentifier), OBJECT_DATA::read);
+    }
+
+    @Override
+    public ObjectData addObject(String objectIdentifier, String target) {
+        return execute(Operation.ADD_OBJECT, requestFactory.addObject(objectIdentifier, target), OBJECT_DATA::read);
+    }
+
+    @Override
+    public ObjectData removeObject(String objectIdentifier) {
+        return execute(Operation.REMOVE_OBJECT, requestFactory.removeObject(objectIdentifier), OBJECT_DATA::read);
+    }
+
+    @Override
+    public ObjectData updateObject(String objectIdentifier, String target) {
+        return execute(Operation.UPDATE_OBJECT, requestFactory.updateObject(objectIdentifier, target), OBJECT_DATA::read);
+    }
+
+    @Override
+    public List<ObjectData> getList(String listIdentifier) {
+        return execute(Operation.GET_LIST, requestFactory.getList(listIdentifier), TransportClient::readList);
+    }
+
+    @Override
+    public ObjectData addToList(String listIdentifier, String objectIdentifier, String target) {
+        return execute(Operation.ADD_TO_LIST, requestFactory.addToList(listIdentifier, objectIdentifier, target), OBJECT_DATA::read);
+    }
+
+    @Override
+    public ObjectData removeFromList(String listIdentifier, String objectIdentifier) {
+        return execute(Operation.REMOVE_FROM_LIST, requestFactory.removeFromList(listIdentifier, objectIdentifier), OBJECT_DATA::read);
+    }
+
+    @Override
+    public ObjectData updateInList(String listIdentifier, String objectIdentifier, String target) {
+        return execute(Operation.UPDATE_IN_LIST, requestFactory.updateInList(listIdentifier, objectIdentifier, target), OBJECT_DATA::read);
+    }
+
+    private static List<ObjectData> readList(JsonReader reader) throws IOException {
+        List<ObjectData> list = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            list.add(OBJECT_DATA.read(reader));
+        }
+        reader.endArray();
+        return list;
+    }
+
+    private <T> T execute(Operation operation, CloudLinkRequest request, ResponseReader<T> responseReader) {
+        Retryer attempts = retryer.clone();
+        while (true) {
+            try {
+                return executeOnce(operation, request, responseReader);
+            } catch (RetryableException e) {
+                attempts.continueOrPropagate(e);
+            }
+        }
+    }
+
+    private <T> T executeOnce(Operation operation, CloudLinkRequest request, ResponseReader<T> responseReader) {
+        ListenerRequestContext context = ListenerRequestContext.current();
+        long requestSize = request.getBody() == null ? 0 : request.getBody().getContentLength();
+        if (meters != null) {
+            meters.recordRequestSize(operation, requestSize);
+        }
+        if (context != null) {
+            context.requestSent(requestSize);
+        }
+
+        long start = System.nanoTime();
+        CloudLinkResponse response;
+        try {
+            response = transport.execute(request);
+        } catch (IOException | RuntimeException e) {
+            if (meters != null) {
+                meters.recordRequest(operation, ClientMeters.IO_ERROR, System.nanoTime() - start);
+            }
+            if (e instanceof IOException) {
+                throw new RetryableException(e.getMessage() + " executing " + request.getMethod() + " " + request.getUri(), e, null);
+            }
+            throw (RuntimeException) e;
+        }
+
+        try {
+            long latency = System.nanoTime() - start;
+            if (meters != null) {
+                meters.recordRequest(operation, response.getStatus(), latency);
+                if (response.getContentLength() >= 0) {
+                    meters.recordResponseSize(operation, response.getContentLength());
+                }
+            }
+            if (context != null) {
+                context.responseReceived(response.getStatus(), response.getContentLength(), latency);
+            }
+
+            if (response.getStatus() < 200 || response.getStatus() >= 300) {
+                throw errorResponse(response);
+            }
+
+            long decodeStart = System.nanoTime();
+            T result = read(body(response), responseReader);
+            if (context != null) {
+                context.decodeFinished(System.nanoTime() - decodeStart);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new DecodeException(e.getMessage() + " reading " + request.getMethod() + " " + request.getUri(), e);
+        } finally {
+            response.close();
+        }
+    }
+
+    private static <T> T read(InputStream body, ResponseReader<T> responseReader) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        reader.setLenient(true);
+        try {
+            // an empty body decodes to null, like the Gson decoder of Feign
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+            return responseReader.read(reader);
+        } catch (EOFException e) {
+            return null;
+        } catch (IllegalStateException | JsonParseException e) {
+            throw new DecodeException(e.getMessage(), e);
+        }
+    }
+
+    private CloudLinkClientException errorResponse(CloudLinkResponse response) throws IOException {
+        long retryAfter = RetryExecutor.parseRetryAfter(response.getHeader("Retry-After"));
+        if (config.getLogLevel().intValue() <= Level.FINE.intValue()) {
+            return new CloudLinkClientException(response.getStatus(), response.getReasonPhrase(), readString(body(response)), retryAfter);
+        } else {
+            return new CloudLinkClientException(response.getStatus(), response.getReasonPhrase(), null, retryAfter);
+        }
+    }
+
+    /**
+     * Returns the body of the specified response, decompressed when it is gzip encoded.
+     */
+    private static InputStream body(CloudLinkResponse response) throws IOException {
+        return GzipDecoder.decode(response.getBody(), response.getHeader("Content-Encoding"));
+    }
+
+    private static String readString(InputStream body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = body.read(buffer)) >= 0) {
+            bytes.write(buffer, 0, read);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface ResponseReader<T> {
+        T read(JsonReader reader) throws IOException;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring.nativetest;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClient;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.CloudLinkClientConfig;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotificationTarget;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Exercises the CloudLinkClient against a stand-in server in the same process, to verify that the client works when
+ * it is compiled to a native executable with GraalVM native-image. The stand-in server only implements the requests
+ * that are sent by this test. The process exits with status 1 when a check fails.
+ */
+public class NativeSmokeTest {
+
+    private static final String SERVER_KEY = "smoke-test";
+
+    private final Map<String, String> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> lists = new ConcurrentHashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        HttpServer server = new NativeSmokeTest().startServer();
+        try {
+            CloudLinkClient client = new CloudLinkClient(
+                    new CloudLinkClientConfig("http://localhost:" + server.getAddress().getPort(), SERVER_KEY));
+
+            PushNotification notification = new PushNotification();
+            notification.setTitle("Smoke");
+            notification.setBody("Test");
+            notification.setPriority(PushNotification.Priority.HIGH);
+            notification.getTarget().setType(PushNotificationTarget.Type.TOPIC);
+            notification.getTarget().setTopic("smoke");
+            PushNotification sent = client.sendPushNotification(notification);
+            check("push notification identifier", "push-1", sent.getIdentifier());
+            check("push notification target", PushNotificationTarget.Type.TOPIC, sent.getTarget().getType());
+            System.out.printf("first request completed %.1f ms after start%n", (System.nanoTime() - start) / 1e6);
+
+            client.addObject("note", new Note("first"));
+            check("stored object", "first", client.getObject("note", Note.class).text);
+            client.updateObject("note", new Note("second"));
+            check("updated object", "second", client.getObject("note", Note.class).text);
+            client.removeObject("note");
+            check("removed object", null, client.getObject("note", Note.class));
+
+            client.addToList("notes", "a", new Note("a"));
+            client.addToList("notes", "b", new Note("b"));
+            List<Note> notes = client.getList("notes", Note.class);
+            check("list", "a,b", notes.stream().map(note -> note.text).collect(Collectors.joining(",")));
+
+            System.out.printf("smoke test passed in %.1f ms%n", (System.nanoTime() - start) / 1e6);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            System.exit(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void check(String name, Object expected, Object actual) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            System.err.println(name + ": expected " + expected + " but was " + actual);
+            System.exit(1);
+        }
+    }
+
+    private HttpServer startServer() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/3/", exchange -> {
+            try {
+                handle(exchange);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                respond(exchange, 500, "");
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        if (!("Gluon " + SERVER_KEY).equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            respond(exchange, 401, "");
+            return;
+        }
+
+        String[] path = exchange.getRequestURI().getPath().substring("/3/".length()).split("/");
+        String body = read(exchange.getRequestBody());
+        if (path[0].equals("push")) {
+            Map<String, String> form = parseForm(body);
+            respond(exchange, 200, "{\"identifier\":\"push-1\",\"title\":" + quote(form.get("title")) +
+                    ",\"target\":{\"type\":" + quote(form.get("targetType")) + ",\"topic\":" + quote(form.get("targetTopic")) + "}}");
+        } else if (path[2].equals("object")) {
+            String objectId = path[3];
+            String action = path.length > 4 ? path[4] : "get";
+            if (action.equals("add") || action.equals("update")) {
+                objects.put(objectId, body);
+            } else if (action.equals("remove")) {
+                objects.remove(objectId);
+            }
+            String payload = objects.get(objectId);
+            respond(exchange, 200, payload == null ? "{}" : objectData(objectId, payload));
+        } else {
+            Map<String, String> list = lists.computeIfAbsent(path[3], listId -> new LinkedHashMap<>());
+            if (path.length > 4) {
+                list.put(path[5], body);
+                respond(exchange, 200, objectData(path[5], body));
+            } else {
+                respond(exchange, 200, list.entrySet().stream()
+                        .map(item -> objectData(item.getKey(), item.getValue()))
+                        .collect(Collectors.joining(",", "[", "]")));
+            }
+        }
+    }
+
+    private static Map<String, String> parseForm(String body) throws IOException {
+        Map<String, String> form = new LinkedHashMap<>();
+        for (String field : body.split("&")) {
+            int separator = field.indexOf('=');
+            form.put(URLDecoder.decode(field.substring(0, separator), "UTF-8"),
+                    URLDecoder.decode(field.substring(separator + 1), "UTF-8"));
+        }
+        return form;
+    }
+
+    private static String objectData(String uid, String payload) {
+        return "{\"uid\":" + quote(uid) + ",\"payload\":" + quote(payload) + "}";
+    }
+
+    private static String quote(String value) {
+        return value == null ? "null" : "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static String read(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    static class Note {
+
+        private String text;
+
+        Note() {
+        }
+
+        Note(String text) {
+            this.text = text;
+        }
+    }
+}
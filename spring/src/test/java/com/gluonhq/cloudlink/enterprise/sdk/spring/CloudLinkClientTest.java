@@ -33,16 +33,26 @@ package com.gluonhq.cloudlink.enterprise.sdk.spring;
 
 import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
 import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotificationTarget;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.CloudLinkProperties;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.HttpClientFactory;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerRequest;
+import okhttp3.OkHttpClient;
 import org.junit.Assert;
 import org.junit.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.core.env.MapPropertySource;
 
+import java.util.Collections;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 public class CloudLinkClientTest {
@@ -79,6 +89,92 @@ public class CloudLinkClientTest {
         }
     }
 
+    @Test
+    public void testProvidedHttpClient() {
+        String identifier = UUID.randomUUID().toString();
+        String serverKey = UUID.randomUUID().toString();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                request.response().setStatusCode(200)
+                        .end("{\"identifier\":\"" + request.getHeader("X-Application") + "\"}");
+            });
+
+            AtomicInteger interceptedRequests = new AtomicInteger();
+            OkHttpClient httpClient = new OkHttpClient.Builder()
+                    .addInterceptor(chain -> {
+                        interceptedRequests.incrementAndGet();
+                        return chain.proceed(chain.request().newBuilder().header("X-Application", identifier).build());
+                    })
+                    .build();
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", serverKey);
+            config.setHttpClient(httpClient);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            PushNotification notification = client.sendPushNotification(buildPushNotification());
+
+            Assert.assertEquals(identifier, notification.getIdentifier());
+            Assert.assertEquals(1, interceptedRequests.get());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultTimeouts() {
+        OkHttpClient httpClient = HttpClientFactory.create(new CloudLinkClientConfig("http://localhost:45010", ""));
+        Assert.assertEquals(10000, httpClient.connectTimeoutMillis());
+        Assert.assertEquals(60000, httpClient.readTimeoutMillis());
+    }
+
+    @Test
+    public void testHttpClientBeanRequiresQualifier() {
+        try (AnnotationConfigApplicationContext context = createContext(HttpClientBeans.class)) {
+            CloudLinkClientConfig config = context.getBean(CloudLinkProperties.class).createConfig();
+            Assert.assertSame(context.getBean("cloudLinkHttpClient"), config.getHttpClient());
+        }
+        try (AnnotationConfigApplicationContext context = createContext(UnqualifiedHttpClientBean.class)) {
+            CloudLinkClientConfig config = context.getBean(CloudLinkProperties.class).createConfig();
+            Assert.assertNull(config.getHttpClient());
+        }
+    }
+
+    private static AnnotationConfigApplicationContext createContext(Class<?> configuration) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(
+                new MapPropertySource("test", Collections.singletonMap("gluon.cloudlink.serverKey", "serverKey")));
+        context.register(PropertySourcesPlaceholderConfigurer.class, CloudLinkProperties.class, configuration);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    static class HttpClientBeans {
+
+        @Bean
+        public OkHttpClient applicationHttpClient() {
+            return new OkHttpClient();
+        }
+
+        @Bean
+        public OkHttpClient cloudLinkHttpClient() {
+            return new OkHttpClient();
+        }
+    }
+
+    @Configuration
+    static class UnqualifiedHttpClientBean {
+
+        @Bean
+        public OkHttpClient applicationHttpClient() {
+            return new OkHttpClient();
+        }
+    }
+
     private PushNotification buildPushNotification() {
         PushNotification pushNotification = new PushNotification();
         pushNotification.setTitle("Title");
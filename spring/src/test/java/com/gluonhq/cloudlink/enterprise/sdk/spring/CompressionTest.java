@@ -0,0 +1,234 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+public class CompressionTest {
+
+    private static final String LARGE_VALUE = String.join("", Collections.nCopies(200, "compressible "));
+    private static final String LIST = "[{\"uid\":\"first\",\"payload\":\"{\\\"v\\\":\\\"first\\\"}\"},"
+            + "{\"uid\":\"second\",\"payload\":\"{\\\"v\\\":\\\"second\\\"}\"}]";
+
+    @Test
+    public void feignTransport() {
+        assertCompression(HttpTransport.FEIGN);
+    }
+
+    @Test
+    public void okHttpTransport() {
+        assertCompression(HttpTransport.OKHTTP);
+    }
+
+    @Test
+    public void jdkHttpClientTransport() {
+        Assume.assumeTrue(isJdkHttpClientSupported());
+        assertCompression(HttpTransport.JDK_HTTP_CLIENT);
+    }
+
+    @Test
+    public void reactiveClient() {
+        HttpServer httpServer = null;
+        try {
+            Map<String, String> received = new ConcurrentHashMap<>();
+            httpServer = startHttpServer(received);
+
+            ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(buildConfig(HttpTransport.OKHTTP));
+            client.addObject("large", LARGE_VALUE).block(Duration.ofSeconds(10));
+            assertTrue(received.get("/3/data/enterprise/object/large/add").startsWith("gzip "));
+            assertTrue(received.get("/3/data/enterprise/object/large/add").contains(LARGE_VALUE));
+            assertEquals(Arrays.asList("first", "second"),
+                    client.getList("sample", String.class).collectList().block(Duration.ofSeconds(10)));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void requestsAreNotCompressedWithoutConfig() {
+        HttpServer httpServer = null;
+        try {
+            Map<String, String> received = new ConcurrentHashMap<>();
+            httpServer = startHttpServer(received);
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setHttpTransport(HttpTransport.OKHTTP);
+            try (CloudLinkClient client = new CloudLinkClient(config)) {
+                client.addObject("large", LARGE_VALUE);
+            }
+            assertTrue(received.get("/3/data/enterprise/object/large/add").startsWith("identity "));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    private void assertCompression(HttpTransport httpTransport) {
+        HttpServer httpServer = null;
+        try {
+            Map<String, String> received = new ConcurrentHashMap<>();
+            httpServer = startHttpServer(received);
+
+            try (CloudLinkClient client = new CloudLinkClient(buildConfig(httpTransport))) {
+                client.addObject("large", LARGE_VALUE);
+                client.updateObject("small", "small");
+                assertEquals(Arrays.asList("first", "second"), client.getList("sample", String.class));
+            }
+
+            String large = received.get("/3/data/enterprise/object/large/add");
+            assertTrue(large, large.startsWith("gzip "));
+            assertTrue(large, large.contains(LARGE_VALUE));
+            String small = received.get("/3/data/enterprise/object/small/update");
+            assertTrue(small, small.startsWith("identity "));
+            assertTrue(small, small.contains("small"));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    private static boolean isJdkHttpClientSupported() {
+        try {
+            Class.forName("java.net.http.HttpClient");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private CloudLinkClientConfig buildConfig(HttpTransport httpTransport) {
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+        config.setHttpTransport(httpTransport);
+        config.setCompressionConfig(new CompressionConfig());
+        return config;
+    }
+
+    /**
+     * Starts a server that records the encoding and the decompressed body of every request by path, and that
+     * answers with a gzip compressed body when the request accepts it.
+     */
+    private HttpServer startHttpServer(Map<String, String> received) {
+        return startHttpServer(request -> request.bodyHandler(body -> {
+            String encoding = request.getHeader("Content-Encoding");
+            String payload = "gzip".equals(encoding) ? gunzip(body.getBytes()) : body.toString(StandardCharsets.UTF_8);
+            received.put(request.path(), (encoding == null ? "identity" : encoding) + " " + payload);
+
+            String response = request.path().contains("/list/") ? LIST
+                    : "{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}";
+            String acceptEncoding = request.getHeader("Accept-Encoding");
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                request.response().setStatusCode(200).putHeader("Content-Encoding", "gzip").end(Buffer.buffer(gzip(response)));
+            } else {
+                request.response().setStatusCode(200).end(response);
+            }
+        }));
+    }
+
+    private static byte[] gzip(String value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String gunzip(byte[] value) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = gzip.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+}
@@ -32,6 +32,7 @@
 package com.gluonhq.cloudlink.enterprise.sdk.spring;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.vertx.core.Handler;
@@ -43,10 +44,21 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 
@@ -142,6 +154,180 @@ public class DataTest {
         }
     }
 
+    @Test
+    public void getObjectWithCache() {
+        AtomicInteger getRequests = new AtomicInteger();
+        AtomicReference<String> storedPayload = new AtomicReference<>();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> request.bodyHandler(body -> {
+                if (request.method() == HttpMethod.GET) {
+                    getRequests.incrementAndGet();
+                } else if (request.path().endsWith("/remove")) {
+                    storedPayload.set(null);
+                } else {
+                    storedPayload.set(body.toString());
+                }
+
+                JsonObject objectData = new JsonObject();
+                if (storedPayload.get() != null) {
+                    objectData.addProperty("uid", "sample");
+                    objectData.addProperty("payload", storedPayload.get());
+                }
+                request.response().setStatusCode(200).end(objectData.toString());
+            }));
+
+            ObjectCacheConfig objectCacheConfig = new ObjectCacheConfig();
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setObjectCacheConfig(objectCacheConfig);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            Sample sample = new Sample();
+            sample.setFoo("bar");
+            sample.setZee(1);
+            client.addObject("sample", sample);
+            assertEquals("bar", client.getObject("sample", Sample.class).getFoo());
+
+            sample.setFoo("baz");
+            client.updateObject("sample", sample);
+            assertEquals("baz", client.getObject("sample", Sample.class).getFoo());
+            assertEquals(0, getRequests.get());
+
+            client.removeObject("sample");
+            assertNull(client.getObject("sample", Sample.class));
+            assertNull(client.getObject("sample", Sample.class));
+            assertEquals(1, getRequests.get());
+
+            ObjectCacheStats stats = client.getObjectCacheStats();
+            assertEquals(3, stats.getHitCount());
+            assertEquals(1, stats.getMissCount());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getObjectInFlightDoesNotOverwriteUpdate() throws Exception {
+        AtomicReference<String> storedPayload = new AtomicReference<>("{\"foo\":\"old\",\"zee\":1}");
+
+        HttpServer httpServer = null;
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            httpServer = startHttpServer(request -> request.bodyHandler(body -> {
+                JsonObject objectData = new JsonObject();
+                objectData.addProperty("uid", "sample");
+                if (request.method() == HttpMethod.GET) {
+                    objectData.addProperty("payload", storedPayload.get());
+                    Vertx.currentContext().owner().setTimer(500, id -> request.response().setStatusCode(200).end(objectData.toString()));
+                } else {
+                    storedPayload.set(body.toString());
+                    objectData.addProperty("payload", body.toString());
+                    request.response().setStatusCode(200).end(objectData.toString());
+                }
+            }));
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setObjectCacheConfig(new ObjectCacheConfig());
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            Future<Sample> inFlight = executorService.submit(() -> client.getObject("sample", Sample.class));
+            Thread.sleep(100);
+
+            Sample sample = new Sample();
+            sample.setFoo("new");
+            client.updateObject("sample", sample);
+
+            assertEquals("new", client.getObject("sample", Sample.class).getFoo());
+            assertEquals("old", inFlight.get(10, TimeUnit.SECONDS).getFoo());
+            assertEquals("new", client.getObject("sample", Sample.class).getFoo());
+        } finally {
+            executorService.shutdown();
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getListAfterAddToListDoesNotJoinRequestInFlight() throws Exception {
+        List<String> storedPayloads = new CopyOnWriteArrayList<>(Collections.singletonList("{\"foo\":\"old\",\"zee\":1}"));
+
+        HttpServer httpServer = null;
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            httpServer = startHttpServer(request -> request.bodyHandler(body -> {
+                if (request.method() == HttpMethod.GET) {
+                    JsonArray list = new JsonArray();
+                    for (String payload : storedPayloads) {
+                        JsonObject objectData = new JsonObject();
+                        objectData.addProperty("payload", payload);
+                        list.add(objectData);
+                    }
+                    Vertx.currentContext().owner().setTimer(500, id -> request.response().setStatusCode(200).end(list.toString()));
+                } else {
+                    storedPayloads.add(body.toString());
+                    JsonObject objectData = new JsonObject();
+                    objectData.addProperty("uid", "new");
+                    objectData.addProperty("payload", body.toString());
+                    request.response().setStatusCode(200).end(objectData.toString());
+                }
+            }));
+
+            CloudLinkClient client = new CloudLinkClient(new CloudLinkClientConfig("http://localhost:45010", ""));
+
+            Future<List<Sample>> inFlight = executorService.submit(() -> client.getList("samples", Sample.class));
+            Thread.sleep(100);
+
+            Sample sample = new Sample();
+            sample.setFoo("new");
+            client.addToList("samples", "new", sample);
+
+            assertEquals(Arrays.asList("old", "new"), client.getList("samples", Sample.class).stream()
+                    .map(Sample::getFoo).collect(Collectors.toList()));
+            assertEquals(1, inFlight.get(10, TimeUnit.SECONDS).size());
+        } finally {
+            executorService.shutdown();
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getObjectCoalescesConcurrentRequests() throws Exception {
+        AtomicInteger getRequests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            httpServer = startHttpServer(request -> {
+                getRequests.incrementAndGet();
+                Vertx.currentContext().owner().setTimer(500, id -> request.response().setStatusCode(200)
+                        .end("{\"uid\":\"sample\",\"payload\":\"{\\\"foo\\\":\\\"bar\\\",\\\"zee\\\":1}\"}"));
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            List<Future<Sample>> samples = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                samples.add(executorService.submit(() -> client.getObject("sample", Sample.class)));
+            }
+            for (Future<Sample> sample : samples) {
+                assertEquals("bar", sample.get(10, TimeUnit.SECONDS).getFoo());
+            }
+            assertEquals(1, getRequests.get());
+        } finally {
+            executorService.shutdown();
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
     @Test
     public void addObject() {
         String identifier = UUID.randomUUID().toString();
@@ -0,0 +1,189 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotificationTarget;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Test;
+
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class MetricsTest {
+
+    @Test
+    public void requestsAreTimedPerOperationAndStatus() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.path().endsWith("/missing")) {
+                    request.response().setStatusCode(404).end();
+                } else if (request.path().contains("/push/")) {
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}");
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            MeterRegistry registry = new SimpleMeterRegistry();
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setMeterRegistry(registry);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            PushNotification notification = new PushNotification();
+            notification.setTitle("Title");
+            notification.setBody("Body");
+            notification.getTarget().setType(PushNotificationTarget.Type.ALL_DEVICES);
+            client.sendPushNotification(notification);
+
+            assertEquals("value", client.getObject("sample", String.class));
+            assertEquals("value", client.getObject("sample", String.class));
+            try {
+                client.addToList("missing", "missing", "value");
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(404, e.getStatus());
+            }
+
+            Timer push = registry.find("cloudlink.client.requests")
+                    .tags("operation", "push", "outcome", "SUCCESS", "status", "200").timer();
+            assertNotNull(push);
+            assertEquals(1, push.count());
+
+            Timer getObject = registry.find("cloudlink.client.requests")
+                    .tags("operation", "getObject", "outcome", "SUCCESS", "status", "200").timer();
+            assertNotNull(getObject);
+            assertEquals(2, getObject.count());
+
+            Timer addToList = registry.find("cloudlink.client.requests")
+                    .tags("operation", "addToList", "outcome", "CLIENT_ERROR", "status", "404").timer();
+            assertNotNull(addToList);
+            assertEquals(1, addToList.count());
+
+            DistributionSummary pushSize = registry.find("cloudlink.client.request.size")
+                    .tags("operation", "push").summary();
+            assertNotNull(pushSize);
+            assertEquals(1, pushSize.count());
+            assertTrue(pushSize.totalAmount() > 0);
+
+            DistributionSummary getObjectSize = registry.find("cloudlink.client.response.size")
+                    .tags("operation", "getObject").summary();
+            assertNotNull(getObjectSize);
+            assertEquals(2, getObjectSize.count());
+
+            assertNotNull(registry.find("cloudlink.client.connections.idle").gauge());
+            assertNotNull(registry.find("cloudlink.client.connections.active").gauge());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void configDoesNotRequireMicrometer() throws Exception {
+        URL[] classpath = Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .map(MetricsTest::toUrl)
+                .toArray(URL[]::new);
+        try (URLClassLoader loader = new URLClassLoader(classpath, ClassLoader.getSystemClassLoader().getParent()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.startsWith("io.micrometer.")) {
+                    throw new ClassNotFoundException(name);
+                }
+                return super.loadClass(name, resolve);
+            }
+        }) {
+            Class<?> configType = loader.loadClass(CloudLinkClientConfig.class.getName());
+            BeanInfo beanInfo = Introspector.getBeanInfo(configType);
+            assertTrue(Arrays.stream(beanInfo.getPropertyDescriptors())
+                    .anyMatch(property -> "meterRegistry".equals(property.getName())));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void meterRegistryMustBeMicrometerRegistry() {
+        new CloudLinkClientConfig("http://localhost:45010", "").setMeterRegistry("registry");
+    }
+
+    private static URL toUrl(String path) {
+        try {
+            return new File(path).toURI().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotificationTarget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class OkHttpTransportTest {
+
+    @Test
+    public void sendPushNotification() {
+        HttpServer httpServer = null;
+        try {
+            Map<String, String> form = new ConcurrentHashMap<>();
+            httpServer = startHttpServer(request -> {
+                request.setExpectMultipart(true);
+                request.endHandler(v -> {
+                    request.formAttributes().forEach(e -> form.put(e.getKey(), e.getValue()));
+                    form.put("authorization", request.getHeader("Authorization"));
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\",\"title\":\"Title\"}");
+                });
+            });
+
+            CloudLinkClient client = new CloudLinkClient(config("secret"));
+
+            PushNotification notification = new PushNotification();
+            notification.setTitle("Title");
+            notification.setBody("Body & more");
+            notification.getTarget().setType(PushNotificationTarget.Type.TOPIC);
+            notification.getTarget().setTopic("news");
+
+            PushNotification response = client.sendPushNotification(notification);
+            assertEquals("identifier", response.getIdentifier());
+            assertEquals("Title", response.getTitle());
+
+            assertEquals("Title", form.get("title"));
+            assertEquals("Body & more", form.get("body"));
+            assertEquals("TOPIC", form.get("targetType"));
+            assertEquals("news", form.get("targetTopic"));
+            assertEquals("Gluon secret", form.get("authorization"));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void sendPushNotificationWithoutCustomIdentifierAndDeviceToken() {
+        HttpServer httpServer = null;
+        try {
+            Map<String, String> form = new ConcurrentHashMap<>();
+            httpServer = startHttpServer(request -> {
+                request.setExpectMultipart(true);
+                request.endHandler(v -> {
+                    request.formAttributes().forEach(e -> form.put(e.getKey(), e.getValue()));
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}");
+                });
+            });
+
+            CloudLinkClient client = new CloudLinkClient(config(""));
+
+            PushNotification notification = new PushNotification();
+            notification.setCustomIdentifier(null);
+            notification.setTitle("Title");
+            notification.setBody("Body");
+            notification.getTarget().setType(PushNotificationTarget.Type.ALL_DEVICES);
+            notification.getTarget().setDeviceToken(null);
+
+            assertEquals("identifier", client.sendPushNotification(notification).getIdentifier());
+
+            assertEquals("Title", form.get("title"));
+            assertEquals("ALL_DEVICES", form.get("targetType"));
+            assertFalse(form.containsKey("customIdentifier"));
+            assertFalse(form.containsKey("targetDeviceToken"));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void objectsAndLists() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.path().endsWith("/object/missing")) {
+                    request.response().setStatusCode(200).end("{}");
+                } else if (request.path().contains("/object/")) {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                } else {
+                    request.response().setStatusCode(200).end("[{\"uid\":\"one\",\"payload\":\"{\\\"v\\\":\\\"first\\\"}\"}," +
+                            "{\"uid\":\"two\",\"payload\":\"{\\\"v\\\":\\\"second\\\"}\"}]");
+                }
+            });
+
+            CloudLinkClient client = new CloudLinkClient(config(""));
+
+            assertEquals("value", client.getObject("sample", String.class));
+            assertNull(client.getObject("missing", String.class));
+            assertEquals("value", client.addObject("sample", "value"));
+            assertEquals("value", client.updateObject("sample", "value"));
+            client.removeObject("sample");
+
+            List<String> list = client.getList("sample", String.class);
+            assertEquals(2, list.size());
+            assertEquals("first", list.get(0));
+            assertEquals("second", list.get(1));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void errorResponsesAreReportedAsCloudLinkClientException() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> request.response()
+                    .setStatusCode(503)
+                    .putHeader("Retry-After", "2")
+                    .end("unavailable"));
+
+            CloudLinkClient client = new CloudLinkClient(config(""));
+
+            try {
+                client.addToList("sample", "sample", "value");
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(503, e.getStatus());
+                assertEquals(2000, e.getRetryAfter());
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void failedRequestsAreRetried() {
+        HttpServer httpServer = null;
+        try {
+            AtomicInteger requests = new AtomicInteger();
+            httpServer = startHttpServer(request -> {
+                if (requests.incrementAndGet() < 3) {
+                    request.connection().close();
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            RetryConfig retryConfig = new RetryConfig();
+            retryConfig.setBaseDelay(10);
+
+            CloudLinkClientConfig config = config("");
+            config.setRetryConfig(retryConfig);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            assertEquals("value", client.getObject("sample", String.class));
+            assertEquals(3, requests.get());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void requestsAreTimedPerOperationAndStatus() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.path().contains("/list/")) {
+                    request.response().setStatusCode(404).end();
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            MeterRegistry registry = new SimpleMeterRegistry();
+            CloudLinkClientConfig config = config("");
+            config.setMeterRegistry(registry);
+            CloudLinkClient client = new CloudLinkClient(config);
+
+            assertEquals("value", client.getObject("sample", String.class));
+            try {
+                client.addToList("missing", "missing", "value");
+                fail("CloudLinkClientException must be thrown.");
+            } catch (CloudLinkClientException e) {
+                assertEquals(404, e.getStatus());
+            }
+
+            Timer getObject = registry.find("cloudlink.client.requests")
+                    .tags("operation", "getObject", "outcome", "SUCCESS", "status", "200").timer();
+            assertNotNull(getObject);
+            assertEquals(1, getObject.count());
+
+            Timer addToList = registry.find("cloudlink.client.requests")
+                    .tags("operation", "addToList", "outcome", "CLIENT_ERROR", "status", "404").timer();
+            assertNotNull(addToList);
+            assertEquals(1, addToList.count());
+
+            assertNotNull(registry.find("cloudlink.client.response.size").tags("operation", "getObject").summary());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    private static CloudLinkClientConfig config(String serverKey) {
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", serverKey);
+        config.setHttpTransport(HttpTransport.OKHTTP);
+        return config;
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+}
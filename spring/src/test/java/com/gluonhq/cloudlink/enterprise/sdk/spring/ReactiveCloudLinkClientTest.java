@@ -0,0 +1,416 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotification;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.domain.PushNotificationTarget;
+import com.gluonhq.impl.cloudlink.enterprise.sdk.spring.PayloadConverter;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class ReactiveCloudLinkClientTest {
+
+    @Test
+    public void getObject() {
+        String identifier = UUID.randomUUID().toString();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.method() == HttpMethod.GET && request.path().endsWith("/object/" + identifier)) {
+                    JsonObject payload = new JsonObject();
+                    payload.addProperty("foo", "bar");
+                    payload.addProperty("zee", 1);
+                    JsonObject object = new JsonObject();
+                    object.addProperty("uid", identifier);
+                    object.addProperty("payload", payload.toString());
+                    request.response().setStatusCode(200).end(object.toString());
+                } else {
+                    request.response().setStatusCode(500).end("Unexpected request: " + request.method() + " " + request.path());
+                }
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setLogLevel(Level.FINE);
+            ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(config);
+
+            DataTest.Sample sample = client.getObject(identifier, DataTest.Sample.class).block(Duration.ofSeconds(10));
+            assertNotNull(sample);
+            assertEquals("bar", sample.getFoo());
+            assertEquals(1, sample.getZee());
+        } catch (CloudLinkClientException e) {
+            fail(e.getBody());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getNonExistingObject() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> request.response().setStatusCode(200).end("{\"payload\":\"{}\"}"));
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(config);
+
+            assertNull(client.getObject(UUID.randomUUID().toString(), DataTest.Sample.class).block(Duration.ofSeconds(10)));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getList() {
+        String identifier = UUID.randomUUID().toString();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (request.method() == HttpMethod.GET && request.path().endsWith("/list/" + identifier)) {
+                    JsonArray list = new JsonArray();
+                    IntStream.of(1, 2, 3).forEach(i -> {
+                        JsonObject payload = new JsonObject();
+                        payload.addProperty("foo", "bar_" + i);
+                        payload.addProperty("zee", i);
+                        JsonObject object = new JsonObject();
+                        object.addProperty("uid", "uid_" + i);
+                        object.addProperty("payload", payload.toString());
+                        list.add(object);
+                    });
+                    request.response().setStatusCode(200).end(list.toString());
+                } else {
+                    request.response().setStatusCode(500).end("Unexpected request: " + request.method() + " " + request.path());
+                }
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setLogLevel(Level.FINE);
+            ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(config);
+
+            List<DataTest.Sample> samples = client.getList(identifier, DataTest.Sample.class)
+                    .collectList().block(Duration.ofSeconds(10));
+            assertNotNull(samples);
+            assertEquals(3, samples.size());
+            IntStream.of(0, 1, 2).forEach(i -> {
+                assertEquals("bar_" + (i + 1), samples.get(i).getFoo());
+                assertEquals(i + 1, samples.get(i).getZee());
+            });
+        } catch (CloudLinkClientException e) {
+            fail(e.getBody());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void getListDecodesOnlyRequestedObjects() throws InterruptedException {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                JsonArray list = new JsonArray();
+                IntStream.rangeClosed(1, 100).forEach(i -> {
+                    JsonObject object = new JsonObject();
+                    object.addProperty("uid", "uid_" + i);
+                    object.addProperty("payload", "{\"foo\":\"bar_" + i + "\",\"zee\":" + i + "}");
+                    list.add(object);
+                });
+                request.response().setStatusCode(200).end(list.toString());
+            });
+
+            AtomicInteger decoded = new AtomicInteger();
+            BlockingQueue<DataTest.Sample> samples = new LinkedBlockingQueue<>();
+            CountDownLatch completed = new CountDownLatch(1);
+            try (ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(new CloudLinkClientConfig("http://localhost:45010", ""))) {
+                BaseSubscriber<DataTest.Sample> subscriber = new BaseSubscriber<DataTest.Sample>() {
+                    @Override
+                    protected void hookOnSubscribe(Subscription subscription) {
+                        request(1);
+                    }
+
+                    @Override
+                    protected void hookOnNext(DataTest.Sample sample) {
+                        samples.add(sample);
+                    }
+
+                    @Override
+                    protected void hookOnComplete() {
+                        completed.countDown();
+                    }
+                };
+                client.getList("samples", objData -> {
+                    decoded.incrementAndGet();
+                    return PayloadConverter.fromJson(objData, DataTest.Sample.class);
+                }).subscribe(subscriber);
+
+                assertEquals("bar_1", samples.poll(10, TimeUnit.SECONDS).getFoo());
+                Thread.sleep(200);
+                assertEquals(1, decoded.get());
+
+                subscriber.request(99);
+                assertTrue(completed.await(10, TimeUnit.SECONDS));
+                assertEquals(100, decoded.get());
+                assertEquals(99, samples.size());
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void sendPushNotification() {
+        HttpServer httpServer = null;
+        try {
+            Map<String, String> form = new ConcurrentHashMap<>();
+            httpServer = startHttpServer(request -> {
+                request.setExpectMultipart(true);
+                request.endHandler(v -> {
+                    request.formAttributes().forEach(e -> form.put(e.getKey(), e.getValue()));
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\",\"title\":\"Title\"}");
+                });
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(config);
+
+            PushNotification notification = new PushNotification();
+            notification.setTitle("Title");
+            notification.setBody("Body");
+            notification.setCustomIdentifier(null);
+            notification.getTarget().setType(PushNotificationTarget.Type.TOPIC);
+            notification.getTarget().setTopic("news");
+            notification.getTarget().setDeviceToken(null);
+
+            PushNotification response = client.sendPushNotification(notification).block(Duration.ofSeconds(10));
+            assertNotNull(response);
+            assertEquals("identifier", response.getIdentifier());
+
+            assertEquals("Title", form.get("title"));
+            assertEquals("TOPIC", form.get("targetType"));
+            assertEquals("news", form.get("targetTopic"));
+            assertFalse(form.containsKey("targetDeviceToken"));
+            assertFalse(form.containsKey("customIdentifier"));
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void errorResponse() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> request.response().setStatusCode(404).end("Not Found"));
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setLogLevel(Level.FINE);
+            ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(config);
+
+            client.removeObject(UUID.randomUUID().toString()).block(Duration.ofSeconds(10));
+            fail("Expected CloudLinkClientException");
+        } catch (CloudLinkClientException e) {
+            assertEquals(404, e.getStatus());
+            assertEquals("Not Found", e.getBody());
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void transientErrorsAreRetried() {
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                if (requests.incrementAndGet() < 3) {
+                    request.response().setStatusCode(503).end();
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            RetryConfig retryConfig = new RetryConfig();
+            retryConfig.setMaxAttempts(3);
+            retryConfig.setBaseDelay(10);
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setRetryConfig(retryConfig);
+            try (ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(config)) {
+                assertEquals("value", client.getObject("sample", String.class).block(Duration.ofSeconds(10)));
+                assertEquals(3, requests.get());
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void circuitBreakerRejectsRequestsWhenOpen() {
+        AtomicInteger requests = new AtomicInteger();
+
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                requests.incrementAndGet();
+                request.response().setStatusCode(503).end();
+            });
+
+            CircuitBreakerConfig circuitBreakerConfig = new CircuitBreakerConfig();
+            circuitBreakerConfig.setSlidingWindowSize(2);
+            circuitBreakerConfig.setMinimumNumberOfCalls(2);
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+            config.setCircuitBreakerConfig(circuitBreakerConfig);
+            try (ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(config)) {
+                for (int i = 0; i < 2; i++) {
+                    try {
+                        client.getList("sample", String.class).collectList().block(Duration.ofSeconds(10));
+                        fail("CloudLinkClientException must be thrown.");
+                    } catch (CloudLinkClientException e) {
+                        assertEquals(503, e.getStatus());
+                    }
+                }
+                assertEquals(CircuitBreakerState.OPEN, client.getCircuitBreakerState(EndpointFamily.LIST));
+
+                try {
+                    client.getList("sample", String.class).collectList().block(Duration.ofSeconds(10));
+                    fail("CloudLinkClientException must be thrown.");
+                } catch (CloudLinkClientException e) {
+                    assertEquals(CloudLinkClientException.CIRCUIT_OPEN, e.getStatus());
+                }
+                assertEquals(2, requests.get());
+                assertEquals(CircuitBreakerState.CLOSED, client.getCircuitBreakerState(EndpointFamily.OBJECT));
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void pushNotificationsAreRateLimited() {
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request ->
+                    request.response().setStatusCode(200).end("{\"identifier\":\"identifier\"}"));
+
+            RateLimiterConfig rateLimiterConfig = new RateLimiterConfig();
+            rateLimiterConfig.setPermitsPerSecond(1);
+            rateLimiterConfig.setBurstSize(1);
+            rateLimiterConfig.setAcquireMode(RateLimiterConfig.AcquireMode.FAIL_FAST);
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "reactive-rate-limiter-test");
+            config.setPushRateLimiterConfig(rateLimiterConfig);
+            try (ReactiveCloudLinkClient client = new ReactiveCloudLinkClient(config)) {
+                PushNotification notification = new PushNotification();
+                notification.setTitle("Title");
+                notification.setBody("Body");
+                notification.getTarget().setType(PushNotificationTarget.Type.ALL_DEVICES);
+
+                assertNotNull(client.sendPushNotification(notification).block(Duration.ofSeconds(10)));
+                try {
+                    client.sendPushNotification(notification).block(Duration.ofSeconds(10));
+                    fail("CloudLinkClientException must be thrown.");
+                } catch (CloudLinkClientException e) {
+                    assertEquals(429, e.getStatus());
+                }
+                assertEquals(1, client.getPushRateLimiterStats().getRejectedCount());
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+}
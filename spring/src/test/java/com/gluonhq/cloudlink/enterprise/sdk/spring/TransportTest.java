@@ -0,0 +1,260 @@
+/*
+ * BSD 3-Clause License
+ *
+ * Copyright (c) 2017, Gluon Software
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * * Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * * Neither the name of the copyright holder nor the names of its
+ *   contributors may be used to endorse or promote products derived from
+ *   this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.gluonhq.cloudlink.enterprise.sdk.spring;
+
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkRequest;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkResponse;
+import com.gluonhq.cloudlink.enterprise.sdk.spring.spi.CloudLinkTransport;
+import feign.RetryableException;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class TransportTest {
+
+    @Test
+    public void configuredTransportSendsBuiltRequests() throws Exception {
+        RecordingTransport transport = new RecordingTransport("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "serverKey");
+        config.setTransport(transport);
+
+        try (CloudLinkClient client = new CloudLinkClient(config)) {
+            assertEquals("value", client.getObject("sample id", String.class));
+            assertEquals("value", client.addToList("list", "sample", "value"));
+        }
+
+        assertEquals(2, transport.requests.size());
+        CloudLinkRequest get = transport.requests.get(0);
+        assertEquals("GET", get.getMethod());
+        assertEquals("http://localhost:45010/3/data/enterprise/object/sample%20id", get.getUri().toString());
+        assertEquals("Gluon serverKey", get.getHeaders().get("Authorization"));
+        assertNull(get.getBody());
+
+        CloudLinkRequest post = transport.requests.get(1);
+        assertEquals("POST", post.getMethod());
+        assertEquals("http://localhost:45010/3/data/enterprise/list/list/add/sample", post.getUri().toString());
+        assertEquals("application/json; charset=UTF-8", post.getBody().getContentType());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        post.getBody().writeTo(body);
+        assertEquals("\"value\"", new String(body.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(body.size(), post.getBody().getContentLength());
+
+        assertFalse("A configured transport must not be closed by the client.", transport.closed);
+    }
+
+    @Test
+    public void transportFailureIsRetried() {
+        RecordingTransport transport = new RecordingTransport(null);
+        RetryConfig retryConfig = new RetryConfig();
+        retryConfig.setBaseDelay(10);
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "serverKey");
+        config.setRetryConfig(retryConfig);
+        config.setTransport(transport);
+
+        try (CloudLinkClient client = new CloudLinkClient(config)) {
+            client.getObject("sample", String.class);
+            fail("RetryableException must be thrown.");
+        } catch (RetryableException e) {
+            assertTrue(e.getCause() instanceof ConnectException);
+        }
+        assertEquals(3, transport.requests.size());
+    }
+
+    @Test
+    public void jdkHttpClientSendsRequests() {
+        Assume.assumeTrue(isJdkHttpClientSupported());
+
+        List<HttpVersion> versions = new CopyOnWriteArrayList<>();
+        List<String> authorizations = new CopyOnWriteArrayList<>();
+        HttpServer httpServer = null;
+        try {
+            httpServer = startHttpServer(request -> {
+                versions.add(request.version());
+                authorizations.add(request.getHeader("Authorization"));
+                if (request.path().contains("/list/")) {
+                    request.response().setStatusCode(503).putHeader("Retry-After", "2").end("unavailable");
+                } else {
+                    request.response().setStatusCode(200).end("{\"uid\":\"sample\",\"payload\":\"{\\\"v\\\":\\\"value\\\"}\"}");
+                }
+            });
+
+            CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "serverKey");
+            config.setHttpTransport(HttpTransport.JDK_HTTP_CLIENT);
+            try (CloudLinkClient client = new CloudLinkClient(config)) {
+                assertEquals("value", client.getObject("sample", String.class));
+                assertEquals("value", client.updateObject("sample", "value"));
+                try {
+                    client.getList("sample", String.class);
+                    fail("CloudLinkClientException must be thrown.");
+                } catch (CloudLinkClientException e) {
+                    assertEquals(503, e.getStatus());
+                    assertEquals(2000, e.getRetryAfter());
+                }
+            }
+
+            // a host without TLS is always addressed with HTTP/1.1
+            assertEquals(3, versions.size());
+            for (HttpVersion version : versions) {
+                assertEquals(HttpVersion.HTTP_1_1, version);
+            }
+            for (String authorization : authorizations) {
+                assertEquals("Gluon serverKey", authorization);
+            }
+        } finally {
+            if (httpServer != null) {
+                httpServer.close();
+            }
+        }
+    }
+
+    @Test
+    public void jdkHttpClientRequiresJava11() {
+        Assume.assumeFalse(isJdkHttpClientSupported());
+
+        CloudLinkClientConfig config = new CloudLinkClientConfig("http://localhost:45010", "");
+        config.setHttpTransport(HttpTransport.JDK_HTTP_CLIENT);
+        try {
+            new CloudLinkClient(config);
+            fail("IllegalStateException must be thrown.");
+        } catch (IllegalStateException e) {
+            assertEquals("HttpTransport.JDK_HTTP_CLIENT requires Java 11 or later, but runs on Java "
+                    + System.getProperty("java.specification.version"), e.getMessage());
+        }
+    }
+
+    private static boolean isJdkHttpClientSupported() {
+        try {
+            Class.forName("java.net.http.HttpClient");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private HttpServer startHttpServer(Handler<HttpServerRequest> requestHandler) {
+        HttpServerResponse httpServerResponse = new HttpServerResponse();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        HttpServer httpServer = Vertx.vertx().createHttpServer();
+        httpServer.requestHandler(requestHandler);
+        httpServer.listen(45010, asyncResult -> {
+            httpServerResponse.httpServer = asyncResult.result();
+            if (asyncResult.failed()) {
+                asyncResult.cause().printStackTrace();
+            }
+            latch.countDown();
+        });
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            return null;
+        }
+
+        return httpServerResponse.httpServer;
+    }
+
+    private static class HttpServerResponse {
+        HttpServer httpServer;
+    }
+
+    private static class RecordingTransport implements CloudLinkTransport {
+
+        final List<CloudLinkRequest> requests = new CopyOnWriteArrayList<>();
+        final String body;
+        volatile boolean closed;
+
+        RecordingTransport(String body) {
+            this.body = body;
+        }
+
+        @Override
+        public CloudLinkResponse execute(CloudLinkRequest request) throws IOException {
+            requests.add(request);
+            if (body == null) {
+                throw new ConnectException("Connection refused");
+            }
+            return new CloudLinkResponse() {
+                @Override
+                public int getStatus() {
+                    return 200;
+                }
+
+                @Override
+                public String getReasonPhrase() {
+                    return "OK";
+                }
+
+                @Override
+                public String getHeader(String name) {
+                    return null;
+                }
+
+                @Override
+                public long getContentLength() {
+                    return body.length();
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}